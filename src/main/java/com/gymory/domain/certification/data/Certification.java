@@ -1,8 +1,11 @@
 package com.gymory.domain.certification.data;
 
 import com.gymory.domain.base.BaseEntity;
+import com.gymory.domain.base.GymoryIdGenerator;
 import com.gymory.domain.user.trainer.data.Trainer;
+import lombok.Builder;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.*;
@@ -15,7 +18,8 @@ public class Certification extends BaseEntity {
 
     @Id
     @Column(name = "CERTIFICATE_ID")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = GymoryIdGenerator.NAME)
+    @GenericGenerator(name = GymoryIdGenerator.NAME, strategy = GymoryIdGenerator.STRATEGY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -23,4 +27,11 @@ public class Certification extends BaseEntity {
     private Trainer trainer;
     private String certificateName;
     private String pictureUrl;
+
+    @Builder
+    private Certification(Trainer trainer, String certificateName, String pictureUrl) {
+        this.trainer = trainer;
+        this.certificateName = certificateName;
+        this.pictureUrl = pictureUrl;
+    }
 }
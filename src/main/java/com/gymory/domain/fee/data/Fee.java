@@ -1,6 +1,7 @@
 package com.gymory.domain.fee.data;
 
 import com.gymory.domain.base.BaseEntity;
+import com.gymory.domain.base.GymoryIdGenerator;
 import com.gymory.domain.fee.dto.FeeCreateDto;
 import com.gymory.domain.fee.dto.FeeUpdateDto;
 import com.gymory.domain.user.trainer.data.Trainer;
@@ -8,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.*;
@@ -23,7 +25,8 @@ public class Fee extends BaseEntity {
 
     @Id
     @Column(name = "FEE_ID")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = GymoryIdGenerator.NAME)
+    @GenericGenerator(name = GymoryIdGenerator.NAME, strategy = GymoryIdGenerator.STRATEGY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
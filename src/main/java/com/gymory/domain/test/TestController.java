@@ -1,8 +1,8 @@
 package com.gymory.domain.test;
 
 import com.gymory.domain.user.userbase.UserRole;
-import com.gymory.global.aop.RefreshTokenAspect;
-import com.gymory.global.aop.ValidateRefreshToken;
+import com.gymory.global.auth.AuthContext;
+import com.gymory.global.auth.ValidateRefreshToken;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -13,8 +13,7 @@ public class TestController {
 
     @ValidateRefreshToken(role = UserRole.MEMBER)
     @GetMapping("/hello")
-    public String hello() {
-        String email = RefreshTokenAspect.getEmail();
-        return "Hello, " + email + "!";
+    public String hello(AuthContext authContext) {
+        return "Hello, " + authContext.getEmail() + "!";
     }
 }
@@ -0,0 +1,71 @@
+package com.gymory.domain.user.gym.controller;
+
+import com.gymory.domain.user.gym.dto.GymCoordinatesDto;
+import com.gymory.domain.user.gym.dto.GymNearbyDto;
+import com.gymory.domain.user.gym.service.GymLocationService;
+import com.gymory.domain.user.userbase.UserRole;
+import com.gymory.domain.user.userbase.dto.UserSummaryDto;
+import com.gymory.domain.user.userbase.service.UserService;
+import com.gymory.global.auth.AuthContext;
+import com.gymory.global.auth.ValidateRefreshToken;
+import com.gymory.global.code.result.ResultCode;
+import com.gymory.global.code.result.ResultResponse;
+import com.gymory.global.pagination.CursorPage;
+import com.gymory.global.pagination.CursorRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/gym")
+public class GymController {
+    private static final double MAX_RADIUS_METERS = 50_000;
+    private static final int MAX_NEARBY_SIZE = 100;
+
+    private final UserService userService;
+    private final GymLocationService gymLocationService;
+
+    @Operation(summary = "체육관 목록", description = "최신 가입 순. 다음 페이지는 응답의 nextCursor 로 요청")
+    @GetMapping
+    public ResponseEntity<ResultResponse> getGyms(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ){
+        CursorPage<UserSummaryDto> result = userService.getUsers(UserRole.GYM, CursorRequest.of(cursor, size));
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.GET_USER_LIST_SUCCESS, result));
+    }
+
+    @Operation(summary = "주변 체육관 검색", description = "좌표에서 반경(m, 최대 50km) 안의 체육관을 가까운 순으로 size 개까지")
+    @GetMapping("/nearby")
+    public ResponseEntity<ResultResponse> getNearbyGyms(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "3000") double radius,
+            @RequestParam(defaultValue = "20") int size
+    ){
+        List<GymNearbyDto> result = gymLocationService.findNearbyGyms(latitude, longitude,
+                Math.min(radius, MAX_RADIUS_METERS), Math.min(Math.max(size, 1), MAX_NEARBY_SIZE));
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.GYM_NEARBY_SEARCH_SUCCESS, result));
+    }
+
+    @Operation(summary = "체육관 좌표 변경", description = "로그인한 체육관의 위경도를 변경")
+    @ValidateRefreshToken(role = UserRole.GYM)
+    @PatchMapping("/coordinates")
+    public ResponseEntity<ResultResponse> changeCoordinates(
+            AuthContext authContext,
+            @RequestBody @Valid GymCoordinatesDto coordinatesDto
+    ){
+        gymLocationService.changeCoordinates(authContext.getUserId(), coordinatesDto);
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.GYM_COORDINATES_CHANGE_SUCCESS, coordinatesDto));
+    }
+}
@@ -1,16 +1,24 @@
 package com.gymory.domain.user.gym.data;
 
 import com.gymory.domain.user.gym.dto.GymCreateDto;
+import com.gymory.domain.user.gym.geo.GymCoordinatesChangedEvent;
 import com.gymory.domain.user.userbase.UserRole;
 import com.gymory.domain.user.userbase.data.UserBase;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 
+import javax.persistence.Column;
 import javax.persistence.DiscriminatorValue;
 import javax.persistence.Embeddable;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
+import javax.persistence.Transient;
+import java.util.Collection;
+import java.util.List;
 
 @Getter
 @Entity
@@ -24,11 +32,22 @@ public class Gym extends UserBase {
     private String etcInfo;    // nearby any stations
     @Embedded
     private UsageInfo usageInfo;
+    // WGS84
+    private Double latitude;
+    private Double longitude;
+    // 좌표를 바꿀 때마다 GymRepository.updateCoordinates 에서 증가한다
+    @Column(name = "COORDINATES_VERSION")
+    private Long coordinatesVersion;
+
+    // 좌표를 가진 체육관을 처음 저장할 때 GymRepository.save 에서 GymCoordinatesChangedEvent 를 발행한다
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private transient boolean coordinatesChanged;
 
 
     @Builder
     private Gym(String username, String email, String password, String location, UserRole role,
-                String phoneNumber, String etcInfo, UsageInfo usageInfo) {
+                String phoneNumber, String etcInfo, UsageInfo usageInfo, Double latitude, Double longitude) {
         this.username = username;
         this.email = email;
         this.password = password;
@@ -37,6 +56,10 @@ public class Gym extends UserBase {
         this.phoneNumber = phoneNumber;
         this.etcInfo = etcInfo;
         this.usageInfo = usageInfo;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.coordinatesVersion = 0L;
+        this.coordinatesChanged = latitude != null && longitude != null;
     }
 
     public static Gym create(GymCreateDto gymDto){
@@ -49,9 +72,21 @@ public class Gym extends UserBase {
                 .phoneNumber(gymDto.getPhoneNumber())
                 .etcInfo(gymDto.getEtcInfo())
                 .usageInfo(UsageInfo.create(gymDto.getUsageInfoDto()))
+                .latitude(gymDto.getLatitude())
+                .longitude(gymDto.getLongitude())
                 .build();
     }
 
+    @DomainEvents
+    Collection<GymCoordinatesChangedEvent> domainEvents(){
+        return coordinatesChanged ? List.of(new GymCoordinatesChangedEvent(id, latitude, longitude, coordinatesVersion)) : List.of();
+    }
+
+    @AfterDomainEventPublication
+    void clearDomainEvents(){
+        coordinatesChanged = false;
+    }
+
     @Embeddable
     @Getter
     @NoArgsConstructor
@@ -0,0 +1,29 @@
+package com.gymory.domain.user.gym.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.NotNull;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "체육관 좌표 변경 DTO")
+public class GymCoordinatesDto {
+    @NotNull
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    @Schema(description = "위도 (WGS84)", example = "37.4979")
+    private Double latitude;
+
+    @NotNull
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    @Schema(description = "경도 (WGS84)", example = "127.0276")
+    private Double longitude;
+}
@@ -5,6 +5,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+
 @Getter
 @Setter
 @ToString
@@ -19,6 +22,16 @@ public class GymCreateDto extends UserCreateDto {
     private String etcInfo;    // nearby any stations
     private GymUsageInfoDto usageInfoDto;
 
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    @Schema(description = "위도 (WGS84)", example = "37.4979")
+    private Double latitude;
+
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    @Schema(description = "경도 (WGS84)", example = "127.0276")
+    private Double longitude;
+
 
     @Getter
     @Setter
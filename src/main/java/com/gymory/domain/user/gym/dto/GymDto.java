@@ -16,6 +16,8 @@ public class GymDto extends UserDto {
     private String phoneNumber;
     private String etcInfo;    // nearby any stations
     private GymUsageInfoDto usageInfoDto;
+    private Double latitude;
+    private Double longitude;
 
 
     @Getter
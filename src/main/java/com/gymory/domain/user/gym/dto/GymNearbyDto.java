@@ -0,0 +1,19 @@
+package com.gymory.domain.user.gym.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GymNearbyDto {
+    private Long id;
+    private String username;
+    private String location;
+    private String phoneNumber;
+    private Double latitude;
+    private Double longitude;
+    private long distanceMeters;
+}
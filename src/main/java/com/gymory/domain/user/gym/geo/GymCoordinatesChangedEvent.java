@@ -0,0 +1,19 @@
+package com.gymory.domain.user.gym.geo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 체육관 좌표 변경. 좌표가 null 이면 위치 검색 대상에서 뺀다.
+ * version 은 좌표와 같은 UPDATE 에서 증가시킨 COORDINATES_VERSION 이므로 commit 순서와 같다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class GymCoordinatesChangedEvent {
+    private final Long gymId;
+    private final Double latitude;
+    private final Double longitude;
+    private final long version;
+}
@@ -0,0 +1,16 @@
+package com.gymory.domain.user.gym.geo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 검색 기준점에서 체육관까지의 대원 거리
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class GymDistance {
+    private final GymLocation location;
+    private final double distanceMeters;
+}
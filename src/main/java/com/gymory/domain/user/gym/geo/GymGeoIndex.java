@@ -0,0 +1,243 @@
+package com.gymory.domain.user.gym.geo;
+
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 체육관 좌표 in-memory 공간 인덱스 (위경도 격자).
+ * 좌표를 cellDegrees 크기의 칸으로 나눠 두고, 검색 원을 덮는 칸만 읽은 뒤 haversine 거리로 거른다.
+ * 덮는 칸이 비어 있지 않은 칸보다 많으면 비어 있지 않은 칸만 읽는다 (넓은 반경, 극지방, 날짜변경선 포함).
+ * 좌표 변경은 해당 체육관의 칸만 옮기며, 조회는 lock 없이 하고 변경은 직렬화한다.
+ * virtual thread 에서도 carrier 를 고정하지 않도록 변경은 synchronized 대신 ReentrantLock 으로 직렬화한다.
+ */
+@Slf4j
+@Component
+public class GymGeoIndex {
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    public static final double MAX_DISTANCE_METERS = Math.PI * EARTH_RADIUS_METERS;
+
+    private final double cellDegrees;
+    private final int rows;
+    private final int columns;
+    // 칸의 남북 길이
+    private final double cellMeters;
+
+    private volatile Grid grid = new Grid();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public GymGeoIndex(@Value("${gym.geo.cell-size-degrees:0.01}") double cellDegrees) {
+        if (!(cellDegrees > 0 && cellDegrees <= 10)) {
+            throw new IllegalArgumentException("gym.geo.cell-size-degrees must be in (0, 10]: " + cellDegrees);
+        }
+        // 날짜변경선에서 칸이 이어지도록 360 을 나눠 떨어지는 크기로 맞춘다
+        this.columns = (int) Math.round(360 / cellDegrees);
+        this.cellDegrees = 360.0 / columns;
+        this.rows = (int) Math.ceil(180 / this.cellDegrees);
+        this.cellMeters = Math.toRadians(this.cellDegrees) * EARTH_RADIUS_METERS;
+    }
+
+    public int size() {
+        return grid.locations.size();
+    }
+
+    // 현재 좌표. 없으면 null
+    public GymLocation get(Long gymId) {
+        return grid.locations.get(gymId);
+    }
+
+    // 전체를 새로 만든 뒤 교체한다. 범위를 벗어난 좌표는 건너뛴다
+    public void rebuild(Collection<GymLocation> locations) {
+        writeLock.lock();
+        try {
+            Grid next = new Grid();
+            for (GymLocation location : locations) {
+                if (isValid(location.getLatitude(), location.getLongitude())) {
+                    next.put(location);
+                } else {
+                    log.warn("Skip gym {} with invalid coordinates ({}, {})",
+                            location.getGymId(), location.getLatitude(), location.getLongitude());
+                }
+            }
+            grid = next;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void put(GymLocation location) {
+        validate(location.getLatitude(), location.getLongitude());
+        writeLock.lock();
+        try {
+            grid.put(location);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(Long gymId) {
+        writeLock.lock();
+        try {
+            grid.remove(gymId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 반경 안의 모든 체육관, 가까운 순
+    public List<GymDistance> withinRadius(double latitude, double longitude, double radiusMeters) {
+        validate(latitude, longitude);
+        validateRadius(radiusMeters);
+        return search(grid, latitude, longitude, Math.min(radiusMeters, MAX_DISTANCE_METERS), Integer.MAX_VALUE);
+    }
+
+    // 가까운 k 개, 가까운 순. 한 칸 반경부터 두 배씩 넓히며 maxDistanceMeters 까지 찾는다
+    public List<GymDistance> nearest(double latitude, double longitude, int k, double maxDistanceMeters) {
+        validate(latitude, longitude);
+        validateRadius(maxDistanceMeters);
+        if (k <= 0) {
+            return List.of();
+        }
+        Grid current = grid;
+        double maxRadius = Math.min(maxDistanceMeters, MAX_DISTANCE_METERS);
+        double radius = Math.min(cellMeters, maxRadius);
+        while (true) {
+            // 반경 안에 k 개 이상 있으면 반경 밖의 체육관은 k 번째보다 멀다
+            List<GymDistance> result = search(current, latitude, longitude, radius, k);
+            if (result.size() >= k || radius >= maxRadius) {
+                return result;
+            }
+            radius = Math.min(radius * 2, maxRadius);
+        }
+    }
+
+    public static double distanceMeters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLatitude = Math.toRadians(latitude2 - latitude1);
+        double dLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private List<GymDistance> search(Grid current, double latitude, double longitude, double radiusMeters, int k) {
+        // 가장 먼 후보가 head
+        PriorityQueue<GymDistance> heap = new PriorityQueue<>(
+                Comparator.comparingDouble(GymDistance::getDistanceMeters).reversed());
+        // 위도 차이만으로도 반경 밖이면 haversine 을 계산하지 않는다
+        double latitudeDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS);
+        scan(current, latitude, longitude, radiusMeters, location -> {
+            if (Math.abs(location.getLatitude() - latitude) > latitudeDelta) {
+                return;
+            }
+            double distance = distanceMeters(latitude, longitude, location.getLatitude(), location.getLongitude());
+            if (distance > radiusMeters) {
+                return;
+            }
+            if (heap.size() < k) {
+                heap.add(new GymDistance(location, distance));
+            } else if (distance < heap.peek().getDistanceMeters()) {
+                heap.poll();
+                heap.add(new GymDistance(location, distance));
+            }
+        });
+        List<GymDistance> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(GymDistance::getDistanceMeters));
+        return result;
+    }
+
+    // 검색 원의 bounding box 가 덮는 칸을 방문한다
+    private void scan(Grid current, double latitude, double longitude, double radiusMeters, Consumer<GymLocation> visitor) {
+        double angularRadius = radiusMeters / EARTH_RADIUS_METERS;
+        double minLatitude = latitude - Math.toDegrees(angularRadius);
+        double maxLatitude = latitude + Math.toDegrees(angularRadius);
+
+        // 극을 포함하면 모든 경도를 본다
+        long startColumn = 0;
+        long endColumn = columns - 1L;
+        if (minLatitude > -90 && maxLatitude < 90) {
+            double longitudeDelta = Math.toDegrees(Math.asin(Math.sin(angularRadius) / Math.cos(Math.toRadians(latitude))));
+            startColumn = (long) Math.floor((longitude - longitudeDelta + 180) / cellDegrees);
+            endColumn = Math.min((long) Math.floor((longitude + longitudeDelta + 180) / cellDegrees), startColumn + columns - 1);
+        }
+        int startRow = row(Math.max(minLatitude, -90));
+        int endRow = row(Math.min(maxLatitude, 90));
+
+        long cellCount = (endRow - startRow + 1L) * (endColumn - startColumn + 1);
+        if (cellCount > current.cells.size()) {
+            current.cells.values().forEach(cell -> cell.values().forEach(visitor));
+            return;
+        }
+        for (int row = startRow; row <= endRow; row++) {
+            for (long column = startColumn; column <= endColumn; column++) {
+                // 날짜변경선을 넘으면 반대편 칸으로 이어진다
+                Map<Long, GymLocation> cell = current.cells.get(key(row, (int) Math.floorMod(column, (long) columns)));
+                if (cell != null) {
+                    cell.values().forEach(visitor);
+                }
+            }
+        }
+    }
+
+    private long cellOf(GymLocation location) {
+        long column = (long) Math.floor((location.getLongitude() + 180) / cellDegrees);
+        return key(row(location.getLatitude()), (int) Math.floorMod(column, (long) columns));
+    }
+
+    private int row(double latitude) {
+        return (int) Math.min(rows - 1, Math.floor((latitude + 90) / cellDegrees));
+    }
+
+    private long key(int row, int column) {
+        return (long) row * columns + column;
+    }
+
+    private static boolean isValid(double latitude, double longitude) {
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+
+    private static void validate(double latitude, double longitude) {
+        if (!isValid(latitude, longitude)) {
+            throw new BusinessException("Invalid coordinates: " + latitude + ", " + longitude, ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private static void validateRadius(double radiusMeters) {
+        if (!(radiusMeters > 0)) {
+            throw new BusinessException("Radius must be positive: " + radiusMeters, ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private final class Grid {
+        private final Map<Long, GymLocation> locations = new ConcurrentHashMap<>();
+        private final Map<Long, Map<Long, GymLocation>> cells = new ConcurrentHashMap<>();
+
+        private void put(GymLocation location) {
+            remove(location.getGymId());
+            locations.put(location.getGymId(), location);
+            cells.computeIfAbsent(cellOf(location), key -> new ConcurrentHashMap<>()).put(location.getGymId(), location);
+        }
+
+        private void remove(Long gymId) {
+            GymLocation previous = locations.remove(gymId);
+            if (previous != null) {
+                cells.computeIfPresent(cellOf(previous), (key, cell) -> {
+                    cell.remove(gymId);
+                    return cell.isEmpty() ? null : cell;
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.gymory.domain.user.gym.geo;
+
+import com.gymory.domain.user.gym.repository.GymRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DB 의 좌표로 GymGeoIndex 를 만들고, 이후에는 좌표 변경 event 로 한 건씩 반영한다.
+ * commit 된 변경은 Redis pub/sub 으로 모든 노드(자기 자신 포함)에 전파한다.
+ * 변경에는 좌표와 같은 UPDATE 에서 증가시킨 COORDINATES_VERSION 이 함께 실리고, 노드는 체육관별로 더 큰 version 만 반영하므로
+ * 메시지가 순서와 다르게 처리되거나 여러 노드에서 동시에 바꿔도 모든 노드가 마지막으로 commit 된 좌표로 맞춰진다.
+ * <p>
+ * 구독은 listener container 가 시작될 때 활성화되므로 적재는 ApplicationReadyEvent 에서 한다.
+ * 적재 중에 수신한 변경은 version 으로 DB 에서 읽은 값과 합친다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GymGeoIndexSynchronizer implements MessageListener {
+
+    public static final String CHANNEL = "gym-coordinates";
+    private static final String SEPARATOR = ":";
+
+    private final GymRepository gymRepository;
+    private final GymGeoIndex gymGeoIndex;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // gymId -> 마지막으로 반영한 version. virtual thread 에서도 carrier 를 고정하지 않도록 ReentrantLock 으로 보호한다
+    private final Map<Long, Long> appliedVersions = new HashMap<>();
+    private final ReentrantLock applyLock = new ReentrantLock();
+
+    @PostConstruct
+    public void init() {
+        // listener 등록만 한다. 실제 구독은 container 가 시작될 때 활성화된다
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        redisMessageListenerContainer.removeMessageListener(this);
+    }
+
+    // container 가 시작된 뒤 적재해야 적재 중 및 이후에 commit 된 변경을 pub/sub 으로 놓치지 않는다.
+    // readiness 는 이 listener 가 끝난 뒤 ACCEPTING_TRAFFIC 으로 바뀐다
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        long start = System.nanoTime();
+        load(gymRepository.findAllVersionedLocations());
+        log.info("Gym geo index loaded: {} gyms in {} ms", gymGeoIndex.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // commit 된 변경만 반영하고 전파한다. 트랜잭션 밖에서 발행되면 바로 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCoordinatesChanged(GymCoordinatesChangedEvent event) {
+        if (event.getGymId() == null) {
+            return;
+        }
+        // 자기 메시지를 받기 전에도 이 노드의 검색에는 바로 보이도록 먼저 반영한다
+        applyIfNewer(event);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, toMessage(event));
+        } catch (RuntimeException e) {
+            // 다른 노드는 재시작 시 DB 에서 다시 적재하며 맞춰진다
+            log.warn("Failed to publish gym coordinates change, gymId = {}", event.getGymId(), e);
+        }
+    }
+
+    // 다른 노드(및 이 노드)에서 발행한 변경 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        GymCoordinatesChangedEvent event = fromMessage(body);
+        if (event == null) {
+            log.warn("Invalid gym coordinates message = {}", body);
+            return;
+        }
+        applyIfNewer(event);
+    }
+
+    // DB 에서 읽은 뒤 더 최신 변경을 이미 반영한 체육관은 현재 값을 유지한다
+    private void load(List<VersionedGymLocation> rows) {
+        applyLock.lock();
+        try {
+            List<GymLocation> locations = new ArrayList<>(rows.size());
+            for (VersionedGymLocation row : rows) {
+                Long applied = appliedVersions.get(row.getGymId());
+                if (applied != null && applied > row.getVersion()) {
+                    GymLocation current = gymGeoIndex.get(row.getGymId());
+                    if (current != null) {
+                        locations.add(current);
+                    }
+                    continue;
+                }
+                appliedVersions.put(row.getGymId(), row.getVersion());
+                if (row.hasCoordinates()) {
+                    locations.add(row.toLocation());
+                }
+            }
+            gymGeoIndex.rebuild(locations);
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    private void applyIfNewer(GymCoordinatesChangedEvent event) {
+        applyLock.lock();
+        try {
+            Long applied = appliedVersions.get(event.getGymId());
+            if (applied != null && applied >= event.getVersion()) {
+                return;
+            }
+            appliedVersions.put(event.getGymId(), event.getVersion());
+            if (event.getLatitude() == null || event.getLongitude() == null) {
+                gymGeoIndex.remove(event.getGymId());
+            } else {
+                gymGeoIndex.put(new GymLocation(event.getGymId(), event.getLatitude(), event.getLongitude()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply gym coordinates change = {}", event, e);
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    // version:gymId:latitude:longitude (좌표를 지우면 version:gymId::)
+    private static String toMessage(GymCoordinatesChangedEvent event) {
+        boolean removed = event.getLatitude() == null || event.getLongitude() == null;
+        return event.getVersion() + SEPARATOR + event.getGymId()
+                + SEPARATOR + (removed ? "" : event.getLatitude())
+                + SEPARATOR + (removed ? "" : event.getLongitude());
+    }
+
+    private static GymCoordinatesChangedEvent fromMessage(String body) {
+        String[] parts = body.split(SEPARATOR, -1);
+        if (parts.length != 4) {
+            return null;
+        }
+        try {
+            long version = Long.parseLong(parts[0]);
+            Long gymId = Long.parseLong(parts[1]);
+            if (parts[2].isEmpty() || parts[3].isEmpty()) {
+                return new GymCoordinatesChangedEvent(gymId, null, null, version);
+            }
+            return new GymCoordinatesChangedEvent(gymId, Double.parseDouble(parts[2]), Double.parseDouble(parts[3]), version);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.gymory.domain.user.gym.geo;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class GymLocation {
+    private final Long gymId;
+    private final double latitude;
+    private final double longitude;
+
+    // JPQL constructor expression 에서 Gym 의 Double 컬럼으로 생성한다
+    public GymLocation(Long gymId, Double latitude, Double longitude) {
+        this.gymId = gymId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+}
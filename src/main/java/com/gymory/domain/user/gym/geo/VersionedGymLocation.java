@@ -0,0 +1,32 @@
+package com.gymory.domain.user.gym.geo;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 체육관 좌표와 COORDINATES_VERSION. 좌표가 없으면 latitude / longitude 는 null 이다.
+ */
+@Getter
+@ToString
+public class VersionedGymLocation {
+    private final Long gymId;
+    private final Double latitude;
+    private final Double longitude;
+    private final long version;
+
+    // JPQL constructor expression 에서 Gym 의 컬럼으로 생성한다
+    public VersionedGymLocation(Long gymId, Double latitude, Double longitude, Long version) {
+        this.gymId = gymId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.version = version == null ? 0 : version;
+    }
+
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
+
+    public GymLocation toLocation() {
+        return new GymLocation(gymId, latitude, longitude);
+    }
+}
@@ -1,7 +1,30 @@
 package com.gymory.domain.user.gym.repository;
 
 import com.gymory.domain.user.gym.data.Gym;
+import com.gymory.domain.user.gym.geo.VersionedGymLocation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface GymRepository extends JpaRepository<Gym, Long> {
+
+    // 좌표가 없는 체육관도 포함한다 (좌표를 지운 version 도 알아야 하므로)
+    @Query("select new com.gymory.domain.user.gym.geo.VersionedGymLocation(g.id, g.latitude, g.longitude, g.coordinatesVersion) "
+            + "from Gym g")
+    List<VersionedGymLocation> findAllVersionedLocations();
+
+    // 좌표와 version 을 한 UPDATE 로 바꾼다. row lock 때문에 동시에 바꿔도 version 은 commit 순서대로 커진다
+    // bulk update 는 auditing 을 거치지 않으므로 updatedAt 도 직접 바꾼다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Gym g set g.latitude = :latitude, g.longitude = :longitude, "
+            + "g.coordinatesVersion = coalesce(g.coordinatesVersion, 0) + 1, g.updatedAt = :now where g.id = :gymId")
+    int updateCoordinates(@Param("gymId") Long gymId, @Param("latitude") Double latitude,
+                          @Param("longitude") Double longitude, @Param("now") LocalDateTime now);
+
+    @Query("select g.coordinatesVersion from Gym g where g.id = :gymId")
+    Long findCoordinatesVersion(@Param("gymId") Long gymId);
 }
@@ -0,0 +1,75 @@
+package com.gymory.domain.user.gym.service;
+
+import com.gymory.domain.user.gym.data.Gym;
+import com.gymory.domain.user.gym.dto.GymCoordinatesDto;
+import com.gymory.domain.user.gym.dto.GymNearbyDto;
+import com.gymory.domain.user.gym.geo.GymCoordinatesChangedEvent;
+import com.gymory.domain.user.gym.geo.GymDistance;
+import com.gymory.domain.user.gym.geo.GymGeoIndex;
+import com.gymory.domain.user.gym.repository.GymRepository;
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GymLocationService {
+    private final GymRepository gymRepository;
+    private final GymGeoIndex gymGeoIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 변경 event 는 commit 이후 GymGeoIndexSynchronizer 가 전파한다
+    @Transactional
+    public void changeCoordinates(Long gymId, GymCoordinatesDto coordinatesDto){
+        Double latitude = coordinatesDto.getLatitude();
+        Double longitude = coordinatesDto.getLongitude();
+        if (gymRepository.updateCoordinates(gymId, latitude, longitude, LocalDateTime.now()) == 0) {
+            throw new BusinessException(ErrorCode.USER_NOT_EXIST);
+        }
+        Long version = gymRepository.findCoordinatesVersion(gymId);
+        eventPublisher.publishEvent(new GymCoordinatesChangedEvent(gymId, latitude, longitude, version));
+    }
+
+    // 후보는 GymGeoIndex 에서 찾고, 상세 정보는 IN 쿼리 한 번으로 채운다
+    @Transactional(readOnly = true)
+    public List<GymNearbyDto> findNearbyGyms(double latitude, double longitude, double radiusMeters, int size){
+        List<GymDistance> distances = gymGeoIndex.nearest(latitude, longitude, size, radiusMeters);
+        if (distances.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Gym> gyms = gymRepository.findAllById(distances.stream()
+                        .map(distance -> distance.getLocation().getGymId())
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Gym::getId, Function.identity()));
+
+        // 가까운 순서를 유지하고, 그 사이 삭제된 체육관은 뺀다
+        return distances.stream()
+                .filter(distance -> gyms.containsKey(distance.getLocation().getGymId()))
+                .map(distance -> toNearbyDto(gyms.get(distance.getLocation().getGymId()), distance))
+                .collect(Collectors.toList());
+    }
+
+    private GymNearbyDto toNearbyDto(Gym gym, GymDistance distance){
+        return GymNearbyDto.builder()
+                .id(gym.getId())
+                .username(gym.getUsername())
+                .location(gym.getLocation())
+                .phoneNumber(gym.getPhoneNumber())
+                .latitude(distance.getLocation().getLatitude())
+                .longitude(distance.getLocation().getLongitude())
+                .distanceMeters(Math.round(distance.getDistanceMeters()))
+                .build();
+    }
+}
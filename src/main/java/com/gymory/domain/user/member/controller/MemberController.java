@@ -2,13 +2,22 @@ package com.gymory.domain.user.member.controller;
 
 import com.gymory.domain.user.member.dto.MemberCreateDto;
 import com.gymory.domain.user.member.service.MemberService;
+import com.gymory.domain.user.userbase.UserRole;
 import com.gymory.domain.user.userbase.dto.UserCreateDto;
+import com.gymory.domain.user.userbase.dto.UserSummaryDto;
+import com.gymory.domain.user.userbase.service.UserService;
+import com.gymory.global.code.result.ResultCode;
 import com.gymory.global.code.result.ResultResponse;
+import com.gymory.global.pagination.CursorPage;
+import com.gymory.global.pagination.CursorRequest;
+import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
@@ -17,5 +26,15 @@ import javax.validation.Valid;
 @RequiredArgsConstructor
 @RequestMapping("/member")
 public class MemberController {
+    private final UserService userService;
 
+    @Operation(summary = "회원 목록", description = "최신 가입 순. 다음 페이지는 응답의 nextCursor 로 요청")
+    @GetMapping
+    public ResponseEntity<ResultResponse> getMembers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ){
+        CursorPage<UserSummaryDto> result = userService.getUsers(UserRole.MEMBER, CursorRequest.of(cursor, size));
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.GET_USER_LIST_SUCCESS, result));
+    }
 }
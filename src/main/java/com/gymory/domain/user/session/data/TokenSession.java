@@ -0,0 +1,53 @@
+package com.gymory.domain.user.session.data;
+
+import com.gymory.domain.base.BaseEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 세션 (기기별 1 row).
+ * 토큰 원문은 저장하지 않고 SHA-256 fingerprint 와 만료 시각만 보관한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(TokenSession.TokenSessionId.class)
+@Table(name = "TOKEN_SESSION", indexes = @Index(name = "IDX_TOKEN_SESSION_EXPIRES_AT", columnList = "EXPIRES_AT"))
+@EntityListeners(AuditingEntityListener.class)
+public class TokenSession extends BaseEntity {
+
+    @Id
+    @Column(name = "USER_ID")
+    private Long userId;
+
+    // access/refresh token 의 jti
+    @Id
+    @Column(name = "TOKEN_ID", length = 36)
+    private String tokenId;
+
+    @Column(name = "ACCESS_FINGERPRINT", length = 43, nullable = false)
+    private String accessFingerprint;
+
+    @Column(name = "REFRESH_FINGERPRINT", length = 43, nullable = false)
+    private String refreshFingerprint;
+
+    @Column(name = "EXPIRES_AT", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class TokenSessionId implements Serializable {
+        private Long userId;
+        private String tokenId;
+    }
+}
@@ -0,0 +1,25 @@
+package com.gymory.domain.user.session.repository;
+
+import com.gymory.domain.user.session.data.TokenSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface TokenSessionRepository extends JpaRepository<TokenSession, TokenSession.TokenSessionId> {
+
+    List<TokenSession> findByUserId(Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from TokenSession s where s.userId = :userId and s.tokenId = :tokenId")
+    int deleteSession(@Param("userId") Long userId, @Param("tokenId") String tokenId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from TokenSession s where s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
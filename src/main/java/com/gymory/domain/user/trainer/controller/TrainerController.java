@@ -0,0 +1,54 @@
+package com.gymory.domain.user.trainer.controller;
+
+import com.gymory.domain.user.trainer.dto.TrainerSearchCondition;
+import com.gymory.domain.user.trainer.dto.TrainerSearchDto;
+import com.gymory.domain.user.trainer.service.TrainerService;
+import com.gymory.domain.user.userbase.UserRole;
+import com.gymory.domain.user.userbase.dto.UserSummaryDto;
+import com.gymory.domain.user.userbase.service.UserService;
+import com.gymory.global.code.result.ResultCode;
+import com.gymory.global.code.result.ResultResponse;
+import com.gymory.global.pagination.CursorPage;
+import com.gymory.global.pagination.CursorRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/trainer")
+public class TrainerController {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TrainerService trainerService;
+    private final UserService userService;
+
+    @Operation(summary = "트레이너 목록", description = "최신 가입 순. 다음 페이지는 응답의 nextCursor 로 요청")
+    @GetMapping
+    public ResponseEntity<ResultResponse> getTrainers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ){
+        CursorPage<UserSummaryDto> result = userService.getUsers(UserRole.TRAINER, CursorRequest.of(cursor, size));
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.GET_USER_LIST_SUCCESS, result));
+    }
+
+    @Operation(summary = "트레이너 검색", description = "수강료 가격 범위, 주당 횟수, 자격증 이름으로 검색")
+    @GetMapping("/search")
+    public ResponseEntity<ResultResponse> searchTrainers(
+            @ModelAttribute TrainerSearchCondition condition,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ){
+        Page<TrainerSearchDto> result = trainerService.searchTrainers(condition,
+                PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+        return ResponseEntity.ok(ResultResponse.of(ResultCode.TRAINER_SEARCH_SUCCESS, result));
+    }
+}
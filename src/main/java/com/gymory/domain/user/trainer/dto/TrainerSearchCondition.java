@@ -0,0 +1,19 @@
+package com.gymory.domain.user.trainer.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TrainerSearchCondition {
+    // 조건을 모두 만족하는 수강료(fee)가 하나라도 있는 트레이너
+    private Long minPrice;
+    private Long maxPrice;
+    private Integer frequency;
+
+    // 자격증 이름 부분 일치
+    private String certificationName;
+}
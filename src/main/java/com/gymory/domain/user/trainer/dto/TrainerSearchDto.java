@@ -0,0 +1,48 @@
+package com.gymory.domain.user.trainer.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class TrainerSearchDto {
+    private Long id;
+    private String username;
+    private String shortIntroduction;
+    private List<FeeInfo> fees = new ArrayList<>();
+    private List<CertificationInfo> certifications = new ArrayList<>();
+
+    // QueryDSL projection
+    public TrainerSearchDto(Long id, String username, String shortIntroduction) {
+        this.id = id;
+        this.username = username;
+        this.shortIntroduction = shortIntroduction;
+    }
+
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class FeeInfo {
+        @JsonIgnore
+        private Long trainerId;
+        private Long feeId;
+        private Long price;
+        private Integer frequency;
+    }
+
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class CertificationInfo {
+        @JsonIgnore
+        private Long trainerId;
+        private Long certificationId;
+        private String certificateName;
+        private String pictureUrl;
+    }
+}
@@ -0,0 +1,11 @@
+package com.gymory.domain.user.trainer.repository;
+
+import com.gymory.domain.user.trainer.dto.TrainerSearchCondition;
+import com.gymory.domain.user.trainer.dto.TrainerSearchDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface TrainerRepositoryCustom {
+
+    Page<TrainerSearchDto> search(TrainerSearchCondition condition, Pageable pageable);
+}
@@ -0,0 +1,106 @@
+package com.gymory.domain.user.trainer.repository;
+
+import com.gymory.domain.user.trainer.dto.TrainerSearchCondition;
+import com.gymory.domain.user.trainer.dto.TrainerSearchDto;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.gymory.domain.certification.data.QCertification.certification;
+import static com.gymory.domain.fee.data.QFee.fee;
+import static com.gymory.domain.user.trainer.data.QTrainer.trainer;
+
+/**
+ * 트레이너 검색.
+ * 1) 조건에 맞는 트레이너를 id 기준으로 페이징 (컬렉션 조건은 exists 로 처리해 중복 row 가 없다)
+ * 2) 페이지의 id 로 fees, certifications 를 한 번씩 조회
+ * 페이지 크기와 관계없이 최대 4 개 쿼리 (목록, count, fees, certifications) 로 끝난다.
+ * 두 List 컬렉션을 한 쿼리에서 fetch join 하면 곱집합이 되므로 컬렉션마다 IN 쿼리로 나눈다.
+ */
+@RequiredArgsConstructor
+public class TrainerRepositoryImpl implements TrainerRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Page<TrainerSearchDto> search(TrainerSearchCondition condition, Pageable pageable) {
+        Predicate predicate = searchPredicate(condition);
+        List<TrainerSearchDto> trainers = queryFactory
+                .select(Projections.constructor(TrainerSearchDto.class, trainer.id, trainer.username, trainer.shortIntroduction))
+                .from(trainer)
+                .where(predicate)
+                // ID 가 생성 시각 순이므로 최신 순
+                .orderBy(trainer.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        if (!trainers.isEmpty()) {
+            fetchCollections(trainers);
+        }
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(trainer.count())
+                .from(trainer)
+                .where(predicate);
+        // 첫 페이지가 다 차지 않았거나 마지막 페이지면 count 쿼리를 생략한다
+        return PageableExecutionUtils.getPage(trainers, pageable, countQuery::fetchOne);
+    }
+
+    private void fetchCollections(List<TrainerSearchDto> trainers) {
+        Map<Long, TrainerSearchDto> byId = trainers.stream()
+                .collect(Collectors.toMap(TrainerSearchDto::getId, Function.identity()));
+
+        queryFactory
+                .select(Projections.constructor(TrainerSearchDto.FeeInfo.class,
+                        fee.trainer.id, fee.id, fee.price, fee.frequency))
+                .from(fee)
+                .where(fee.trainer.id.in(byId.keySet()))
+                .orderBy(fee.price.asc(), fee.id.asc())
+                .fetch()
+                .forEach(feeInfo -> byId.get(feeInfo.getTrainerId()).getFees().add(feeInfo));
+
+        queryFactory
+                .select(Projections.constructor(TrainerSearchDto.CertificationInfo.class,
+                        certification.trainer.id, certification.id, certification.certificateName, certification.pictureUrl))
+                .from(certification)
+                .where(certification.trainer.id.in(byId.keySet()))
+                .orderBy(certification.id.asc())
+                .fetch()
+                .forEach(certificationInfo -> byId.get(certificationInfo.getTrainerId()).getCertifications().add(certificationInfo));
+    }
+
+    private Predicate searchPredicate(TrainerSearchCondition condition) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (condition.getMinPrice() != null || condition.getMaxPrice() != null || condition.getFrequency() != null) {
+            builder.and(JPAExpressions.selectOne()
+                    .from(fee)
+                    .where(fee.trainer.id.eq(trainer.id),
+                            condition.getMinPrice() != null ? fee.price.goe(condition.getMinPrice()) : null,
+                            condition.getMaxPrice() != null ? fee.price.loe(condition.getMaxPrice()) : null,
+                            condition.getFrequency() != null ? fee.frequency.eq(condition.getFrequency()) : null)
+                    .exists());
+        }
+        if (StringUtils.hasText(condition.getCertificationName())) {
+            builder.and(JPAExpressions.selectOne()
+                    .from(certification)
+                    .where(certification.trainer.id.eq(trainer.id),
+                            certification.certificateName.contains(condition.getCertificationName().trim()))
+                    .exists());
+        }
+        return builder;
+    }
+}
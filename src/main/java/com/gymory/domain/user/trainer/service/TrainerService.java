@@ -3,10 +3,14 @@ package com.gymory.domain.user.trainer.service;
 import com.gymory.domain.user.trainer.data.Trainer;
 import com.gymory.domain.user.trainer.dto.TrainerCreateDto;
 import com.gymory.domain.user.trainer.dto.TrainerDto;
+import com.gymory.domain.user.trainer.dto.TrainerSearchCondition;
+import com.gymory.domain.user.trainer.dto.TrainerSearchDto;
 import com.gymory.domain.user.trainer.repository.TrainerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,4 +29,9 @@ public class TrainerService {
         TrainerDto result = modelMapper.map(savedTrainer, TrainerDto.class);
         return result;
     }
+
+    @Transactional(readOnly = true)
+    public Page<TrainerSearchDto> searchTrainers(TrainerSearchCondition condition, Pageable pageable){
+        return trainerRepository.search(condition, pageable);
+    }
 }
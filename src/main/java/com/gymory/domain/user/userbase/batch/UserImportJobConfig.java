@@ -0,0 +1,204 @@
+package com.gymory.domain.user.userbase.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gymory.domain.base.GymoryIdGenerator;
+import com.gymory.global.code.error.exception.BusinessException;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.listener.JobExecutionListenerSupport;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.LineMapper;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
+import org.springframework.batch.item.file.mapping.DefaultLineMapper;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import javax.validation.Validator;
+
+/**
+ * 사용자 일괄 가입 job.
+ *
+ * <pre>
+ * java -jar gymory.jar --spring.batch.job.enabled=true --spring.batch.job.names=userImportJob input=/data/users.csv [format=csv|ndjson]
+ * </pre>
+ * <ul>
+ *     <li>CSV 는 첫 줄이 header (username,email,password,role,...) 이고, NDJSON 은 한 줄에 UserImportRecord JSON 하나</li>
+ *     <li>입력을 한 번 읽어 email hash 별 partition 파일로 나누고 (UserImportPartitioner), partition 마다 스레드 하나에서
+ *     자기 파일만 읽어 검증 / 해시 / batch insert 한다</li>
+ *     <li>같은 input 으로 다시 실행하면 실패한 partition 만 마지막 commit 이후부터 재시작한다 (완료된 input 은 재실행 불가)</li>
+ *     <li>결과는 UserImportReportListener 가 job ExecutionContext 와 로그에 남긴다</li>
+ * </ul>
+ */
+@Configuration
+@EnableBatchProcessing
+public class UserImportJobConfig {
+
+    public static final String JOB_NAME = "userImportJob";
+    public static final String MANAGER_STEP_NAME = "userImportStep";
+    public static final String WORKER_STEP_NAME = "userImportWorkerStep";
+    public static final String INPUT_PARAMETER = "input";
+    public static final String FORMAT_PARAMETER = "format";
+
+    private final JobBuilderFactory jobBuilderFactory;
+    private final StepBuilderFactory stepBuilderFactory;
+
+    // 0 이하이면 CPU 코어 수
+    @Value("${batch.user-import.partitions:0}")
+    private int partitions;
+
+    @Value("${batch.user-import.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${batch.user-import.skip-limit:1000}")
+    private int skipLimit;
+
+    public UserImportJobConfig(JobBuilderFactory jobBuilderFactory, StepBuilderFactory stepBuilderFactory) {
+        this.jobBuilderFactory = jobBuilderFactory;
+        this.stepBuilderFactory = stepBuilderFactory;
+    }
+
+    @Bean
+    public Job userImportJob(Step userImportStep) {
+        return jobBuilderFactory.get(JOB_NAME)
+                .validator(new DefaultJobParametersValidator(new String[]{INPUT_PARAMETER}, new String[]{FORMAT_PARAMETER}))
+                .listener(userImportReportListener())
+                .listener(userImportCleanupListener())
+                .start(userImportStep)
+                .build();
+    }
+
+    @Bean
+    public Step userImportStep(Step userImportWorkerStep, UserImportPartitioner userImportPartitioner) {
+        int gridSize = partitions > 0 ? partitions : Runtime.getRuntime().availableProcessors();
+        return stepBuilderFactory.get(MANAGER_STEP_NAME)
+                .partitioner(WORKER_STEP_NAME, userImportPartitioner)
+                .step(userImportWorkerStep)
+                .gridSize(gridSize)
+                .taskExecutor(userImportTaskExecutor(gridSize))
+                .build();
+    }
+
+    @Bean
+    public Step userImportWorkerStep(FlatFileItemReader<UserImportRecord> userImportReader,
+                                     UserImportProcessor userImportProcessor, UserImportWriter userImportWriter) {
+        return stepBuilderFactory.get(WORKER_STEP_NAME)
+                .<UserImportRecord, UserImportRecord>chunk(chunkSize)
+                .reader(userImportReader)
+                .processor(userImportProcessor)
+                .writer(userImportWriter)
+                .faultTolerant()
+                .skip(BusinessException.class)
+                .skip(FlatFileParseException.class)
+                .skipLimit(skipLimit)
+                // chunk 재처리 시 비밀번호를 다시 해시하지 않는다
+                .processorNonTransactional()
+                .listener(userImportReportListener())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public UserImportPartitioner userImportPartitioner(@Value("#{jobParameters['input']}") String input,
+                                                       @Value("#{jobParameters['format']}") String format,
+                                                       ObjectMapper objectMapper) {
+        return new UserImportPartitioner(input, isNdjson(input, format), objectMapper);
+    }
+
+    // partition 파일 한 줄 = [원본 줄 번호]\t[원본 줄]
+    @Bean
+    @StepScope
+    public FlatFileItemReader<UserImportRecord> userImportReader(@Value("#{jobParameters['input']}") String input,
+                                                                 @Value("#{jobParameters['format']}") String format,
+                                                                 @Value("#{stepExecutionContext['partitionFile']}") String partitionFile,
+                                                                 @Value("#{stepExecutionContext['header']}") String header,
+                                                                 ObjectMapper objectMapper) {
+        FlatFileItemReaderBuilder<UserImportRecord> builder = new FlatFileItemReaderBuilder<UserImportRecord>()
+                .name("userImportReader")
+                .resource(new FileSystemResource(partitionFile))
+                .encoding("UTF-8");
+
+        if (isNdjson(input, format)) {
+            return builder.lineMapper(withLineNumber((line, lineNumber) -> objectMapper.readValue(line, UserImportRecord.class)))
+                    .build();
+        }
+
+        BeanWrapperFieldSetMapper<UserImportRecord> fieldSetMapper = new BeanWrapperFieldSetMapper<>();
+        fieldSetMapper.setTargetType(UserImportRecord.class);
+        // 모르는 column 은 무시
+        fieldSetMapper.setStrict(false);
+        DefaultLineMapper<UserImportRecord> lineMapper = new DefaultLineMapper<>();
+        lineMapper.setLineTokenizer(header == null ? new DelimitedLineTokenizer() : UserImportPartitioner.tokenizer(header));
+        lineMapper.setFieldSetMapper(fieldSetMapper);
+        return builder.lineMapper(withLineNumber(lineMapper)).build();
+    }
+
+    @Bean
+    public UserImportProcessor userImportProcessor(PasswordEncoder passwordEncoder, Validator validator) {
+        return new UserImportProcessor(passwordEncoder, validator);
+    }
+
+    @Bean
+    @StepScope
+    public UserImportWriter userImportWriter(DataSource dataSource,
+                                             @Value("${spring.jpa.properties.gymory.id.node-id:}") String nodeId) {
+        return new UserImportWriter(new NamedParameterJdbcTemplate(dataSource),
+                new GymoryIdGenerator(GymoryIdGenerator.resolveNodeId(nodeId)));
+    }
+
+    @Bean
+    public UserImportReportListener userImportReportListener() {
+        return new UserImportReportListener();
+    }
+
+    // 완료된 job 의 partition 파일 삭제 (실패한 job 은 재시작을 위해 남긴다)
+    @Bean
+    public JobExecutionListener userImportCleanupListener() {
+        return new JobExecutionListenerSupport() {
+            @Override
+            public void afterJob(JobExecution jobExecution) {
+                if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+                    UserImportPartitioner.deletePartitionFiles(jobExecution.getJobParameters().getString(INPUT_PARAMETER));
+                }
+            }
+        };
+    }
+
+    private static boolean isNdjson(String input, String format) {
+        return format != null ? "ndjson".equalsIgnoreCase(format) : input.endsWith(".ndjson") || input.endsWith(".jsonl");
+    }
+
+    private TaskExecutor userImportTaskExecutor(int gridSize) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("user-import-");
+        taskExecutor.setConcurrencyLimit(gridSize);
+        return taskExecutor;
+    }
+
+    // 원본 줄 번호를 떼어 낸 뒤 변환한다
+    private static LineMapper<UserImportRecord> withLineNumber(LineMapper<UserImportRecord> lineMapper) {
+        return (line, partitionLineNumber) -> {
+            int separatorIndex = line.indexOf(UserImportPartitioner.LINE_NUMBER_SEPARATOR);
+            int lineNumber = Integer.parseInt(line.substring(0, separatorIndex));
+            UserImportRecord record = lineMapper.mapLine(line.substring(separatorIndex + 1), lineNumber);
+            record.setLineNumber(lineNumber);
+            return record;
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package com.gymory.domain.user.userbase.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 입력을 한 번 읽어 email hash 별 partition 파일로 나눈다.
+ * 같은 email 은 항상 같은 partition 에 들어가므로 partition 끼리 같은 email 을 동시에 insert 하지 않고,
+ * 각 줄은 한 partition 에서만 읽고 변환한다 (email 을 읽을 수 없는 줄은 0 번 partition 에서 한 번만 skip 된다).
+ *
+ * <pre>
+ * {input}.partitions/partition{i}   한 줄 = [원본 줄 번호]\t[원본 줄]
+ * </pre>
+ * 같은 input 이면 항상 같은 파일로 나뉘므로 재시작한 partition 은 이전에 읽은 위치부터 이어서 읽는다.
+ * partition 파일은 job 이 완료된 뒤 deletePartitionFiles 로 지운다.
+ */
+@Slf4j
+public class UserImportPartitioner implements Partitioner {
+
+    public static final String PARTITION_FILE_KEY = "partitionFile";
+    public static final String HEADER_KEY = "header";
+    static final char LINE_NUMBER_SEPARATOR = '\t';
+
+    private final String input;
+    private final boolean ndjson;
+    private final ObjectMapper objectMapper;
+
+    public UserImportPartitioner(String input, boolean ndjson, ObjectMapper objectMapper) {
+        this.input = input;
+        this.ndjson = ndjson;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Path directory = partitionDirectory(input);
+        BufferedWriter[] writers = new BufferedWriter[gridSize];
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(input), StandardCharsets.UTF_8)) {
+            Files.createDirectories(directory);
+            String header = ndjson ? null : reader.readLine();
+            DelimitedLineTokenizer tokenizer = header == null ? null : tokenizer(header);
+            for (int i = 0; i < gridSize; i++) {
+                Path file = directory.resolve("partition" + i);
+                writers[i] = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                ExecutionContext context = new ExecutionContext();
+                context.putString(PARTITION_FILE_KEY, file.toString());
+                if (header != null) {
+                    context.putString(HEADER_KEY, header);
+                }
+                partitions.put("partition" + i, context);
+            }
+
+            int lineNumber = header == null ? 0 : 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                BufferedWriter writer = writers[partitionOf(emailOf(line, tokenizer), gridSize)];
+                writer.write(lineNumber + String.valueOf(LINE_NUMBER_SEPARATOR) + line);
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to split user import input: " + input, e);
+        } finally {
+            closeQuietly(writers);
+        }
+        return partitions;
+    }
+
+    // email 이 없거나 읽을 수 없는 줄은 0 번 partition
+    public static int partitionOf(String email, int partitionCount) {
+        return email == null ? 0 : Math.floorMod(normalizeEmail(email).hashCode(), partitionCount);
+    }
+
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static DelimitedLineTokenizer tokenizer(String header) {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+        tokenizer.setNames(Stream.of(header.split(",")).map(String::trim).toArray(String[]::new));
+        return tokenizer;
+    }
+
+    static Path partitionDirectory(String input) {
+        return Paths.get(input + ".partitions");
+    }
+
+    private String emailOf(String line, DelimitedLineTokenizer tokenizer) {
+        try {
+            if (tokenizer == null) {
+                JsonNode email = objectMapper.readTree(line).get("email");
+                return email == null || !email.isTextual() ? null : email.asText();
+            }
+            return tokenizer.tokenize(line).readString("email");
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    public static void deletePartitionFiles(String input) {
+        Path directory = partitionDirectory(input);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            log.warn("Failed to delete user import partition files: {}", directory, e);
+        }
+    }
+
+    private static void closeQuietly(BufferedWriter[] writers) {
+        for (BufferedWriter writer : writers) {
+            if (writer == null) {
+                continue;
+            }
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Failed to close user import partition file", e);
+            }
+        }
+    }
+}
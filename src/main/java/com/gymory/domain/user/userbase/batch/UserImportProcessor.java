@@ -0,0 +1,50 @@
+package com.gymory.domain.user.userbase.batch;
+
+import com.gymory.domain.user.userbase.UserRole;
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.exception.BusinessException;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 검증 후 비밀번호를 해시한다.
+ * partition 은 UserImportPartitioner 가 email hash 로 미리 나눠 두므로 모든 항목이 이 partition 의 항목이다.
+ * 검증에 실패한 항목은 BusinessException 으로 skip 한다.
+ */
+public class UserImportProcessor implements ItemProcessor<UserImportRecord, UserImportRecord> {
+
+    private static final Set<UserRole> IMPORTABLE_ROLES = EnumSet.of(UserRole.MEMBER, UserRole.TRAINER, UserRole.GYM);
+
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+
+    public UserImportProcessor(PasswordEncoder passwordEncoder, Validator validator) {
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+    }
+
+    @Override
+    public UserImportRecord process(UserImportRecord record) {
+        record.setEmail(UserImportPartitioner.normalizeEmail(record.getEmail()));
+
+        Set<ConstraintViolation<UserImportRecord>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            throw new BusinessException("Invalid user record at line " + record.getLineNumber() + ": " + violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .collect(Collectors.joining(", ")), ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (!IMPORTABLE_ROLES.contains(record.getRole())) {
+            throw new BusinessException("Invalid user role at line " + record.getLineNumber() + ": " + record.getRole(),
+                    ErrorCode.USER_ROLE_INVALID);
+        }
+
+        record.setPassword(passwordEncoder.encode(record.getPassword()));
+        return record;
+    }
+}
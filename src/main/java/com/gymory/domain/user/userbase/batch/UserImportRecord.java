@@ -0,0 +1,37 @@
+package com.gymory.domain.user.userbase.batch;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.gymory.domain.user.userbase.dto.UserCreateDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 일괄 가입 입력 한 건 (CSV 한 줄 또는 NDJSON 한 줄).
+ * UserCreateDto 항목에 역할별 항목을 평탄하게 더한 형태이며, 해당 역할에 없는 항목은 무시한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserImportRecord extends UserCreateDto {
+    // TRAINER
+    private String shortIntroduction;
+    private String longIntroduction;
+
+    // GYM
+    private String location;
+    private String phoneNumber;
+    private String etcInfo;
+    private Boolean parking;
+    private Boolean wear;
+    private Boolean locker;
+
+    // MEMBER
+    private String exampleColumn;
+
+    // 입력 파일의 줄 번호 (리포트용)
+    @JsonIgnore
+    private int lineNumber;
+}
@@ -0,0 +1,77 @@
+package com.gymory.domain.user.userbase.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * skip 된 입력을 기록하고, job 종료 시 partition 결과를 합쳐 job ExecutionContext 에 리포트를 남긴다.
+ * <pre>
+ * imported / duplicates / skipped / duplicateEmails
+ * </pre>
+ */
+@Slf4j
+public class UserImportReportListener implements JobExecutionListener, SkipListener<UserImportRecord, UserImportRecord> {
+
+    public static final String IMPORTED_KEY = "imported";
+    public static final String DUPLICATES_KEY = "duplicates";
+    public static final String SKIPPED_KEY = "skipped";
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterJob(JobExecution jobExecution) {
+        long imported = 0;
+        long duplicates = 0;
+        long skipped = 0;
+        List<String> duplicateEmails = new ArrayList<>();
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            if (!stepExecution.getStepName().startsWith(UserImportJobConfig.WORKER_STEP_NAME)) {
+                continue;
+            }
+            ExecutionContext context = stepExecution.getExecutionContext();
+            imported += stepExecution.getWriteCount();
+            skipped += stepExecution.getSkipCount();
+            duplicates += context.getLong(UserImportWriter.DUPLICATE_COUNT_KEY, 0);
+            List<String> emails = (List<String>) context.get(UserImportWriter.DUPLICATE_EMAILS_KEY);
+            if (emails != null && duplicateEmails.size() < UserImportWriter.MAX_REPORTED_DUPLICATES) {
+                duplicateEmails.addAll(emails.subList(0,
+                        Math.min(emails.size(), UserImportWriter.MAX_REPORTED_DUPLICATES - duplicateEmails.size())));
+            }
+        }
+        // writeCount 에는 중복으로 insert 하지 않은 항목도 포함된다
+        imported -= duplicates;
+
+        ExecutionContext jobContext = jobExecution.getExecutionContext();
+        jobContext.putLong(IMPORTED_KEY, imported);
+        jobContext.putLong(DUPLICATES_KEY, duplicates);
+        jobContext.putLong(SKIPPED_KEY, skipped);
+        jobContext.put(UserImportWriter.DUPLICATE_EMAILS_KEY, duplicateEmails);
+        log.info("User import {}: imported={}, duplicates={}, skipped={}",
+                jobExecution.getStatus(), imported, duplicates, skipped);
+    }
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        log.warn("User import record skipped while reading: {}", t.getMessage());
+    }
+
+    @Override
+    public void onSkipInProcess(UserImportRecord item, Throwable t) {
+        log.warn("User import record skipped: line={}, reason={}", item.getLineNumber(), t.getMessage());
+    }
+
+    @Override
+    public void onSkipInWrite(UserImportRecord item, Throwable t) {
+        log.warn("User import record skipped while writing: line={}, reason={}", item.getLineNumber(), t.getMessage());
+    }
+}
@@ -0,0 +1,112 @@
+package com.gymory.domain.user.userbase.batch;
+
+import com.gymory.domain.base.GymoryIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * USER 테이블에 JDBC batch insert.
+ * 이미 가입된 email 과 chunk 안의 중복 email 은 insert 하지 않고 step ExecutionContext 에 기록한다.
+ * partition 은 UserImportPartitioner 가 email hash 로 나누므로 다른 partition 과 같은 email 을 동시에 insert 하지 않는다.
+ */
+@Slf4j
+public class UserImportWriter implements ItemWriter<UserImportRecord> {
+
+    public static final String DUPLICATE_COUNT_KEY = "duplicateCount";
+    public static final String DUPLICATE_EMAILS_KEY = "duplicateEmails";
+    // ExecutionContext 크기를 제한하기 위해 email 은 이 수까지만 기록한다
+    static final int MAX_REPORTED_DUPLICATES = 1_000;
+
+    private static final String EXISTING_EMAILS_SQL = "SELECT EMAIL FROM USER WHERE EMAIL IN (:emails)";
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO USER (USER_ID, ROLE, USERNAME, EMAIL, PASSWORD, SHORT_INTRODUCTION, LONG_INTRODUCTION, "
+                    + "LOCATION, PHONE_NUMBER, ETC_INFO, PARKING, WEAR, LOCKER, EXAMPLE_COLUMN, CREATED_AT, UPDATED_AT) "
+                    + "VALUES (:id, :role, :username, :email, :password, :shortIntroduction, :longIntroduction, "
+                    + ":location, :phoneNumber, :etcInfo, :parking, :wear, :locker, :exampleColumn, :now, :now)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final GymoryIdGenerator idGenerator;
+    private ExecutionContext executionContext;
+
+    public UserImportWriter(NamedParameterJdbcTemplate jdbcTemplate, GymoryIdGenerator idGenerator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idGenerator = idGenerator;
+    }
+
+    @BeforeStep
+    public void beforeStep(StepExecution stepExecution) {
+        executionContext = stepExecution.getExecutionContext();
+    }
+
+    @Override
+    public void write(List<? extends UserImportRecord> items) {
+        Map<String, UserImportRecord> unique = new LinkedHashMap<>();
+        List<UserImportRecord> duplicates = new ArrayList<>();
+        for (UserImportRecord item : items) {
+            if (unique.putIfAbsent(item.getEmail(), item) != null) {
+                duplicates.add(item);
+            }
+        }
+        if (!unique.isEmpty()) {
+            Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(EXISTING_EMAILS_SQL,
+                    Map.of("emails", unique.keySet()), String.class));
+            unique.values().removeIf(item -> existing.contains(item.getEmail()) && duplicates.add(item));
+        }
+        reportDuplicates(duplicates);
+        if (unique.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        MapSqlParameterSource[] batch = unique.values().stream()
+                .map(item -> new MapSqlParameterSource()
+                        .addValue("id", idGenerator.nextId())
+                        .addValue("role", item.getRole().name())
+                        .addValue("username", item.getUsername())
+                        .addValue("email", item.getEmail())
+                        .addValue("password", item.getPassword())
+                        .addValue("shortIntroduction", item.getShortIntroduction())
+                        .addValue("longIntroduction", item.getLongIntroduction())
+                        .addValue("location", item.getLocation())
+                        .addValue("phoneNumber", item.getPhoneNumber())
+                        .addValue("etcInfo", item.getEtcInfo())
+                        .addValue("parking", item.getParking())
+                        .addValue("wear", item.getWear())
+                        .addValue("locker", item.getLocker())
+                        .addValue("exampleColumn", item.getExampleColumn())
+                        .addValue("now", now))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, batch);
+    }
+
+    // ExecutionContext 는 chunk commit 과 함께 저장되므로 재시작해도 누적값이 유지된다
+    @SuppressWarnings("unchecked")
+    private void reportDuplicates(List<UserImportRecord> duplicates) {
+        if (duplicates.isEmpty() || executionContext == null) {
+            return;
+        }
+        executionContext.putLong(DUPLICATE_COUNT_KEY, executionContext.getLong(DUPLICATE_COUNT_KEY, 0) + duplicates.size());
+        List<String> emails = (List<String>) executionContext.get(DUPLICATE_EMAILS_KEY);
+        emails = emails == null ? new ArrayList<>() : new ArrayList<>(emails);
+        for (UserImportRecord duplicate : duplicates) {
+            log.info("Duplicate email skipped: line={}, email={}", duplicate.getLineNumber(), duplicate.getEmail());
+            if (emails.size() < MAX_REPORTED_DUPLICATES) {
+                emails.add(duplicate.getEmail());
+            }
+        }
+        executionContext.put(DUPLICATE_EMAILS_KEY, emails);
+    }
+}
@@ -11,6 +11,7 @@ import com.gymory.domain.user.userbase.UserRole;
 import com.gymory.domain.user.userbase.dto.TokenDto;
 import com.gymory.domain.user.userbase.dto.UserCreateDto;
 import com.gymory.domain.user.userbase.dto.UserDto;
+import com.gymory.domain.user.userbase.service.TokenReissueService;
 import com.gymory.domain.user.userbase.service.UserDtoConverter;
 import com.gymory.domain.user.userbase.service.UserService;
 import com.gymory.domain.user.member.service.MemberService;
@@ -18,15 +19,19 @@ import com.gymory.domain.user.trainer.service.TrainerService;
 import com.gymory.global.code.error.ErrorCode;
 import com.gymory.global.code.error.exception.BusinessException;
 import com.gymory.global.code.result.ResultCode;
+import com.gymory.global.security.PasswordHashingService;
+import com.gymory.global.security.jwt.JwtTokenProvider;
 import io.swagger.v3.oas.annotations.Operation;
 import com.gymory.global.code.result.ResultResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 
@@ -41,14 +46,16 @@ public class AuthController {
     private final MemberService memberService;
     private final GymService gymService;
 
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final UserDtoConverter userDtoConverter;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenReissueService tokenReissueService;
 
     @PostMapping("/sign-up")
     public ResponseEntity<ResultResponse> signIn(
             @RequestBody @Valid UserCreateDto userCreateDto
     ){
-        userCreateDto.setPassword(passwordEncoder.encode(userCreateDto.getPassword()));
+        userCreateDto.setPassword(passwordHashingService.encode(userCreateDto.getPassword()));
 
         ResultResponse result = userService.registerUser(userCreateDto);
         return new ResponseEntity<>(result, HttpStatus.valueOf(result.getStatus()));
@@ -59,8 +66,6 @@ public class AuthController {
     public ResponseEntity<ResultResponse> loginCallback(
             @RequestParam @NotBlank String accessToken, @RequestParam @NotBlank String refreshToken
     ){
-        log.info("accessToken = {} refreshToken={}", accessToken, refreshToken);
-
         TokenDto tokenDto = TokenDto.builder()
                 .accessToken(accessToken)
                 .refreshToken(refreshToken)
@@ -69,4 +74,45 @@ public class AuthController {
         ResultResponse result = ResultResponse.of(ResultCode.LOGIN_SUCCESS, tokenDto);
         return new ResponseEntity<>(result, HttpStatus.valueOf(result.getStatus()));
     }
+
+    @Operation(summary = "토큰 재발급", description = "Refresh Token 으로 Access Token 및 Refresh Token 재발급")
+    @PostMapping("/reissue")
+    public ResponseEntity<ResultResponse> reissue(HttpServletRequest request, HttpServletResponse response){
+        String refreshToken = jwtTokenProvider.resolveRefreshToken(request);
+        if (!StringUtils.hasText(refreshToken)) {
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+        TokenDto tokenDto = tokenReissueService.reissue(refreshToken);
+        jwtTokenProvider.accessTokenSetHeader(tokenDto.getAccessToken(), response);
+        jwtTokenProvider.refresshTokenSetHeader(tokenDto.getRefreshToken(), response);
+
+        ResultResponse result = ResultResponse.of(ResultCode.REISSUE_SUCCESS, tokenDto);
+        return new ResponseEntity<>(result, HttpStatus.valueOf(result.getStatus()));
+    }
+
+    @Operation(summary = "로그아웃", description = "Access Token 폐기 및 Refresh Token 삭제")
+    @PostMapping("/logout")
+    public ResponseEntity<ResultResponse> logout(HttpServletRequest request){
+        String accessToken = jwtTokenProvider.resolveAccessToken(request);
+        if (!StringUtils.hasText(accessToken)) {
+            throw new BusinessException(ErrorCode.NO_ACCESS_TOKEN);
+        }
+        userService.logout(accessToken);
+
+        ResultResponse result = ResultResponse.of(ResultCode.LOGOUT_SUCCESS, null);
+        return new ResponseEntity<>(result, HttpStatus.valueOf(result.getStatus()));
+    }
+
+    @Operation(summary = "모든 기기에서 로그아웃", description = "사용자의 모든 세션의 Access Token 폐기 및 Refresh Token 삭제")
+    @PostMapping("/logout-all")
+    public ResponseEntity<ResultResponse> logoutAll(HttpServletRequest request){
+        String accessToken = jwtTokenProvider.resolveAccessToken(request);
+        if (!StringUtils.hasText(accessToken)) {
+            throw new BusinessException(ErrorCode.NO_ACCESS_TOKEN);
+        }
+        userService.logoutAll(accessToken);
+
+        ResultResponse result = ResultResponse.of(ResultCode.LOGOUT_SUCCESS, null);
+        return new ResponseEntity<>(result, HttpStatus.valueOf(result.getStatus()));
+    }
 }
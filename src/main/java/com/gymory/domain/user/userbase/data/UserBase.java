@@ -1,10 +1,12 @@
 package com.gymory.domain.user.userbase.data;
 
 import com.gymory.domain.base.BaseEntity;
+import com.gymory.domain.base.GymoryIdGenerator;
 import com.gymory.domain.user.userbase.UserRole;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.*;
@@ -14,14 +16,19 @@ import javax.persistence.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
-@Table(name = "USER")
+// 목록 keyset 페이지네이션 (ROLE 별 / 전체) 용 인덱스. columnList 는 logical name 으로 적는다
+@Table(name = "USER", indexes = {
+        @Index(name = "IDX_USER_ROLE_CREATED_AT_ID", columnList = "ROLE, createdAt DESC, USER_ID DESC"),
+        @Index(name = "IDX_USER_CREATED_AT_ID", columnList = "createdAt DESC, USER_ID DESC")
+})
 @EntityListeners(AuditingEntityListener.class)
 @DiscriminatorColumn(name = "role", discriminatorType = DiscriminatorType.STRING)
 public abstract class UserBase extends BaseEntity {
 
     @Id
     @Column(name = "USER_ID")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = GymoryIdGenerator.NAME)
+    @GenericGenerator(name = GymoryIdGenerator.NAME, strategy = GymoryIdGenerator.STRATEGY)
     protected Long id;
 
     @Column(name = "USERNAME")
@@ -37,14 +44,7 @@ public abstract class UserBase extends BaseEntity {
     @Enumerated(value = EnumType.STRING)
     protected UserRole role;
 
-    @Column(name = "ACCESS_TOKEN", length = 2000)
-    protected String accessToken;
-
-    @Column(name = "REFRESH_TOKEN", length = 2000)
-    protected String refreshToken;
-
-    public void setTokens(String accessToken, String refreshToken){
-        this.accessToken = accessToken;
-        this.refreshToken = refreshToken;
+    public void changePassword(String encodedPassword){
+        this.password = encodedPassword;
     }
 }
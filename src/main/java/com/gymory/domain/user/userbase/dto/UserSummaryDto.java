@@ -0,0 +1,21 @@
+package com.gymory.domain.user.userbase.dto;
+
+import com.gymory.domain.user.userbase.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 목록 항목. email, password 는 노출하지 않는다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserSummaryDto {
+    private Long id;
+    private String username;
+    private UserRole role;
+    private LocalDateTime createdAt;
+}
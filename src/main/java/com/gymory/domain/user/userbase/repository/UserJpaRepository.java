@@ -5,7 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
-public interface UserJpaRepository extends JpaRepository<UserBase, Long> {
+public interface UserJpaRepository extends JpaRepository<UserBase, Long>, UserJpaRepositoryCustom {
 
     Optional<UserBase> findByEmail(String email);
 }
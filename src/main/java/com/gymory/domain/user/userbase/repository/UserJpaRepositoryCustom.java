@@ -0,0 +1,12 @@
+package com.gymory.domain.user.userbase.repository;
+
+import com.gymory.domain.user.userbase.UserRole;
+import com.gymory.domain.user.userbase.dto.UserSummaryDto;
+import com.gymory.global.pagination.CursorPage;
+import com.gymory.global.pagination.CursorRequest;
+
+public interface UserJpaRepositoryCustom {
+
+    // role 이 null 이면 전체 사용자. 최신 가입 순
+    CursorPage<UserSummaryDto> findSummaries(UserRole role, CursorRequest request);
+}
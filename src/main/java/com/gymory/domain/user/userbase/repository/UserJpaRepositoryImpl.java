@@ -0,0 +1,34 @@
+package com.gymory.domain.user.userbase.repository;
+
+import com.gymory.domain.user.userbase.UserRole;
+import com.gymory.domain.user.userbase.dto.UserSummaryDto;
+import com.gymory.global.pagination.Cursor;
+import com.gymory.global.pagination.CursorPage;
+import com.gymory.global.pagination.CursorRequest;
+import com.gymory.global.pagination.KeysetPagination;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import static com.gymory.domain.user.userbase.data.QUserBase.userBase;
+
+/**
+ * 사용자 목록. IDX_USER_ROLE_CREATED_AT_ID / IDX_USER_CREATED_AT_ID 를 타는 keyset 페이지네이션이다.
+ */
+@RequiredArgsConstructor
+public class UserJpaRepositoryImpl implements UserJpaRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public CursorPage<UserSummaryDto> findSummaries(UserRole role, CursorRequest request) {
+        return KeysetPagination.fetch(
+                queryFactory
+                        .select(Projections.constructor(UserSummaryDto.class,
+                                userBase.id, userBase.username, userBase.role, userBase.createdAt))
+                        .from(userBase)
+                        .where(role != null ? userBase.role.eq(role) : null),
+                userBase.createdAt, userBase.id, request,
+                user -> new Cursor(user.getCreatedAt(), user.getId()));
+    }
+}
@@ -0,0 +1,131 @@
+package com.gymory.domain.user.userbase.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gymory.domain.user.userbase.dto.TokenDto;
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.exception.BusinessException;
+import com.gymory.global.redis.RefreshTokenStore;
+import com.gymory.global.redis.RefreshTokenStore.RotateResult;
+import com.gymory.global.security.AES128Service;
+import com.gymory.global.security.CustomUserDetails;
+import com.gymory.global.security.jwt.JwtTokenProvider;
+import com.gymory.global.security.jwt.TokenDigests;
+import com.gymory.global.security.jwt.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh Token 으로 토큰 쌍을 재발급한다.
+ * 같은 Refresh Token 으로 동시에 들어온 요청은 하나의 서명 결과를 공유하고(single-flight),
+ * RefreshTokenStore 에서 저장된 토큰과 비교 후 원자적으로 교체해 이미 사용된 토큰은 DB 조회 없이 거절한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenReissueService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AES128Service aes128Service;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenWriteBehindService tokenWriteBehindService;
+    private final RefreshTokenStore refreshTokenStore;
+
+    // 재발급 결과를 공유하는 시간. 응답을 받기 직전에 같은 토큰으로 재시도한 요청도 같은 결과를 받는다.
+    @Value("${token.reissue.grace-millis:3000}")
+    private long graceMillis;
+
+    // key = userId:jti:refresh token fingerprint
+    private Cache<String, CompletableFuture<TokenDto>> reissued;
+
+    @PostConstruct
+    public void init() {
+        reissued = Caffeine.newBuilder()
+                .expireAfterWrite(graceMillis, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public TokenDto reissue(String encryptedRefreshToken) {
+        String refreshToken = aes128Service.decryptAes(encryptedRefreshToken);
+        Claims claims = parseRefreshToken(refreshToken);
+        Long userId = jwtTokenProvider.getUserId(claims);
+        if (claims.getId() == null || userId == null || tokenRevocationService.isRevoked(claims.getId())) {
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+
+        String key = RefreshTokenStore.sessionId(userId, claims.getId()) + ":" + TokenDigests.sha256(refreshToken);
+        CompletableFuture<TokenDto> created = new CompletableFuture<>();
+        CompletableFuture<TokenDto> existing = reissued.asMap().putIfAbsent(key, created);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            TokenDto tokenDto = rotate(refreshToken, claims);
+            created.complete(tokenDto);
+            return tokenDto;
+        } catch (RuntimeException e) {
+            reissued.invalidate(key);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private TokenDto rotate(String refreshToken, Claims claims) {
+        Long userId = jwtTokenProvider.getUserId(claims);
+        String email = claims.getSubject();
+        String tokenId = claims.getId();
+        String role = claims.get("userRole", String.class);
+        CustomUserDetails userDetails = CustomUserDetails.of(userId, email, null, role);
+        com.gymory.global.security.jwt.TokenDto issued = jwtTokenProvider.generateTokenDto(userDetails, tokenId);
+
+        long ttl = jwtTokenProvider.getRefreshTokenExpirationMillis();
+        String sessionId = RefreshTokenStore.sessionId(userId, tokenId);
+        RotateResult result = refreshTokenStore.rotate(sessionId, refreshToken, issued.getRefreshToken(), role, ttl);
+        // 로그인 직후라 write-behind 가 아직 Redis 에 반영하지 않은 경우
+        if (result == RotateResult.NOT_FOUND && tokenWriteBehindService.isPending(userId, tokenId)) {
+            tokenWriteBehindService.flush();
+            result = refreshTokenStore.rotate(sessionId, refreshToken, issued.getRefreshToken(), role, ttl);
+        }
+        if (result != RotateResult.ROTATED) {
+            throw new BusinessException("Stale or unknown refresh token", ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+
+        // TOKEN_SESSION fingerprint 갱신은 비동기로 반영
+        tokenWriteBehindService.enqueue(userId, email, role, tokenId,
+                issued.getAccessToken(), issued.getRefreshToken(), ttl);
+
+        return TokenDto.builder()
+                .accessToken(issued.getAccessToken())
+                .refreshToken(aes128Service.encryptAes(issued.getRefreshToken()))
+                .build();
+    }
+
+    private Claims parseRefreshToken(String refreshToken) {
+        try {
+            return jwtTokenProvider.parseClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+    }
+
+    private TokenDto await(CompletableFuture<TokenDto> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
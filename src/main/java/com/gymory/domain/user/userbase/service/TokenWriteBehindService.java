@@ -0,0 +1,240 @@
+package com.gymory.domain.user.userbase.service;
+
+import com.gymory.global.redis.RefreshTokenStore;
+import com.gymory.global.security.jwt.TokenDigests;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로그인 시 발급한 토큰을 비동기로 저장 (write-behind).
+ * 세션(사용자 + jti)별로 마지막 값만 남겨(coalesce) 주기적으로 TOKEN_SESSION 에 JDBC batch 로,
+ * Refresh Token 은 RefreshTokenStore 에 pipeline 으로 반영한다.
+ * 정상 종료 시에는 남은 값을 모두 반영하고, 비정상 종료 시 유실은 최대 flush 주기 동안의 로그인으로 제한된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenWriteBehindService {
+
+    private static final String UPDATE_SESSION_SQL =
+            "UPDATE TOKEN_SESSION SET ACCESS_FINGERPRINT = ?, REFRESH_FINGERPRINT = ?, EXPIRES_AT = ?, UPDATED_AT = ? "
+                    + "WHERE USER_ID = ? AND TOKEN_ID = ?";
+    private static final String INSERT_SESSION_SQL =
+            "INSERT INTO TOKEN_SESSION (USER_ID, TOKEN_ID, ACCESS_FINGERPRINT, REFRESH_FINGERPRINT, EXPIRES_AT, CREATED_AT, UPDATED_AT) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_EXPIRED_SESSION_SQL =
+            "DELETE FROM TOKEN_SESSION WHERE EXPIRES_AT < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RefreshTokenStore refreshTokenStore;
+
+    @Value("${token.write-behind.flush-interval-millis:200}")
+    private long flushIntervalMillis;
+
+    // 미반영 건수가 이 값을 넘으면 호출 스레드가 직접 flush (back-pressure)
+    @Value("${token.write-behind.max-pending:10000}")
+    private int maxPending;
+
+    @Value("${token.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${token.session.purge-interval-millis:3600000}")
+    private long sessionPurgeIntervalMillis;
+
+    // key = userId:tokenId
+    private final Map<String, PendingTokens> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    public void init() {
+        flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("token-write-behind-"));
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        flusher.scheduleWithFixedDelay(this::purgeExpiredSessionsQuietly,
+                sessionPurgeIntervalMillis, sessionPurgeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+    }
+
+    public void enqueue(Long userId, String email, String role, String tokenId,
+                        String accessToken, String refreshToken, long refreshTokenTtlMillis) {
+        // 같은 세션의 이전 미반영 값은 덮어쓴다
+        PendingTokens tokens = new PendingTokens(userId, email, role, tokenId, accessToken, refreshToken,
+                refreshTokenTtlMillis, System.currentTimeMillis() + refreshTokenTtlMillis);
+        pending.put(tokens.getKey(), tokens);
+        // 다른 스레드가 flush 중이면 기다리지 않는다. 실패해도 로그인은 이미 성공했으므로 다음 주기에 재시도
+        if (pending.size() >= maxPending && flushLock.tryLock()) {
+            try {
+                flushLocked();
+            } catch (RuntimeException e) {
+                log.error("Token write-behind inline flush failed, pending = {}", pending.size(), e);
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    // 아직 반영되지 않은 세션인지 (로그인 직후 재발급 요청 확인용)
+    public boolean isPending(Long userId, String tokenId) {
+        return pending.containsKey(RefreshTokenStore.sessionId(userId, tokenId));
+    }
+
+    // 로그아웃한 세션의 미반영 값을 버린다. 진행 중인 flush 가 끝난 뒤 제거하므로, 반환 후에는 이 세션이 다시 저장되지 않는다
+    public void discard(Long userId, String tokenId) {
+        flushLock.lock();
+        try {
+            pending.remove(RefreshTokenStore.sessionId(userId, tokenId));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void flushLocked() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<PendingTokens> batch = drain();
+        try {
+            write(batch);
+        } catch (RuntimeException e) {
+            // 실패한 값은 더 최신 값이 들어오지 않았을 때만 되돌려 다음 주기에 재시도
+            batch.forEach(tokens -> pending.putIfAbsent(tokens.getKey(), tokens));
+            throw e;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Token write-behind flush failed, pending = {}", pending.size(), e);
+        }
+    }
+
+    private List<PendingTokens> drain() {
+        List<PendingTokens> batch = new ArrayList<>(pending.size());
+        for (String key : pending.keySet()) {
+            PendingTokens tokens = pending.remove(key);
+            if (tokens != null) {
+                batch.add(tokens);
+            }
+        }
+        // row lock 순서를 고정해 동시 flush 간 deadlock 을 피한다
+        batch.sort(Comparator.comparing(PendingTokens::getUserId).thenComparing(PendingTokens::getTokenId));
+        return batch;
+    }
+
+    private void write(List<PendingTokens> batch) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        transactionTemplate.executeWithoutResult(status -> {
+            // 재발급 등으로 이미 존재하는 세션은 UPDATE, 없는 세션만 INSERT
+            int[][] updated = jdbcTemplate.batchUpdate(UPDATE_SESSION_SQL, batch, batchSize, (ps, tokens) -> {
+                ps.setString(1, TokenDigests.sha256(tokens.getAccessToken()));
+                ps.setString(2, TokenDigests.sha256(tokens.getRefreshToken()));
+                ps.setTimestamp(3, new Timestamp(tokens.getExpiresAtMillis()));
+                ps.setTimestamp(4, now);
+                ps.setLong(5, tokens.getUserId());
+                ps.setString(6, tokens.getTokenId());
+            });
+            List<PendingTokens> inserts = new ArrayList<>();
+            int index = 0;
+            for (int[] chunk : updated) {
+                for (int count : chunk) {
+                    if (count == 0) {
+                        inserts.add(batch.get(index));
+                    }
+                    index++;
+                }
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SESSION_SQL, inserts, batchSize, (ps, tokens) -> {
+                    ps.setLong(1, tokens.getUserId());
+                    ps.setString(2, tokens.getTokenId());
+                    ps.setString(3, TokenDigests.sha256(tokens.getAccessToken()));
+                    ps.setString(4, TokenDigests.sha256(tokens.getRefreshToken()));
+                    ps.setTimestamp(5, new Timestamp(tokens.getExpiresAtMillis()));
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                });
+            }
+        });
+
+        // Refresh Token Redis 저장 ( authId = userId:jti, 기기별 세션 )
+        List<RefreshTokenStore.Session> sessions = new ArrayList<>(batch.size());
+        for (PendingTokens tokens : batch) {
+            sessions.add(new RefreshTokenStore.Session(tokens.getKey(), tokens.getRefreshToken(),
+                    tokens.getRole(), tokens.getRefreshTokenTtlMillis()));
+        }
+        refreshTokenStore.saveAll(sessions);
+    }
+
+    // 만료된 세션 삭제, 삭제한 건수 반환
+    public int purgeExpiredSessions() {
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED_SESSION_SQL, new Timestamp(System.currentTimeMillis()));
+        log.debug("Purged {} expired token sessions", deleted);
+        return deleted;
+    }
+
+    private void purgeExpiredSessionsQuietly() {
+        try {
+            purgeExpiredSessions();
+        } catch (RuntimeException e) {
+            log.error("Token session purge failed", e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PendingTokens {
+        private final Long userId;
+        private final String email;
+        private final String role;
+        private final String tokenId;
+        private final String accessToken;
+        private final String refreshToken;
+        private final long refreshTokenTtlMillis;
+        private final long expiresAtMillis;
+
+        private String getKey() {
+            return RefreshTokenStore.sessionId(userId, tokenId);
+        }
+    }
+}
@@ -6,22 +6,36 @@ import com.gymory.domain.user.gym.service.GymService;
 import com.gymory.domain.user.member.dto.MemberCreateDto;
 import com.gymory.domain.user.member.dto.MemberDto;
 import com.gymory.domain.user.member.service.MemberService;
+import com.gymory.domain.user.session.data.TokenSession;
+import com.gymory.domain.user.session.repository.TokenSessionRepository;
 import com.gymory.domain.user.trainer.dto.TrainerCreateDto;
 import com.gymory.domain.user.trainer.dto.TrainerDto;
 import com.gymory.domain.user.trainer.service.TrainerService;
 import com.gymory.domain.user.userbase.UserRole;
-import com.gymory.domain.user.userbase.data.UserBase;
 import com.gymory.domain.user.userbase.dto.UserCreateDto;
-import com.gymory.domain.user.userbase.dto.UserDto;
+import com.gymory.domain.user.userbase.dto.UserSummaryDto;
 import com.gymory.domain.user.userbase.repository.UserJpaRepository;
 import com.gymory.global.code.error.ErrorCode;
 import com.gymory.global.code.error.exception.BusinessException;
 import com.gymory.global.code.result.ResultCode;
 import com.gymory.global.code.result.ResultResponse;
+import com.gymory.global.pagination.CursorPage;
+import com.gymory.global.pagination.CursorRequest;
+import com.gymory.global.redis.RefreshTokenStore;
+import com.gymory.global.security.jwt.JwtTokenProvider;
+import com.gymory.global.security.jwt.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -36,15 +50,58 @@ public class UserService {
     private final MemberService memberService;
     private final GymService gymService;
 
-    public UserDto findUserAndUpdateTokens(Long id, String accessToken, String refreshToken) {
-        UserBase user = userJpaRepository.findById(id).orElseThrow(() ->
-                new BusinessException(ErrorCode.USER_NOT_EXIST));
-        user.setTokens(accessToken, refreshToken);
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenSessionRepository tokenSessionRepository;
+    private final TokenWriteBehindService tokenWriteBehindService;
 
-        UserBase savedUser = userJpaRepository.save(user);
+    // Access Token 폐기, 현재 기기의 Refresh Token 및 세션 삭제 (다른 기기의 세션은 유지)
+    public void logout(String accessToken) {
+        Claims claims = parseActiveClaims(accessToken);
+        tokenRevocationService.revoke(claims.getId(), claims.getExpiration());
 
-        UserDto userDto = modelMapper.map(savedUser, UserDto.class);
-        return userDto;
+        Long userId = jwtTokenProvider.getUserId(claims);
+        if (userId != null && claims.getId() != null) {
+            // 아직 반영되지 않은 로그인이면 삭제 후 flush 가 다시 저장하지 않도록 먼저 버린다
+            tokenWriteBehindService.discard(userId, claims.getId());
+            refreshTokenStore.delete(RefreshTokenStore.sessionId(userId, claims.getId()));
+            tokenSessionRepository.deleteSession(userId, claims.getId());
+        }
+    }
+
+    // 모든 기기에서 로그아웃: 사용자의 모든 세션의 Access Token 폐기, Refresh Token 및 세션 삭제. 종료한 세션 수를 반환
+    public int logoutAll(String accessToken) {
+        Claims claims = parseActiveClaims(accessToken);
+        Long userId = jwtTokenProvider.getUserId(claims);
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.TOKEN_ILLEGAL_ARGUMENT);
+        }
+
+        // 아직 DB 에 반영되지 않은 로그인 세션도 포함되도록 먼저 반영한다
+        tokenWriteBehindService.flush();
+        List<TokenSession> sessions = tokenSessionRepository.findByUserId(userId);
+
+        // 세션 만료 시각(Refresh Token 기준)은 Access Token 만료 시각 이후이므로 폐기 보관 기간으로 충분하다
+        Map<String, Date> tokens = new HashMap<>();
+        sessions.forEach(session -> tokens.put(session.getTokenId(), Timestamp.valueOf(session.getExpiresAt())));
+        if (claims.getId() != null) {
+            tokens.put(claims.getId(), claims.getExpiration());
+        }
+        tokenRevocationService.revokeAll(tokens);
+
+        tokens.keySet().forEach(tokenId -> refreshTokenStore.delete(RefreshTokenStore.sessionId(userId, tokenId)));
+        tokenSessionRepository.deleteByUserId(userId);
+        return sessions.size();
+    }
+
+    // 이미 로그아웃(폐기)된 Access Token 으로는 로그아웃할 수 없다 (유출된 토큰으로 다른 세션을 끊지 못하도록)
+    private Claims parseActiveClaims(String accessToken) {
+        Claims claims = jwtTokenProvider.parseClaims(accessToken);
+        if (tokenRevocationService.isRevoked(claims.getId())) {
+            throw new BusinessException(ErrorCode.USER_ALREADY_LOGOUT);
+        }
+        return claims;
     }
 
     public ResultResponse registerUser(UserCreateDto userCreateDto) {
@@ -72,5 +129,9 @@ public class UserService {
             default -> throw new BusinessException(ErrorCode.USER_ROLE_DOES_NOT_EXISTS);
         }
     }
-}
 
+    @Transactional(readOnly = true)
+    public CursorPage<UserSummaryDto> getUsers(UserRole role, CursorRequest request) {
+        return userJpaRepository.findSummaries(role, request);
+    }
+}
@@ -0,0 +1,23 @@
+package com.gymory.global.auth;
+
+import com.gymory.domain.user.userbase.UserRole;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 요청 단위 인증 정보 (immutable).
+ * RefreshTokenInterceptor 가 request attribute 로 저장하며, controller 에서는 파라미터로 주입받는다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class AuthContext {
+    static final String ATTRIBUTE = AuthContext.class.getName();
+
+    private final Long userId;
+    private final String email;
+    private final UserRole role;
+    private final String tokenId;
+}
@@ -0,0 +1,34 @@
+package com.gymory.global.auth;
+
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.exception.BusinessException;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * controller 파라미터로 AuthContext 주입
+ */
+@Component
+public class AuthContextArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return AuthContext.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public AuthContext resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                       NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object authContext = webRequest.getAttribute(AuthContext.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (authContext == null) {
+            // @ValidateRefreshToken 이 없는 handler 에서 AuthContext 를 요구한 경우
+            throw new BusinessException(ErrorCode.AUTHENTICATION_NOT_FOUND);
+        }
+        return (AuthContext) authContext;
+    }
+}
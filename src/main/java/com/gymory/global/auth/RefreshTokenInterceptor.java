@@ -0,0 +1,91 @@
+package com.gymory.global.auth;
+
+import com.gymory.domain.user.userbase.UserRole;
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.exception.BusinessException;
+import com.gymory.global.security.AES128Service;
+import com.gymory.global.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @ValidateRefreshToken handler 의 Refresh-Token 헤더를 요청당 한 번만 복호화/파싱해 AuthContext 를 만든다.
+ * handler 별 필요 권한은 시작 시 RequestMappingHandlerMapping 에서 한 번 읽어 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenInterceptor implements HandlerInterceptor, ApplicationListener<ContextRefreshedEvent> {
+    public static final String REFRESH_TOKEN_HEADER = "Refresh-Token";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AES128Service aes128Service;
+
+    // handler method → 필요 권한 (annotation 이 없으면 empty)
+    private final Map<Method, Optional<UserRole>> requiredRoles = new ConcurrentHashMap<>();
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (!event.getApplicationContext().containsBean("requestMappingHandlerMapping")) {
+            return;
+        }
+        RequestMappingHandlerMapping handlerMapping = event.getApplicationContext()
+                .getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        handlerMapping.getHandlerMethods().values()
+                .forEach(handlerMethod -> requiredRoles.computeIfAbsent(handlerMethod.getMethod(), this::resolveRequiredRole));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        // 다른 handler mapping 으로 등록된 handler 는 처음 호출될 때 한 번 읽는다
+        Optional<UserRole> requiredRole = requiredRoles.computeIfAbsent(handlerMethod.getMethod(), this::resolveRequiredRole);
+        if (requiredRole.isEmpty()) {
+            return true;
+        }
+
+        Claims claims = parseRefreshToken(request.getHeader(REFRESH_TOKEN_HEADER));
+        UserRole role = UserRole.fromKey(claims.get("userRole", String.class));
+        if (requiredRole.get() != role) {
+            throw new BusinessException("This role have no permission this API", ErrorCode.METHOD_NOT_ALLOWED);
+        }
+
+        request.setAttribute(AuthContext.ATTRIBUTE,
+                new AuthContext(jwtTokenProvider.getUserId(claims), claims.getSubject(), role, claims.getId()));
+        return true;
+    }
+
+    private Optional<UserRole> resolveRequiredRole(Method method) {
+        ValidateRefreshToken annotation = AnnotatedElementUtils.findMergedAnnotation(method, ValidateRefreshToken.class);
+        return annotation == null ? Optional.empty() : Optional.of(annotation.role());
+    }
+
+    // 복호화와 서명 검증을 각각 한 번만 수행
+    private Claims parseRefreshToken(String encryptedRefreshToken) {
+        if (!StringUtils.hasText(encryptedRefreshToken)) {
+            throw new BusinessException("Invalid or missing refresh token", ErrorCode.TOKEN_UNSUPPORTED);
+        }
+        try {
+            return jwtTokenProvider.parseClaims(aes128Service.decryptAes(encryptedRefreshToken));
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BusinessException("Invalid or missing refresh token", ErrorCode.TOKEN_UNSUPPORTED);
+        }
+    }
+}
@@ -1,4 +1,4 @@
-package com.gymory.global.aop;
+package com.gymory.global.auth;
 
 import com.gymory.domain.user.userbase.UserRole;
 
@@ -7,6 +7,10 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * Refresh-Token 헤더의 토큰이 role 권한을 가져야 호출할 수 있는 handler.
+ * 검증은 RefreshTokenInterceptor 가 수행하고, 결과는 AuthContext 파라미터로 주입받는다.
+ */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface ValidateRefreshToken {
@@ -13,6 +13,8 @@ public enum ErrorCode {
     METHOD_NOT_ALLOWED(405, "C003", "method not allowed"),
     INVALID_TYPE_VALUE(400, "C004", "invalid type value"),
     BAD_CREDENTIALS(400, "C005", "bad credentials"),
+    TOO_MANY_REQUESTS(429, "C006", "too many requests"),
+    INVALID_CURSOR(400, "C007", "invalid cursor"),
 
     // User
     USER_NOT_EXIST(404, "M001", "member not exist"),
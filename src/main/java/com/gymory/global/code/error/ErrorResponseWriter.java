@@ -0,0 +1,48 @@
+package com.gymory.global.code.error;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ErrorCode 별 응답 body 를 시작 시 UTF-8 byte 로 미리 직렬화해 둔다.
+ * Security filter chain 과 GlobalExceptionHandler 에서 field error 가 없는 응답에 사용한다.
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private final Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            try {
+                bodies.put(errorCode, objectMapper.writeValueAsBytes(ErrorResponse.of(errorCode)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize error response: " + errorCode, e);
+            }
+        }
+    }
+
+    public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        byte[] body = bodies.get(errorCode);
+        response.setStatus(errorCode.getStatus());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    public ResponseEntity<byte[]> toResponseEntity(ErrorCode errorCode) {
+        byte[] body = bodies.get(errorCode);
+        return ResponseEntity.status(errorCode.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.length)
+                .body(body);
+    }
+}
@@ -1,6 +1,7 @@
 package com.gymory.global.code.error;
 
 import com.gymory.global.code.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindException;
@@ -15,12 +16,13 @@ import static com.gymory.global.code.error.ErrorCode.*;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    private final ErrorResponseWriter errorResponseWriter;
 
     @ExceptionHandler
-    protected ResponseEntity<ErrorResponse> handleBadCredentialException(BadCredentialsException e) {
-        final ErrorResponse response = ErrorResponse.of(BAD_CREDENTIALS);
-        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    protected ResponseEntity<byte[]> handleBadCredentialException(BadCredentialsException e) {
+        return errorResponseWriter.toResponseEntity(BAD_CREDENTIALS);
     }
 
     @ExceptionHandler
@@ -30,9 +32,8 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler
-    protected ResponseEntity<ErrorResponse> handleHttpRequestMethodNotSupportedException(HttpRequestMethodNotSupportedException e) {
-        final ErrorResponse response = ErrorResponse.of(METHOD_NOT_ALLOWED);
-        return new ResponseEntity<>(response, HttpStatus.METHOD_NOT_ALLOWED);
+    protected ResponseEntity<byte[]> handleHttpRequestMethodNotSupportedException(HttpRequestMethodNotSupportedException e) {
+        return errorResponseWriter.toResponseEntity(METHOD_NOT_ALLOWED);
     }
 
     // @Valid, @Validated 에서 binding error 발생 시 (@RequestBody)
@@ -44,18 +45,21 @@ public class GlobalExceptionHandler {
 
     // 비즈니스 요구사항에 따른 Exception
     @ExceptionHandler
-    protected ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
+    protected ResponseEntity<?> handleBusinessException(BusinessException e) {
         final ErrorCode errorCode = e.getErrorCode();
+        // field error 가 없으면 미리 직렬화된 body 사용
+        if (e.getErrors().isEmpty()) {
+            return errorResponseWriter.toResponseEntity(errorCode);
+        }
         final ErrorResponse response = ErrorResponse.of(errorCode, e.getErrors());
         return new ResponseEntity<>(response, HttpStatus.valueOf(errorCode.getStatus()));
     }
 
     // 그 밖에 발생하는 모든 예외처리가 이곳으로 모인다.
     @ExceptionHandler(Exception.class)
-    protected ResponseEntity<ErrorResponse> handleException(Exception e) {
+    protected ResponseEntity<byte[]> handleException(Exception e) {
         log.error("Exception: ", e);
-        final ErrorResponse response = ErrorResponse.of(INTERNAL_SERVER_ERROR);
-        return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        return errorResponseWriter.toResponseEntity(INTERNAL_SERVER_ERROR);
     }
 }
 
@@ -12,7 +12,15 @@ public enum ResultCode {
     LOGIN_SUCCESS(200, "M002", "로그인 되었습니다."),
     REISSUE_SUCCESS(200, "M003", "재발급 되었습니다."),
     LOGOUT_SUCCESS(200, "M004", "로그아웃 되었습니다."),
-    GET_MY_INFO_SUCCESS(200, "M005", "내 정보 조회 완료");
+    GET_MY_INFO_SUCCESS(200, "M005", "내 정보 조회 완료"),
+    GET_USER_LIST_SUCCESS(200, "M006", "사용자 목록 조회 완료"),
+
+    // Trainer
+    TRAINER_SEARCH_SUCCESS(200, "T001", "트레이너 검색 완료"),
+
+    // Gym
+    GYM_NEARBY_SEARCH_SUCCESS(200, "G001", "주변 체육관 검색 완료"),
+    GYM_COORDINATES_CHANGE_SUCCESS(200, "G002", "체육관 좌표 변경 완료");
 
     private int status;
     private final String code;
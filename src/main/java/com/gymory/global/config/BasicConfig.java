@@ -4,6 +4,7 @@ import com.gymory.domain.fee.data.Fee;
 import com.gymory.domain.fee.dto.FeeDto;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.PropertyMap;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -31,8 +32,9 @@ public class BasicConfig {
         return modelMapper;
     }
 
+    // strength 를 올리면 기존 해시는 로그인 성공 시 PasswordHashingService 에서 재해시된다
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
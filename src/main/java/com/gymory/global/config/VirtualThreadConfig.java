@@ -0,0 +1,92 @@
+package com.gymory.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.annotation.PreDestroy;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Tomcat 요청 처리를 virtual thread 로 실행하는 opt-in 모드 (spring.threads.virtual.enabled=true).
+ * 빌드는 Java 17 기준이므로 virtual thread API 는 reflection 으로 찾고, JDK 21 미만에서 실행되면 기존 thread pool 을 그대로 쓴다.
+ * 동시 처리량의 상한은 server.tomcat.max-connections 와 Hikari pool 크기가 정한다.
+ *
+ * <p>virtual thread 로 바뀌는 것은 Tomcat 요청 스레드뿐이다. 요청 경로에 남은 carrier 고정(pinning) 지점:
+ * <ul>
+ *   <li>mysql-connector-j 8.0.33 은 쿼리 실행 중 connection 단위 synchronized 를 잡고 socket I/O 를 한다.
+ *       따라서 DB 를 쓰는 동안 carrier 가 고정되고, 동시에 고정될 수 있는 carrier 는 최대 Hikari pool 크기다.
+ *       scheduler parallelism 이 pool 크기 이하이면 DB 대기만으로 모든 carrier 가 막히므로 시작 시 경고한다.
+ *       (ReentrantLock 으로 바뀐 9.x 로 올리면 해소된다)</li>
+ *   <li>Hikari 의 connection 대기는 ConcurrentBag(SynchronousQueue, park) 이므로 고정되지 않는다.</li>
+ *   <li>Lettuce 동기 API 는 netty 스레드의 응답을 future 로 기다리므로 고정되지 않는다.
+ *       LettuceConnectionFactory 의 공유 connection 은 최초 연결과 재연결 때만 synchronized 안에서 연결한다.</li>
+ *   <li>Tomcat 9 내부의 synchronized 는 이 프로젝트에서 바꿀 수 없다.
+ *       JDK 21 에서 -Djdk.tracePinnedThreads=short 로 VirtualThreadLoadTest 나 부하 테스트를 실행해 확인한다.</li>
+ *   <li>이 프로젝트 코드는 synchronized 대신 ReentrantLock 을 쓰고, BCrypt 는 PasswordHashingService 의 platform thread pool 에서 실행한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int hikariMaximumPoolSize;
+
+    private ExecutorService executor;
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        Optional<ExecutorService> virtualExecutor = newVirtualThreadPerTaskExecutor("tomcat-vt-");
+        if (virtualExecutor.isEmpty()) {
+            log.warn("Virtual threads are not supported on Java {}, using the platform thread pool",
+                    Runtime.version().feature());
+            return protocolHandler -> { };
+        }
+        executor = virtualExecutor.get();
+        warnIfJdbcCanPinAllCarriers();
+        log.info("Tomcat requests run on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    // Tomcat 은 외부에서 넣은 executor 를 종료하지 않는다. 웹 서버가 멈춘 뒤(bean 소멸 시점) 종료한다
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    // JDK 21+ 에서만 생성된다: Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 0).factory())
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return Optional.of((ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory));
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void warnIfJdbcCanPinAllCarriers() {
+        int parallelism = Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+                Runtime.getRuntime().availableProcessors());
+        if (parallelism <= hikariMaximumPoolSize) {
+            log.warn("Virtual thread scheduler parallelism ({}) is not greater than the Hikari pool size ({}). "
+                            + "JDBC calls pin carriers, so set -Djdk.virtualThreadScheduler.parallelism above the pool size",
+                    parallelism, hikariMaximumPoolSize);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.gymory.global.config;
+
+import com.gymory.global.auth.AuthContextArgumentResolver;
+import com.gymory.global.auth.RefreshTokenInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+    private final RefreshTokenInterceptor refreshTokenInterceptor;
+    private final AuthContextArgumentResolver authContextArgumentResolver;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(refreshTokenInterceptor);
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(authContextArgumentResolver);
+    }
+}
@@ -0,0 +1,72 @@
+package com.gymory.global.log;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 호출 지점(call site)별 로그 sampling / rate limit.
+ * 호출 지점마다 static final 필드로 하나씩 두고, tryAcquire() 가 true 일 때만 로그를 남긴다.
+ *
+ * <pre>
+ * private static final LogSampler LOGIN_LOG = LogSampler.atMostEvery(Duration.ofSeconds(1));
+ *
+ * if (LOGIN_LOG.tryAcquire()) {
+ *     log.info("login success = {} (suppressed {})", email, LOGIN_LOG.getAndResetSuppressed());
+ * }
+ * </pre>
+ */
+public final class LogSampler {
+
+    private final int oneIn;
+    private final long minIntervalNanos;
+    private final AtomicLong nextAllowedNanos;
+    private final LongAdder suppressed = new LongAdder();
+
+    private LogSampler(int oneIn, Duration minInterval) {
+        if (oneIn < 1) {
+            throw new IllegalArgumentException("oneIn must be positive: " + oneIn);
+        }
+        this.oneIn = oneIn;
+        this.minIntervalNanos = minInterval.toNanos();
+        this.nextAllowedNanos = new AtomicLong(System.nanoTime());
+    }
+
+    // N 건 중 평균 1 건
+    public static LogSampler oneIn(int oneIn) {
+        return new LogSampler(oneIn, Duration.ZERO);
+    }
+
+    // 최소 간격당 최대 1 건
+    public static LogSampler atMostEvery(Duration minInterval) {
+        return new LogSampler(1, minInterval);
+    }
+
+    // sampling 후 rate limit 적용
+    public static LogSampler of(int oneIn, Duration minInterval) {
+        return new LogSampler(oneIn, minInterval);
+    }
+
+    public boolean tryAcquire() {
+        // 공유 counter 대신 thread local 난수로 sampling 해 호출 스레드 간 경합이 없다
+        if (oneIn > 1 && ThreadLocalRandom.current().nextInt(oneIn) != 0) {
+            suppressed.increment();
+            return false;
+        }
+        if (minIntervalNanos > 0) {
+            long now = System.nanoTime();
+            long next = nextAllowedNanos.get();
+            if (now - next < 0 || !nextAllowedNanos.compareAndSet(next, now + minIntervalNanos)) {
+                suppressed.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 마지막으로 로그를 남긴 이후 생략된 건수
+    public long getAndResetSuppressed() {
+        return suppressed.sumThenReset();
+    }
+}
@@ -0,0 +1,62 @@
+package com.gymory.global.pagination;
+
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.exception.BusinessException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션 위치 (createdAt, id).
+ * 클라이언트에는 내용을 알 수 없는 base64url token 으로 전달한다.
+ * <pre>
+ * [version(1)][createdAt epoch second(8)][nano(4)][id(8)]
+ * </pre>
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class Cursor {
+    private static final byte VERSION = 1;
+    private static final int LENGTH = 1 + 8 + 4 + 8;
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public Cursor(LocalDateTime createdAt, Long id) {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor requires createdAt and id");
+        }
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH)
+                .put(VERSION)
+                .putLong(createdAt.toEpochSecond(ZoneOffset.UTC))
+                .putInt(createdAt.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static Cursor decode(String token) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            if (bytes.length != LENGTH || bytes[0] != VERSION) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, LENGTH - 1);
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            return new Cursor(createdAt, buffer.getLong());
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.gymory.global.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * keyset 페이지 결과. 전체 건수는 계산하지 않으며, hasNext 면 nextCursor 로 다음 페이지를 요청한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CursorPage<T> {
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+}
@@ -0,0 +1,33 @@
+package com.gymory.global.pagination;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.util.StringUtils;
+
+/**
+ * 다음 페이지 요청. cursor 가 없으면 첫 페이지.
+ */
+@Getter
+@ToString
+public class CursorRequest {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final Cursor cursor;
+    private final int size;
+
+    private CursorRequest(Cursor cursor, int size) {
+        this.cursor = cursor;
+        this.size = size;
+    }
+
+    public static CursorRequest of(String token, Integer size) {
+        Cursor cursor = StringUtils.hasText(token) ? Cursor.decode(token) : null;
+        int pageSize = size == null ? DEFAULT_SIZE : Math.min(Math.max(size, 1), MAX_SIZE);
+        return new CursorRequest(cursor, pageSize);
+    }
+
+    public static CursorRequest first(int size) {
+        return of(null, size);
+    }
+}
@@ -0,0 +1,44 @@
+package com.gymory.global.pagination;
+
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * (createdAt, id) 내림차순 keyset 페이지네이션.
+ * OFFSET 과 COUNT(*) 없이 마지막 위치 다음부터 size + 1 건만 읽으므로 페이지 위치와 관계없이 비용이 같다.
+ * (조건 컬럼..., CREATED_AT, ID) 복합 인덱스가 있어야 하며, createdAt 이 null 인 row 는 조회되지 않는다.
+ *
+ * <pre>
+ * KeysetPagination.fetch(queryFactory.select(...).from(user).where(...),
+ *         user.createdAt, user.id, request, dto -> new Cursor(dto.getCreatedAt(), dto.getId()));
+ * </pre>
+ */
+public final class KeysetPagination {
+
+    private KeysetPagination() {
+    }
+
+    public static <T> CursorPage<T> fetch(JPAQuery<T> query, DateTimePath<LocalDateTime> createdAt, NumberPath<Long> id,
+                                          CursorRequest request, Function<T, Cursor> cursorOf) {
+        Cursor cursor = request.getCursor();
+        if (cursor != null) {
+            // createdAt <= ? 를 먼저 두어 인덱스 range scan 으로 시작하도록 한다
+            query.where(createdAt.loe(cursor.getCreatedAt()),
+                    createdAt.lt(cursor.getCreatedAt()).or(id.lt(cursor.getId())));
+        }
+        List<T> rows = query
+                .orderBy(createdAt.desc(), id.desc())
+                .limit(request.getSize() + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > request.getSize();
+        List<T> content = hasNext ? rows.subList(0, request.getSize()) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+}
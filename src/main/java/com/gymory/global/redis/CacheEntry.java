@@ -0,0 +1,21 @@
+package com.gymory.global.redis;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조기 갱신(XFetch) 정보를 함께 저장하는 캐시 값.
+ * value 는 store value (null 은 NullValue) 이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CacheEntry {
+    private Object value;
+    // 값을 계산하는 데 걸린 시간
+    private long deltaMillis;
+    // Redis TTL 기준 만료 시각 (epoch ms)
+    private long expiresAtMillis;
+}
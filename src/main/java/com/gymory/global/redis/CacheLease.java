@@ -0,0 +1,36 @@
+package com.gymory.global.redis;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 노드 간 캐시 로딩 lease (SET NX PX). 자신이 얻은 lease 만 해제한다.
+ */
+class CacheLease {
+    private static final String KEY_PREFIX = "cache-lease:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    CacheLease(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    boolean tryAcquire(String cacheName, String key, String token, Duration timeout) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey(cacheName, key), token, timeout));
+    }
+
+    void release(String cacheName, String key, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(cacheName, key)), token);
+    }
+
+    private static String leaseKey(String cacheName, String key) {
+        return KEY_PREFIX + cacheName + ":" + key;
+    }
+}
@@ -0,0 +1,30 @@
+package com.gymory.global.redis;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 캐시 miss 시 로딩 방식.
+ * <ul>
+ *     <li>같은 노드의 같은 key 동시 로딩은 항상 한 번만 수행한다 (single-flight)</li>
+ *     <li>lease: Redis lease 를 얻은 노드만 로딩하고, 나머지 노드는 값이 채워질 때까지 대기한다</li>
+ *     <li>beta: 0 보다 크면 XFetch 로 TTL 이 끝나기 전에 확률적으로 background 갱신한다 (1.0 이 기본 권장값)</li>
+ * </ul>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class CacheLoadOptions {
+    public static final CacheLoadOptions DEFAULT = CacheLoadOptions.builder().build();
+
+    private final boolean lease;
+
+    @Builder.Default
+    private final Duration leaseTimeout = Duration.ofSeconds(5);
+
+    @Builder.Default
+    private final Duration leasePollInterval = Duration.ofMillis(20);
+
+    private final double beta;
+}
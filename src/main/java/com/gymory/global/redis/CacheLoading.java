@@ -0,0 +1,30 @@
+package com.gymory.global.redis;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code @Cacheable(sync = true)} 메서드의 캐시 로딩 방식 (CacheLoadOptions 참고).
+ * cacheNames 를 생략하면 같은 메서드의 @Cacheable 캐시 이름을 사용한다.
+ *
+ * <pre>
+ * &#64;CacheLoading(lease = true, beta = 1.0)
+ * &#64;Cacheable(cacheNames = "trainer", sync = true)
+ * public TrainerDto getTrainer(Long id) { ... }
+ * </pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CacheLoading {
+    String[] cacheNames() default {};
+
+    boolean lease() default false;
+
+    long leaseTimeoutMillis() default 5_000;
+
+    double beta() default 0;
+}
@@ -0,0 +1,71 @@
+package com.gymory.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+/**
+ * 빈의 @CacheLoading 메서드를 찾아 TwoTierCacheManager 에 캐시별 로딩 방식을 등록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheLoadingRegistrar implements SmartInitializingSingleton {
+
+    private final ApplicationContext applicationContext;
+    private final CacheManager cacheManager;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!(cacheManager instanceof TwoTierCacheManager twoTierCacheManager)) {
+            return;
+        }
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> beanType = applicationContext.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+            ReflectionUtils.doWithMethods(ClassUtils.getUserClass(beanType),
+                    method -> register(twoTierCacheManager, method),
+                    method -> AnnotatedElementUtils.hasAnnotation(method, CacheLoading.class));
+        }
+    }
+
+    private void register(TwoTierCacheManager twoTierCacheManager, Method method) {
+        CacheLoading cacheLoading = AnnotatedElementUtils.findMergedAnnotation(method, CacheLoading.class);
+        CacheLoadOptions options = CacheLoadOptions.builder()
+                .lease(cacheLoading.lease())
+                .leaseTimeout(Duration.ofMillis(cacheLoading.leaseTimeoutMillis()))
+                .beta(cacheLoading.beta())
+                .build();
+
+        for (String cacheName : cacheNames(method, cacheLoading)) {
+            twoTierCacheManager.setLoadOptions(cacheName, options);
+            log.info("Cache loading options registered: {} (lease={}, beta={})", cacheName, options.isLease(), options.getBeta());
+        }
+    }
+
+    private String[] cacheNames(Method method, CacheLoading cacheLoading) {
+        if (cacheLoading.cacheNames().length > 0) {
+            return cacheLoading.cacheNames();
+        }
+        Cacheable cacheable = AnnotatedElementUtils.findMergedAnnotation(method, Cacheable.class);
+        if (cacheable == null || cacheable.cacheNames().length == 0) {
+            throw new IllegalStateException("@CacheLoading requires cacheNames or @Cacheable: " + method);
+        }
+        if (!cacheable.sync()) {
+            log.warn("@CacheLoading is applied only with @Cacheable(sync = true): {}", method);
+        }
+        return cacheable.cacheNames();
+    }
+}
@@ -0,0 +1,78 @@
+package com.gymory.global.redis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.springframework.cache.support.NullValue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 캐시 값 타입 ↔ 숫자 id. 클래스 이름 대신 id 만 payload 에 기록한다.
+ * 0 ~ 15 는 예약되어 있으며, 등록하지 않은 타입은 클래스 이름을 함께 저장한다.
+ * id 는 저장된 값의 해석에 쓰이므로 한 번 부여한 id 는 바꾸지 않는다.
+ * List&lt;TrainerDto&gt; 처럼 generic 타입을 저장하는 캐시는 registerCache 로 캐시별 타입을 선언한다.
+ * 선언하지 않은 Collection / Map 은 원소 타입 정보를 payload 에 함께 저장한다 (TYPED).
+ * 단 final 타입(record, Long 등) 원소에는 타입 정보가 붙지 않으므로 그런 캐시는 registerCache 로 선언한다.
+ */
+public class CacheTypeRegistry {
+    public static final int UNREGISTERED = 0;
+    public static final int NULL_VALUE = 1;
+    // 캐시에 선언된 타입으로 저장한 값
+    public static final int DECLARED = 7;
+    // 타입 정보를 payload 에 포함해 저장한 Collection / Map
+    public static final int TYPED = 8;
+    private static final int FIRST_CUSTOM_ID = 16;
+
+    private final Map<Integer, Class<?>> typesById = new HashMap<>();
+    private final Map<Class<?>, Integer> idsByType = new HashMap<>();
+    private final Map<String, JavaType> typesByCache = new HashMap<>();
+
+    public CacheTypeRegistry() {
+        put(NULL_VALUE, NullValue.class);
+        put(2, String.class);
+        put(3, Long.class);
+        put(4, Integer.class);
+        put(5, Boolean.class);
+        put(6, Double.class);
+    }
+
+    public CacheTypeRegistry register(int id, Class<?> type) {
+        if (id < FIRST_CUSTOM_ID) {
+            throw new IllegalArgumentException("Cache type id must be >= " + FIRST_CUSTOM_ID + ": " + id);
+        }
+        put(id, type);
+        return this;
+    }
+
+    // 캐시 이름별 값 타입 (예: registerCache("trainers", new TypeReference<List<TrainerDto>>() {}))
+    public CacheTypeRegistry registerCache(String cacheName, TypeReference<?> type) {
+        if (typesByCache.putIfAbsent(cacheName, TypeFactory.defaultInstance().constructType(type)) != null) {
+            throw new IllegalArgumentException("Duplicate cache type declaration: " + cacheName);
+        }
+        return this;
+    }
+
+    public Map<String, JavaType> getCacheTypes() {
+        return Collections.unmodifiableMap(typesByCache);
+    }
+
+    public int idOf(Class<?> type) {
+        return idsByType.getOrDefault(type, UNREGISTERED);
+    }
+
+    // 등록되지 않은 id 이면 null
+    public Class<?> typeOf(int id) {
+        return typesById.get(id);
+    }
+
+    private void put(int id, Class<?> type) {
+        if (typesById.containsKey(id) || idsByType.containsKey(type)) {
+            throw new IllegalArgumentException("Duplicate cache type registration: " + id + " → " + type.getName());
+        }
+        typesById.put(id, type);
+        idsByType.put(type, id);
+    }
+}
@@ -0,0 +1,254 @@
+package com.gymory.global.redis;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 캐시 값용 binary serializer (Smile 또는 CBOR).
+ *
+ * <pre>
+ * [header(1)][(CacheEntry 이면) 계산 시간 ms, 만료 시각 ms (varint)][type id(varint)][(id=0 이면) 클래스 이름 길이(varint) + 이름][(LZ4 이면) 원본 길이(varint)][payload]
+ * </pre>
+ * payload 가 compressionThreshold byte 이상이고 LZ4 로 줄어들 때만 압축한다 (0 이면 압축하지 않음).
+ * 캐시에 선언된 타입(CacheTypeRegistry.registerCache)이 있으면 그 타입으로, 선언되지 않은 Collection / Map 은
+ * 원소의 타입 정보를 포함해 저장하므로 List&lt;TrainerDto&gt; 가 LinkedHashMap 목록으로 바뀌지 않는다.
+ * 형식이 다르거나(JSON 등 이전 값) 알 수 없는 타입의 값은 예외 대신 cache miss(null) 로 처리한다.
+ */
+@Slf4j
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+    private static final int VERSION = 1 << 4;
+    private static final int LZ4_FLAG = 1;
+    private static final int ENTRY_FLAG = 1 << 1;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper typedObjectMapper;
+    private final CacheTypeRegistry typeRegistry;
+    // 캐시에 선언된 값 타입 (없으면 null)
+    private final JavaType declaredType;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    // jsonFactory: SmileFactory / CBORFactory 등 binary format
+    public CompactRedisSerializer(JsonFactory jsonFactory, CacheTypeRegistry typeRegistry, int compressionThreshold) {
+        this.objectMapper = new ObjectMapper(jsonFactory)
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        // 역직렬화할 수 있는 타입은 애플리케이션 / JDK 타입으로 제한한다
+        this.typedObjectMapper = objectMapper.copy().activateDefaultTyping(BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("com.gymory.")
+                .allowIfSubType("java.")
+                .build(), ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        this.typeRegistry = typeRegistry;
+        this.declaredType = null;
+        this.compressionThreshold = compressionThreshold;
+        LZ4Factory lz4Factory = LZ4Factory.fastestInstance();
+        this.compressor = lz4Factory.fastCompressor();
+        this.decompressor = lz4Factory.fastDecompressor();
+    }
+
+    private CompactRedisSerializer(CompactRedisSerializer base, JavaType declaredType) {
+        this.objectMapper = base.objectMapper;
+        this.typedObjectMapper = base.typedObjectMapper;
+        this.typeRegistry = base.typeRegistry;
+        this.declaredType = declaredType;
+        this.compressionThreshold = base.compressionThreshold;
+        this.compressor = base.compressor;
+        this.decompressor = base.decompressor;
+    }
+
+    // 같은 설정으로 특정 캐시의 선언된 타입을 사용하는 serializer
+    public CompactRedisSerializer withDeclaredType(JavaType type) {
+        return new CompactRedisSerializer(this, type);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+        CacheEntry entry = value instanceof CacheEntry cacheEntry ? cacheEntry : null;
+        Object body = entry == null ? value : entry.getValue() != null ? entry.getValue() : NullValue.INSTANCE;
+        int typeId = typeIdOf(body);
+        byte[] payload = typeId == CacheTypeRegistry.NULL_VALUE ? EMPTY : writePayload(writerFor(typeId), body);
+
+        byte[] compressed = null;
+        if (compressionThreshold > 0 && payload.length >= compressionThreshold) {
+            byte[] candidate = compressor.compress(payload);
+            if (candidate.length < payload.length) {
+                compressed = candidate;
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length + 32);
+        out.write(VERSION | (compressed != null ? LZ4_FLAG : 0) | (entry != null ? ENTRY_FLAG : 0));
+        if (entry != null) {
+            writeVarint(out, entry.getDeltaMillis());
+            writeVarint(out, entry.getExpiresAtMillis());
+        }
+        writeVarint(out, typeId);
+        if (typeId == CacheTypeRegistry.UNREGISTERED) {
+            byte[] className = body.getClass().getName().getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, className.length);
+            out.write(className, 0, className.length);
+        }
+        if (compressed != null) {
+            writeVarint(out, payload.length);
+            out.write(compressed, 0, compressed.length);
+        } else {
+            out.write(payload, 0, payload.length);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        int header = bytes[0] & 0xFF;
+        // 이전 형식(JSON 등)으로 저장된 값은 cache miss 로 처리해 다시 적재되게 한다
+        if ((header & 0xF0) != VERSION) {
+            log.debug("Unsupported cache payload header {}, treated as a cache miss", header);
+            return null;
+        }
+        int[] position = {1};
+        if ((header & ENTRY_FLAG) != 0) {
+            long deltaMillis = readVarint(bytes, position);
+            long expiresAtMillis = readVarint(bytes, position);
+            Object body = readBody(header, bytes, position);
+            return body == null ? null : new CacheEntry(body, deltaMillis, expiresAtMillis);
+        }
+        return readBody(header, bytes, position);
+    }
+
+    private int typeIdOf(Object body) {
+        if (body instanceof NullValue) {
+            return CacheTypeRegistry.NULL_VALUE;
+        }
+        if (declaredType != null) {
+            return CacheTypeRegistry.DECLARED;
+        }
+        int typeId = typeRegistry.idOf(body.getClass());
+        if (typeId == CacheTypeRegistry.UNREGISTERED && (body instanceof Collection || body instanceof Map)) {
+            return CacheTypeRegistry.TYPED;
+        }
+        return typeId;
+    }
+
+    private ObjectWriter writerFor(int typeId) {
+        if (typeId == CacheTypeRegistry.DECLARED) {
+            return objectMapper.writerFor(declaredType);
+        }
+        return typeId == CacheTypeRegistry.TYPED ? typedObjectMapper.writer() : objectMapper.writer();
+    }
+
+    // 알 수 없는 타입이면 null (cache miss)
+    private Object readBody(int header, byte[] bytes, int[] position) {
+        int typeId = (int) readVarint(bytes, position);
+        ObjectReader reader;
+        switch (typeId) {
+            case CacheTypeRegistry.NULL_VALUE:
+                return NullValue.INSTANCE;
+            case CacheTypeRegistry.DECLARED:
+                if (declaredType == null) {
+                    log.debug("Cache value was written with a declared type that is no longer configured");
+                    return null;
+                }
+                reader = objectMapper.readerFor(declaredType);
+                break;
+            case CacheTypeRegistry.TYPED:
+                reader = typedObjectMapper.readerFor(Object.class);
+                break;
+            case CacheTypeRegistry.UNREGISTERED:
+                int length = (int) readVarint(bytes, position);
+                String className = new String(bytes, position[0], length, StandardCharsets.UTF_8);
+                position[0] += length;
+                Class<?> unregistered = loadClass(className);
+                if (unregistered == null) {
+                    return null;
+                }
+                reader = objectMapper.readerFor(unregistered);
+                break;
+            default:
+                Class<?> registered = typeRegistry.typeOf(typeId);
+                if (registered == null) {
+                    log.debug("Unknown cache type id {}, treated as a cache miss", typeId);
+                    return null;
+                }
+                reader = objectMapper.readerFor(registered);
+        }
+
+        try {
+            if ((header & LZ4_FLAG) != 0) {
+                int originalLength = (int) readVarint(bytes, position);
+                byte[] payload = new byte[originalLength];
+                decompressor.decompress(bytes, position[0], payload, 0, originalLength);
+                return reader.readValue(payload);
+            }
+            return reader.readValue(bytes, position[0], bytes.length - position[0]);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to deserialize cache value, type id = " + typeId, e);
+        }
+    }
+
+    private byte[] writePayload(ObjectWriter writer, Object value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to serialize cache value: " + value.getClass().getName(), e);
+        }
+    }
+
+    // 배포 사이에 이름이 바뀐 클래스 등 찾을 수 없으면 null
+    private static Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, CompactRedisSerializer.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            log.debug("Unknown cache value type {}, treated as a cache miss", className);
+            return null;
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] bytes, int[] position) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = bytes[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed varint in cache payload");
+    }
+}
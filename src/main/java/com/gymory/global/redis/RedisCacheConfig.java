@@ -1,5 +1,10 @@
 package com.gymory.global.redis;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -7,27 +12,73 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
 public class RedisCacheConfig {
 
+    // 캐시에 저장하는 값 타입은 여기에서 id 를 부여한다 (예: .register(16, TrainerDto.class))
+    // generic 타입을 저장하는 캐시는 타입을 선언한다 (예: .registerCache("trainers", new TypeReference<List<TrainerDto>>() {}))
     @Bean
-    public CacheManager rcm(RedisConnectionFactory cf) {
+    public CacheTypeRegistry cacheTypeRegistry() {
+        return new CacheTypeRegistry();
+    }
+
+    @Bean
+    public CacheManager rcm(RedisConnectionFactory cf, RedisCacheProperties cacheProperties, CacheTypeRegistry cacheTypeRegistry,
+                            RedisTemplate<String, Object> redisTemplate,
+                            RedisMessageListenerContainer redisMessageListenerContainer, MeterRegistry meterRegistry) {
+        RedisSerializer<?> valueSerializer = valueSerializer(cacheProperties, cacheTypeRegistry);
         RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
-                .entryTtl(Duration.ofMinutes(3L));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer))
+                .entryTtl(cacheProperties.getDefaultTtl());
+
+        // 캐시 이름별 TTL
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        cacheProperties.getTtls().forEach((cacheName, ttl) ->
+                cacheConfigurations.put(cacheName, redisCacheConfiguration.entryTtl(ttl)));
 
-        return RedisCacheManager
+        // 타입을 선언한 캐시는 그 타입으로 역직렬화한다 (JSON 은 값마다 타입 정보를 저장하므로 필요 없다)
+        if (valueSerializer instanceof CompactRedisSerializer compactSerializer) {
+            cacheTypeRegistry.getCacheTypes().forEach((cacheName, type) ->
+                    cacheConfigurations.put(cacheName, cacheConfigurations.getOrDefault(cacheName, redisCacheConfiguration)
+                            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                                    compactSerializer.withDeclaredType(type)))));
+        }
+
+        RedisCacheManager redisCacheManager = RedisCacheManager
                 .RedisCacheManagerBuilder
                 .fromConnectionFactory(cf)
                 .cacheDefaults(redisCacheConfiguration)
+                .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        // bean 으로 등록되지 않으므로 직접 초기화
+        redisCacheManager.afterPropertiesSet();
+
+        // 노드별 near-cache 를 앞에 둔다 (cache.redis.near.*, cache.redis.load.*)
+        return new TwoTierCacheManager(redisCacheManager, cacheProperties, redisTemplate,
+                redisMessageListenerContainer, meterRegistry);
+    }
+
+    private RedisSerializer<?> valueSerializer(RedisCacheProperties cacheProperties, CacheTypeRegistry cacheTypeRegistry) {
+        return switch (cacheProperties.getFormat()) {
+            case JSON -> new GenericJackson2JsonRedisSerializer();
+            // 값마다 붙는 4 byte Smile header 는 생략한다
+            case SMILE -> new CompactRedisSerializer(SmileFactory.builder()
+                    .disable(SmileGenerator.Feature.WRITE_HEADER)
+                    .disable(SmileParser.Feature.REQUIRE_HEADER)
+                    .build(), cacheTypeRegistry, cacheProperties.getCompressionThreshold());
+            case CBOR -> new CompactRedisSerializer(new CBORFactory(), cacheTypeRegistry, cacheProperties.getCompressionThreshold());
+        };
     }
 }
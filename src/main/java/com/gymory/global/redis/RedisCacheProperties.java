@@ -0,0 +1,104 @@
+package com.gymory.global.redis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * cache.redis.* 설정.
+ *
+ * <pre>
+ * cache.redis.format=json                     json | smile | cbor (smile/cbor 로 바꾸면 이전 JSON 값은 miss 로 처리되어 다시 적재된다)
+ * cache.redis.compression-threshold=1024      이 크기(byte) 이상이면 LZ4 압축 (0 이면 끔)
+ * cache.redis.default-ttl=3m
+ * cache.redis.ttls.{cacheName}=10m
+ * cache.redis.near.enabled=true               노드별 Caffeine near-cache (기본값)
+ * cache.redis.near.maximum-size=10000
+ * cache.redis.near.ttl=30s
+ * cache.redis.near.caches.{cacheName}.enabled / maximum-size / ttl   캐시별로 덮어쓰기
+ * cache.redis.load.lease=false                @CacheLoading 이 없는 캐시의 로딩 방식 (CacheLoadOptions)
+ * cache.redis.load.lease-timeout=5s
+ * cache.redis.load.beta=0
+ * cache.redis.load.refresh-threads=2          XFetch background 갱신 스레드 수
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache.redis")
+public class RedisCacheProperties {
+
+    public enum Format {
+        // 기존 GenericJackson2JsonRedisSerializer (payload 마다 클래스 이름 포함)
+        JSON, SMILE, CBOR
+    }
+
+    // 기존 값과 호환되도록 기본값은 JSON. smile/cbor 는 명시적으로 켠다
+    private Format format = Format.JSON;
+
+    private int compressionThreshold = 1024;
+
+    private Duration defaultTtl = Duration.ofMinutes(3);
+
+    private Map<String, Duration> ttls = new HashMap<>();
+
+    private Near near = new Near();
+
+    private Load load = new Load();
+
+    @Getter
+    @Setter
+    public static class Near {
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofSeconds(30);
+        private Map<String, NearCache> caches = new HashMap<>();
+
+        public boolean isEnabled(String cacheName) {
+            NearCache cache = caches.get(cacheName);
+            return cache != null && cache.getEnabled() != null ? cache.getEnabled() : enabled;
+        }
+
+        public long getMaximumSize(String cacheName) {
+            NearCache cache = caches.get(cacheName);
+            return cache != null && cache.getMaximumSize() != null ? cache.getMaximumSize() : maximumSize;
+        }
+
+        public Duration getTtl(String cacheName) {
+            NearCache cache = caches.get(cacheName);
+            return cache != null && cache.getTtl() != null ? cache.getTtl() : ttl;
+        }
+    }
+
+    // 지정하지 않은 값은 Near 의 기본값을 따른다
+    @Getter
+    @Setter
+    public static class NearCache {
+        private Boolean enabled;
+        private Long maximumSize;
+        private Duration ttl;
+    }
+
+    @Getter
+    @Setter
+    public static class Load {
+        private boolean lease = false;
+        private Duration leaseTimeout = Duration.ofSeconds(5);
+        private double beta = 0;
+        private int refreshThreads = 2;
+        private int refreshQueueCapacity = 1_000;
+
+        public CacheLoadOptions toOptions() {
+            return CacheLoadOptions.builder()
+                    .lease(lease)
+                    .leaseTimeout(leaseTimeout)
+                    .beta(beta)
+                    .build();
+        }
+    }
+}
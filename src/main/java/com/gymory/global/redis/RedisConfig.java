@@ -1,26 +1,73 @@
 package com.gymory.global.redis;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.LettuceClientConfigurationBuilder;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.util.HashSet;
+
+/**
+ * Lettuce 연결 설정. spring.redis.* (RedisProperties) 를 그대로 사용한다.
+ *
+ * <pre>
+ * spring.redis.timeout / connect-timeout          명령 / 연결 timeout (기본 2s / 1s)
+ * spring.redis.sentinel.master, nodes             Sentinel 모드
+ * spring.redis.cluster.nodes, max-redirects       Cluster 모드 (lettuce.cluster.refresh.* 로 topology 갱신)
+ * spring.redis.lettuce.pool.enabled=true          트랜잭션/blocking 명령용 전용 connection pool
+ * redis.read-from=replicaPreferred                읽기 명령을 replica 로 (Sentinel/Cluster/replica 구성)
+ * redis.pipeline-flush-threshold=1000             pipeline 명령을 N 개 단위로 flush (0 이면 명령마다)
+ * </pre>
+ * 일반 명령은 공유 connection 하나로 처리하고, pool 은 MULTI/EXEC 나 blocking 명령에만 쓰인다.
+ */
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RedisProperties.class)
 public class RedisConfig {
+    private static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(1);
 
+    private final RedisProperties redisProperties;
 
-    @Value("${spring.redis.host}")
-    private String host;
+    @Value("${redis.read-from:}")
+    private String readFrom;
 
-    @Value("${spring.redis.port}")
-    private int port;
+    @Value("${redis.pipeline-flush-threshold:0}")
+    private int pipelineFlushThreshold;
 
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(redisConfiguration(), clientConfiguration());
+        if (pipelineFlushThreshold > 0) {
+            // bulk pipeline 에서 명령마다 socket flush 하지 않도록 모아서 보낸다
+            connectionFactory.setPipeliningFlushPolicy(LettuceConnection.PipeliningFlushPolicy.buffered(pipelineFlushThreshold));
+        }
+        return connectionFactory;
     }
 
     @Bean
@@ -41,4 +88,126 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    // pub/sub 구독용 컨테이너 (listener 는 각 컴포넌트에서 등록)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
+
+    private RedisConfiguration redisConfiguration() {
+        RedisPassword password = RedisPassword.of(redisProperties.getPassword());
+
+        RedisProperties.Cluster cluster = redisProperties.getCluster();
+        if (cluster != null && cluster.getNodes() != null && !cluster.getNodes().isEmpty()) {
+            RedisClusterConfiguration configuration = new RedisClusterConfiguration(cluster.getNodes());
+            if (cluster.getMaxRedirects() != null) {
+                configuration.setMaxRedirects(cluster.getMaxRedirects());
+            }
+            configuration.setUsername(redisProperties.getUsername());
+            configuration.setPassword(password);
+            return configuration;
+        }
+
+        RedisProperties.Sentinel sentinel = redisProperties.getSentinel();
+        if (sentinel != null && StringUtils.hasText(sentinel.getMaster())) {
+            RedisSentinelConfiguration configuration = new RedisSentinelConfiguration(sentinel.getMaster(),
+                    new HashSet<>(sentinel.getNodes()));
+            configuration.setDatabase(redisProperties.getDatabase());
+            configuration.setUsername(redisProperties.getUsername());
+            configuration.setPassword(password);
+            configuration.setSentinelPassword(RedisPassword.of(sentinel.getPassword()));
+            return configuration;
+        }
+
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        configuration.setDatabase(redisProperties.getDatabase());
+        configuration.setUsername(redisProperties.getUsername());
+        configuration.setPassword(password);
+        return configuration;
+    }
+
+    private LettuceClientConfiguration clientConfiguration() {
+        RedisProperties.Lettuce lettuce = redisProperties.getLettuce();
+        RedisProperties.Pool pool = lettuce.getPool();
+        LettuceClientConfigurationBuilder builder = isPoolEnabled(pool)
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig(pool))
+                : LettuceClientConfiguration.builder();
+
+        Duration commandTimeout = redisProperties.getTimeout() != null ? redisProperties.getTimeout() : DEFAULT_COMMAND_TIMEOUT;
+        builder.commandTimeout(commandTimeout)
+                .clientOptions(clientOptions());
+        if (lettuce.getShutdownTimeout() != null) {
+            builder.shutdownTimeout(lettuce.getShutdownTimeout());
+        }
+        if (redisProperties.isSsl()) {
+            builder.useSsl();
+        }
+        if (StringUtils.hasText(redisProperties.getClientName())) {
+            builder.clientName(redisProperties.getClientName());
+        }
+        if (StringUtils.hasText(readFrom)) {
+            builder.readFrom(ReadFrom.valueOf(readFrom));
+        }
+        return builder.build();
+    }
+
+    private ClientOptions clientOptions() {
+        Duration connectTimeout = redisProperties.getConnectTimeout() != null
+                ? redisProperties.getConnectTimeout() : DEFAULT_CONNECT_TIMEOUT;
+        SocketOptions socketOptions = SocketOptions.builder()
+                .connectTimeout(connectTimeout)
+                .keepAlive(true)
+                .build();
+        // 연결이 끊긴 동안 명령을 쌓아 두지 않고 즉시 실패시켜 요청 스레드가 묶이지 않게 한다
+        TimeoutOptions timeoutOptions = TimeoutOptions.enabled();
+        ClientOptions.DisconnectedBehavior disconnectedBehavior = ClientOptions.DisconnectedBehavior.REJECT_COMMANDS;
+
+        RedisProperties.Cluster cluster = redisProperties.getCluster();
+        if (cluster != null && cluster.getNodes() != null && !cluster.getNodes().isEmpty()) {
+            return ClusterClientOptions.builder()
+                    .socketOptions(socketOptions)
+                    .timeoutOptions(timeoutOptions)
+                    .disconnectedBehavior(disconnectedBehavior)
+                    .topologyRefreshOptions(topologyRefreshOptions())
+                    .build();
+        }
+        return ClientOptions.builder()
+                .socketOptions(socketOptions)
+                .timeoutOptions(timeoutOptions)
+                .disconnectedBehavior(disconnectedBehavior)
+                .build();
+    }
+
+    // failover / resharding 후에도 새 topology 를 따라가도록 주기적 + 이벤트 기반 갱신
+    private ClusterTopologyRefreshOptions topologyRefreshOptions() {
+        RedisProperties.Lettuce.Cluster.Refresh refresh = redisProperties.getLettuce().getCluster().getRefresh();
+        ClusterTopologyRefreshOptions.Builder builder = ClusterTopologyRefreshOptions.builder()
+                .dynamicRefreshSources(refresh.isDynamicRefreshSources());
+        builder.enablePeriodicRefresh(refresh.getPeriod() != null ? refresh.getPeriod() : Duration.ofSeconds(30));
+        if (refresh.isAdaptive()) {
+            builder.enableAllAdaptiveRefreshTriggers();
+        }
+        return builder.build();
+    }
+
+    private boolean isPoolEnabled(RedisProperties.Pool pool) {
+        return pool != null && Boolean.TRUE.equals(pool.getEnabled());
+    }
+
+    private GenericObjectPoolConfig<?> poolConfig(RedisProperties.Pool pool) {
+        GenericObjectPoolConfig<?> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(pool.getMaxActive());
+        config.setMaxIdle(pool.getMaxIdle());
+        config.setMinIdle(pool.getMinIdle());
+        if (pool.getTimeBetweenEvictionRuns() != null) {
+            config.setTimeBetweenEvictionRuns(pool.getTimeBetweenEvictionRuns());
+        }
+        if (pool.getMaxWait() != null) {
+            config.setMaxWait(pool.getMaxWait());
+        }
+        return config;
+    }
 }
@@ -1,10 +1,28 @@
 package com.gymory.global.redis;
 
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
+/**
+ * 문자열 key/value 용 Redis 헬퍼.
+ * *Batch 메서드는 key 수와 관계없이 한 번의 pipeline 으로 처리하고,
+ * *Async 메서드는 Lettuce async API 로 호출 스레드를 막지 않는다.
+ */
 @Service
 public class RedisUtils {
 
@@ -18,11 +36,127 @@ public class RedisUtils {
         redisTemplate.opsForValue().set(key, value, expiredTime, TimeUnit.MILLISECONDS);
     }
 
+    // 여러 key 를 한 번의 pipeline 으로 저장
+    public void setDataBatch(Map<String, String> data, Long expiredTime){
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            data.forEach((key, value) -> connection.stringCommands()
+                    .pSetEx(serializer.serialize(key), expiredTime, serializer.serialize(value)));
+            return null;
+        });
+    }
+
+    // key 별 TTL(ms) 로 한 번의 pipeline 으로 저장. 모든 key 의 TTL 이 있어야 한다
+    public void setDataBatch(Map<String, String> data, Map<String, Long> expiredTimes){
+        data.keySet().forEach(key -> {
+            if (expiredTimes.get(key) == null) {
+                throw new IllegalArgumentException("Missing expired time for key: " + key);
+            }
+        });
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            data.forEach((key, value) -> connection.stringCommands()
+                    .pSetEx(serializer.serialize(key), expiredTimes.get(key), serializer.serialize(value)));
+            return null;
+        });
+    }
+
     public String getData(String key){
         return (String) redisTemplate.opsForValue().get(key);
     }
 
+    // MGET 한 번으로 조회. 없는 key 는 결과에서 제외된다
+    public Map<String, String> getDataBatch(Collection<String> keys){
+        Map<String, String> result = new LinkedHashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+        List<String> keyList = new ArrayList<>(keys);
+        List<Object> values = redisTemplate.opsForValue().multiGet(keyList);
+        if (values == null) {
+            return result;
+        }
+        for (int i = 0; i < keyList.size(); i++) {
+            if (values.get(i) != null) {
+                result.put(keyList.get(i), (String) values.get(i));
+            }
+        }
+        return result;
+    }
+
     public void deleteData(String key){
         redisTemplate.delete(key);
     }
-}
\ No newline at end of file
+
+    // key 마다 DEL 을 pipeline 으로 보낸다 (cluster 에서 slot 이 달라도 동작). 삭제된 key 수를 반환
+    public long deleteDataBatch(Collection<String> keys){
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.keyCommands().del(serializer.serialize(key)));
+            return null;
+        });
+        return results.stream()
+                .filter(Long.class::isInstance)
+                .mapToLong(Long.class::cast)
+                .sum();
+    }
+
+    public CompletableFuture<Void> setDataAsync(String key, String value, Long expiredTime){
+        return async(commands -> commands.psetex(utf8(key), expiredTime, utf8(value))).thenApply(ok -> null);
+    }
+
+    public CompletableFuture<String> getDataAsync(String key){
+        return async(commands -> commands.get(utf8(key)))
+                .thenApply(value -> value == null ? null : new String(value, StandardCharsets.UTF_8));
+    }
+
+    public CompletableFuture<Map<String, String>> getDataBatchAsync(Collection<String> keys){
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(new LinkedHashMap<>());
+        }
+        byte[][] rawKeys = keys.stream().map(RedisUtils::utf8).toArray(byte[][]::new);
+        return async(commands -> commands.mget(rawKeys)).thenApply(values -> {
+            Map<String, String> result = new LinkedHashMap<>();
+            values.forEach(keyValue -> {
+                if (keyValue.hasValue()) {
+                    result.put(new String(keyValue.getKey(), StandardCharsets.UTF_8),
+                            new String(keyValue.getValue(), StandardCharsets.UTF_8));
+                }
+            });
+            return result;
+        });
+    }
+
+    public CompletableFuture<Long> deleteDataAsync(String key){
+        return async(commands -> commands.del(utf8(key)));
+    }
+
+    public CompletableFuture<Long> deleteDataBatchAsync(Collection<String> keys){
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        byte[][] rawKeys = keys.stream().map(RedisUtils::utf8).toArray(byte[][]::new);
+        return async(commands -> commands.del(rawKeys));
+    }
+
+    // 공유 native connection 의 async 명령으로 실행한다. connection close 는 in-flight 명령에 영향을 주지 않는다
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> async(Function<RedisClusterAsyncCommands<byte[], byte[]>, RedisFuture<T>> command) {
+        RedisConnection connection = redisTemplate.getRequiredConnectionFactory().getConnection();
+        try {
+            return command.apply((RedisClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection())
+                    .toCompletableFuture();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            connection.close();
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,32 +0,0 @@
-package com.gymory.global.redis;
-
-import lombok.*;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.TimeToLive;
-import org.springframework.data.redis.core.index.Indexed;
-
-@Getter
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Builder
-@RedisHash(value = "refresh_token")
-public class RefreshToken {
-
-    @Id
-    private String authId;
-
-    @Indexed
-    private String token;
-
-    private String role;
-
-    @TimeToLive
-    private long ttl;
-
-    public RefreshToken update(String token, long ttl) {
-        this.token = token;
-        this.ttl = ttl;
-        return this;
-    }
-}
\ No newline at end of file
@@ -1,11 +0,0 @@
-package com.gymory.global.redis;
-
-import org.springframework.data.repository.CrudRepository;
-
-import java.util.Optional;
-
-public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
-
-    Optional<RefreshToken> findByToken(String token);
-    Optional<RefreshToken> findByAuthId(String authId);
-}
\ No newline at end of file
@@ -0,0 +1,213 @@
+package com.gymory.global.redis;
+
+import com.gymory.global.security.jwt.TokenDigests;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Refresh Token 저장소 (@RedisHash + @Indexed 대체).
+ *
+ * <pre>
+ * rt:{authId}        → [version(1)][role 길이(1)][role][token SHA-256(32)]   (TTL)
+ * rtx:{SHA-256(32)}  → authId                                                  (TTL)
+ * </pre>
+ * authId 는 로그인 세션(기기) 단위인 userId:jti 이며 {@link #sessionId} 로 만든다. 같은 사용자의 다른 기기 세션에는 영향을 주지 않는다.
+ * 세션당 key 2 개만 사용하며 토큰 원문은 저장하지 않는다.
+ * 두 key 의 갱신은 Lua script 로 원자적으로 처리하므로 cluster 에서는 같은 slot 을 보장하지 않는다 (standalone / sentinel 전제).
+ */
+@Component
+public class RefreshTokenStore {
+
+    private static final String AUTH_KEY_PREFIX = "rt:";
+    private static final byte[] TOKEN_KEY_PREFIX = "rtx:".getBytes(StandardCharsets.US_ASCII);
+    private static final byte VERSION = 1;
+    private static final int DIGEST_LENGTH = 32;
+
+    // KEYS[1] = rt:{authId}, KEYS[2] = rtx:{digest}, ARGV[1] = value, ARGV[2] = authId, ARGV[3] = TTL(ms)
+    private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of(
+            "local old = redis.call('GET', KEYS[1]) "
+                    + "if old then redis.call('DEL', 'rtx:' .. string.sub(old, -32)) end "
+                    + "redis.call('PSETEX', KEYS[1], ARGV[3], ARGV[1]) "
+                    + "redis.call('PSETEX', KEYS[2], ARGV[3], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    // SAVE 와 같고 ARGV[4] = 기대하는 현재 digest. 1 = 교체, 0 = 다른 토큰이 저장되어 있음, -1 = 없음
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of(
+            "local old = redis.call('GET', KEYS[1]) "
+                    + "if not old then return -1 end "
+                    + "if string.sub(old, -32) ~= ARGV[4] then return 0 end "
+                    + "redis.call('DEL', 'rtx:' .. ARGV[4]) "
+                    + "redis.call('PSETEX', KEYS[1], ARGV[3], ARGV[1]) "
+                    + "redis.call('PSETEX', KEYS[2], ARGV[3], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    // KEYS[1] = rt:{authId}
+    private static final RedisScript<Long> DELETE_SCRIPT = RedisScript.of(
+            "local old = redis.call('GET', KEYS[1]) "
+                    + "if not old then return 0 end "
+                    + "redis.call('DEL', 'rtx:' .. string.sub(old, -32), KEYS[1]) "
+                    + "return 1",
+            Long.class);
+
+    private final RedisTemplate<byte[], byte[]> redisTemplate;
+
+    public RefreshTokenStore(RedisConnectionFactory redisConnectionFactory) {
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.byteArray());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.setEnableDefaultSerializer(false);
+        redisTemplate.afterPropertiesSet();
+    }
+
+    // TOKEN_SESSION 의 (USER_ID, TOKEN_ID) 와 같은 세션 키
+    public static String sessionId(Long userId, String tokenId) {
+        return userId + ":" + tokenId;
+    }
+
+    public void save(String authId, String refreshToken, String role, long ttlMillis) {
+        byte[] digest = TokenDigests.sha256Bytes(refreshToken);
+        redisTemplate.execute(SAVE_SCRIPT, List.of(authKey(authId), tokenKey(digest)),
+                encode(role, digest), utf8(authId), utf8(String.valueOf(ttlMillis)));
+    }
+
+    // 여러 세션을 한 번의 pipeline 으로 저장 (SCRIPT LOAD 후 EVALSHA)
+    public void saveAll(Collection<Session> sessions) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        byte[] script = utf8(SAVE_SCRIPT.getScriptAsString());
+        String sha = SAVE_SCRIPT.getSha1();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.scriptingCommands().scriptLoad(script);
+            for (Session session : sessions) {
+                byte[] digest = TokenDigests.sha256Bytes(session.getRefreshToken());
+                connection.scriptingCommands().evalSha(sha, ReturnType.INTEGER, 2,
+                        authKey(session.getAuthId()), tokenKey(digest),
+                        encode(session.getRole(), digest), utf8(session.getAuthId()),
+                        utf8(String.valueOf(session.getTtlMillis())));
+            }
+            return null;
+        });
+    }
+
+    // 저장된 토큰이 currentToken 일 때만 newToken 으로 교체
+    public RotateResult rotate(String authId, String currentToken, String newToken, String role, long ttlMillis) {
+        byte[] newDigest = TokenDigests.sha256Bytes(newToken);
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(authKey(authId), tokenKey(newDigest)),
+                encode(role, newDigest), utf8(authId), utf8(String.valueOf(ttlMillis)),
+                TokenDigests.sha256Bytes(currentToken));
+        if (result == null || result == -1) {
+            return RotateResult.NOT_FOUND;
+        }
+        return result == 1 ? RotateResult.ROTATED : RotateResult.STALE;
+    }
+
+    public Optional<StoredRefreshToken> findByAuthId(String authId) {
+        byte[] value = redisTemplate.opsForValue().get(authKey(authId));
+        return value == null ? Optional.empty() : Optional.of(decode(authId, value));
+    }
+
+    // 토큰으로 authId 조회. 교체된 토큰의 역참조가 남아 있더라도 현재 저장된 토큰과 비교해 걸러낸다.
+    public Optional<String> findAuthIdByToken(String refreshToken) {
+        byte[] digest = TokenDigests.sha256Bytes(refreshToken);
+        byte[] authId = redisTemplate.opsForValue().get(tokenKey(digest));
+        if (authId == null) {
+            return Optional.empty();
+        }
+        String id = new String(authId, StandardCharsets.UTF_8);
+        return findByAuthId(id)
+                .filter(stored -> MessageDigest.isEqual(stored.getTokenDigest(), digest))
+                .map(StoredRefreshToken::getAuthId);
+    }
+
+    public Optional<Long> getTtlMillis(String authId) {
+        Long ttl = redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.keyCommands().pTtl(authKey(authId)));
+        return ttl == null || ttl < 0 ? Optional.empty() : Optional.of(ttl);
+    }
+
+    public boolean delete(String authId) {
+        Long result = redisTemplate.execute(DELETE_SCRIPT, List.of(authKey(authId)));
+        return result != null && result == 1;
+    }
+
+    private static byte[] authKey(String authId) {
+        return utf8(AUTH_KEY_PREFIX + authId);
+    }
+
+    private static byte[] tokenKey(byte[] digest) {
+        byte[] key = Arrays.copyOf(TOKEN_KEY_PREFIX, TOKEN_KEY_PREFIX.length + digest.length);
+        System.arraycopy(digest, 0, key, TOKEN_KEY_PREFIX.length, digest.length);
+        return key;
+    }
+
+    private static byte[] encode(String role, byte[] digest) {
+        byte[] roleBytes = utf8(role == null ? "" : role);
+        if (roleBytes.length > 255) {
+            throw new IllegalArgumentException("role is too long: " + role);
+        }
+        return ByteBuffer.allocate(2 + roleBytes.length + DIGEST_LENGTH)
+                .put(VERSION)
+                .put((byte) roleBytes.length)
+                .put(roleBytes)
+                .put(digest)
+                .array();
+    }
+
+    private static StoredRefreshToken decode(String authId, byte[] value) {
+        if (value.length < 2 + DIGEST_LENGTH || value[0] != VERSION) {
+            throw new IllegalStateException("Unknown refresh token value format, authId = " + authId);
+        }
+        int roleLength = value[1] & 0xFF;
+        String role = new String(value, 2, roleLength, StandardCharsets.UTF_8);
+        byte[] digest = Arrays.copyOfRange(value, value.length - DIGEST_LENGTH, value.length);
+        return new StoredRefreshToken(authId, role, digest);
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public enum RotateResult {
+        ROTATED, STALE, NOT_FOUND
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Session {
+        private final String authId;
+        private final String refreshToken;
+        private final String role;
+        private final long ttlMillis;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class StoredRefreshToken {
+        private final String authId;
+        private final String role;
+        private final byte[] tokenDigest;
+
+        public boolean matches(String refreshToken) {
+            return MessageDigest.isEqual(tokenDigest, TokenDigests.sha256Bytes(refreshToken));
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.gymory.global.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * near-cache(노드별 Caffeine) + remote(Redis) 2단 캐시.
+ * put / evict / clear 는 Redis 에 반영한 뒤 pub/sub 로 알려 다른 노드의 near-cache 항목을 제거한다.
+ * near-cache 를 끈 캐시는 Redis 만 사용한다.
+ * get(key, loader) 의 로딩 방식은 CacheLoadOptions 를 따른다 (RedisCache 의 캐시 단위 synchronized 로딩은 쓰지 않는다).
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final Cache remote;
+    // null 이면 near-cache 사용 안 함. 값은 store value(NullValue 포함) 또는 CacheEntry 로 보관
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> near;
+    private final TwoTierCacheManager.InvalidationPublisher invalidationPublisher;
+    private final CacheLease cacheLease;
+    private final Executor refreshExecutor;
+    private final Duration ttl;
+    private volatile CacheLoadOptions loadOptions;
+
+    // 이 노드에서 miss 로 로딩 중인 key
+    private final Map<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    // 이 노드에서 background 갱신 중인 key. 다른 노드가 갱신 중이면 값 없이 끝나므로 miss 로딩과 공유하지 않는다
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Counter nearHitCounter;
+    private final Counter nearMissCounter;
+    private final Counter remoteHitCounter;
+    private final Counter remoteMissCounter;
+    private final Counter earlyRefreshCounter;
+
+    TwoTierCache(Cache remote, com.github.benmanes.caffeine.cache.Cache<String, Object> near,
+                 TwoTierCacheManager.InvalidationPublisher invalidationPublisher, CacheLease cacheLease,
+                 Executor refreshExecutor, Duration ttl, CacheLoadOptions loadOptions, MeterRegistry meterRegistry) {
+        super(true);
+        this.remote = remote;
+        this.near = near;
+        this.invalidationPublisher = invalidationPublisher;
+        this.cacheLease = cacheLease;
+        this.refreshExecutor = refreshExecutor;
+        this.ttl = ttl;
+        this.loadOptions = loadOptions;
+
+        String name = remote.getName();
+        nearHitCounter = counter(meterRegistry, name, "near", "hit");
+        nearMissCounter = counter(meterRegistry, name, "near", "miss");
+        remoteHitCounter = counter(meterRegistry, name, "remote", "hit");
+        remoteMissCounter = counter(meterRegistry, name, "remote", "miss");
+        earlyRefreshCounter = Counter.builder("cache.early.refresh").tag("cache", name).register(meterRegistry);
+        Gauge.builder("cache.tier.hit.ratio", this, cache -> ratio(cache.nearHitCounter, cache.nearMissCounter))
+                .tag("cache", name).tag("tier", "near")
+                .register(meterRegistry);
+        Gauge.builder("cache.tier.hit.ratio", this, cache -> ratio(cache.remoteHitCounter, cache.remoteMissCounter))
+                .tag("cache", name).tag("tier", "remote")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    public CacheLoadOptions getLoadOptions() {
+        return loadOptions;
+    }
+
+    void setLoadOptions(CacheLoadOptions loadOptions) {
+        this.loadOptions = loadOptions;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        return unwrap(lookupStored(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return get(key, valueLoader, loadOptions);
+    }
+
+    /**
+     * 캐시에서 조회하고, 없으면 options 에 따라 한 번만 로딩해 저장한다.
+     * 캐시 값이 XFetch 조건을 만족하면 현재 값을 반환하고 background 에서 갱신한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader, CacheLoadOptions options) {
+        Object stored = lookupStored(key);
+        if (stored != null) {
+            if (stored instanceof CacheEntry entry && shouldRefreshEarly(entry, options)) {
+                refreshInBackground(key, valueLoader, options);
+            }
+            return (T) fromStoreValue(unwrap(stored));
+        }
+
+        String nearKey = nearKey(key);
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(nearKey, created);
+        if (inFlight != null) {
+            return (T) fromStoreValue(await(inFlight));
+        }
+        try {
+            Object storeValue = loadAcrossNodes(key, valueLoader, options, false);
+            created.complete(storeValue);
+            return (T) fromStoreValue(storeValue);
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(nearKey, created);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        nearPut(key, toStoreValue(value));
+        publishEvict(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        if (existing == null) {
+            nearPut(key, toStoreValue(value));
+            publishEvict(key);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        evictLocal(key);
+        publishEvict(key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        if (near != null) {
+            invalidationPublisher.clear(getName());
+        }
+    }
+
+    // near-cache 설정은 모든 노드가 같으므로 near-cache 가 없는 캐시는 전파하지 않는다
+    private void publishEvict(Object key) {
+        if (near != null) {
+            invalidationPublisher.evict(getName(), key);
+        }
+    }
+
+    // 다른 노드의 변경 수신
+    void evictLocal(Object key) {
+        if (near != null) {
+            near.invalidate(nearKey(key));
+        }
+    }
+
+    void clearLocal() {
+        if (near != null) {
+            near.invalidateAll();
+        }
+    }
+
+    // near → remote 순으로 조회. CacheEntry 는 그대로 반환
+    private Object lookupStored(Object key) {
+        Object nearValue = nearGet(key);
+        if (nearValue != null) {
+            return nearValue;
+        }
+        Object stored = remoteGet(key);
+        if (stored == null) {
+            remoteMissCounter.increment();
+            return null;
+        }
+        remoteHitCounter.increment();
+        nearPut(key, stored);
+        return stored;
+    }
+
+    private Object remoteGet(Object key) {
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        return value instanceof CacheEntry ? value : toStoreValue(value);
+    }
+
+    // lease 를 쓰면 lease 를 얻은 노드만 로딩하고, 나머지는 Redis 에 값이 채워질 때까지 기다린다
+    private Object loadAcrossNodes(Object key, Callable<?> valueLoader, CacheLoadOptions options, boolean background) {
+        if (!options.isLease()) {
+            return loadAndStore(key, valueLoader, options);
+        }
+        String nearKey = nearKey(key);
+        String token = UUID.randomUUID().toString();
+        boolean acquired;
+        try {
+            acquired = cacheLease.tryAcquire(getName(), nearKey, token, options.getLeaseTimeout());
+        } catch (RuntimeException e) {
+            log.warn("Failed to acquire cache lease, loading locally: {}", getName(), e);
+            return loadAndStore(key, valueLoader, options);
+        }
+
+        if (acquired) {
+            try {
+                // 다른 노드가 방금 저장했을 수 있다
+                Object stored = background ? null : remoteGet(key);
+                if (stored != null) {
+                    nearPut(key, stored);
+                    return unwrap(stored);
+                }
+                return loadAndStore(key, valueLoader, options);
+            } finally {
+                releaseQuietly(nearKey, token);
+            }
+        }
+        if (background) {
+            // 다른 노드가 이미 갱신 중. 기존 값이 남아 있으므로 기다리지 않는다
+            return null;
+        }
+
+        long deadline = System.nanoTime() + options.getLeaseTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            sleep(options.getLeasePollInterval());
+            Object stored = remoteGet(key);
+            if (stored != null) {
+                nearPut(key, stored);
+                return unwrap(stored);
+            }
+        }
+        // lease 를 가진 노드가 timeout 안에 저장하지 못하면 직접 로딩
+        return loadAndStore(key, valueLoader, options);
+    }
+
+    private Object loadAndStore(Object key, Callable<?> valueLoader, CacheLoadOptions options) {
+        long start = System.currentTimeMillis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long now = System.currentTimeMillis();
+        Object storeValue = toStoreValue(value);
+
+        // XFetch 를 쓰는 캐시는 계산 시간과 만료 시각을 함께 저장한다
+        Object stored = options.getBeta() > 0 ? new CacheEntry(storeValue, now - start, now + ttl.toMillis()) : storeValue;
+        remote.put(key, stored instanceof CacheEntry ? stored : value);
+        nearPut(key, stored);
+        publishEvict(key);
+        return storeValue;
+    }
+
+    // XFetch: now - delta * beta * ln(rand) >= expiry
+    private boolean shouldRefreshEarly(CacheEntry entry, CacheLoadOptions options) {
+        if (options.getBeta() <= 0 || entry.getDeltaMillis() <= 0) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        double gap = -entry.getDeltaMillis() * options.getBeta() * Math.log(random);
+        return System.currentTimeMillis() + gap >= entry.getExpiresAtMillis();
+    }
+
+    private void refreshInBackground(Object key, Callable<?> valueLoader, CacheLoadOptions options) {
+        String nearKey = nearKey(key);
+        if (!refreshing.add(nearKey)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    earlyRefreshCounter.increment();
+                    loadAcrossNodes(key, valueLoader, options, true);
+                } catch (RuntimeException e) {
+                    log.warn("Early cache refresh failed: {}", getName(), e);
+                } finally {
+                    refreshing.remove(nearKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 갱신 스레드가 포화되면 이번 갱신은 건너뛴다
+            refreshing.remove(nearKey);
+        }
+    }
+
+    private void releaseQuietly(String nearKey, String token) {
+        try {
+            cacheLease.release(getName(), nearKey, token);
+        } catch (RuntimeException e) {
+            // lease 는 timeout 후 자동으로 만료된다
+            log.warn("Failed to release cache lease: {}", getName(), e);
+        }
+    }
+
+    private Object nearGet(Object key) {
+        if (near == null) {
+            return null;
+        }
+        Object value = near.getIfPresent(nearKey(key));
+        if (value != null) {
+            nearHitCounter.increment();
+        } else {
+            nearMissCounter.increment();
+        }
+        return value;
+    }
+
+    private void nearPut(Object key, Object stored) {
+        if (near != null && stored != null) {
+            near.put(nearKey(key), stored);
+        }
+    }
+
+    private static Object unwrap(Object stored) {
+        return stored instanceof CacheEntry entry ? entry.getValue() : stored;
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for cache lease", e);
+        }
+    }
+
+    // pub/sub 메시지로 주고받을 수 있도록 RedisCache 와 같은 방식(toString) 으로 key 를 문자열화한다
+    static String nearKey(Object key) {
+        return key instanceof String stringKey ? stringKey : String.valueOf(key);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String cacheName, String tier, String result) {
+        return Counter.builder("cache.tier.requests")
+                .tag("cache", cacheName)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static double ratio(Counter hit, Counter miss) {
+        double hits = hit.count();
+        double total = hits + miss.count();
+        return total == 0 ? 0 : hits / total;
+    }
+}
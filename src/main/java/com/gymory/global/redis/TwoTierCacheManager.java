@@ -0,0 +1,153 @@
+package com.gymory.global.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RedisCacheManager 앞에 노드별 Caffeine near-cache 를 두는 CacheManager.
+ * 변경은 {@value #CHANNEL} 채널로 전파되며, 자신이 보낸 메시지는 무시한다.
+ * 캐시별 로딩 방식은 setLoadOptions (또는 @CacheLoading) 로 지정하고, 없으면 cache.redis.load.* 를 따른다.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener, DisposableBean {
+
+    public static final String CHANNEL = "cache-invalidation";
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+    private static final String SEPARATOR = "\n";
+
+    private final CacheManager remoteCacheManager;
+    private final RedisCacheProperties cacheProperties;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, CacheLoadOptions> loadOptions = new ConcurrentHashMap<>();
+    private final InvalidationPublisher invalidationPublisher = new InvalidationPublisher();
+    private final CacheLease cacheLease;
+    // XFetch 조기 갱신용. 큐가 가득 차면 갱신을 건너뛴다
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager, RedisCacheProperties cacheProperties,
+                               RedisTemplate<String, Object> redisTemplate,
+                               RedisMessageListenerContainer redisMessageListenerContainer, MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.cacheProperties = cacheProperties;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.cacheLease = new CacheLease(redisTemplate);
+
+        RedisCacheProperties.Load load = cacheProperties.getLoad();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(load.getRefreshThreads(), load.getRefreshThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(load.getRefreshQueueCapacity()), runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new TwoTierCache(remote, nearCache(name), invalidationPublisher,
+                cacheLease, refreshExecutor, cacheProperties.getTtls().getOrDefault(name, cacheProperties.getDefaultTtl()),
+                loadOptions.getOrDefault(name, cacheProperties.getLoad().toOptions()), meterRegistry));
+    }
+
+    /**
+     * 캐시의 로딩 방식을 지정한다. 이미 생성된 캐시에도 바로 반영된다.
+     */
+    public void setLoadOptions(String cacheName, CacheLoadOptions options) {
+        loadOptions.put(cacheName, options);
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.setLoadOptions(options);
+        }
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] fields = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        if (fields.length < 3 || nodeId.equals(fields[1])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(fields[2]);
+        if (cache == null) {
+            return;
+        }
+        if (CLEAR.equals(fields[0])) {
+            cache.clearLocal();
+        } else if (fields.length == 4) {
+            cache.evictLocal(fields[3]);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache(String name) {
+        RedisCacheProperties.Near nearProperties = cacheProperties.getNear();
+        if (!nearProperties.isEnabled(name)) {
+            return null;
+        }
+        return Caffeine.newBuilder()
+                .maximumSize(nearProperties.getMaximumSize(name))
+                .expireAfterWrite(nearProperties.getTtl(name))
+                .build();
+    }
+
+    // 메시지 형식: op \n nodeId \n cacheName [\n key]
+    class InvalidationPublisher {
+        void evict(String cacheName, Object key) {
+            publish(EVICT + SEPARATOR + nodeId + SEPARATOR + cacheName + SEPARATOR + TwoTierCache.nearKey(key));
+        }
+
+        void clear(String cacheName) {
+            publish(CLEAR + SEPARATOR + nodeId + SEPARATOR + cacheName);
+        }
+
+        // 전파 실패 시 다른 노드는 near-cache TTL 이 지나면 갱신된다
+        private void publish(String message) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, message);
+            } catch (RuntimeException e) {
+                log.warn("Failed to publish cache invalidation", e);
+            }
+        }
+    }
+}
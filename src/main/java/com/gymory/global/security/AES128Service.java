@@ -8,54 +8,113 @@ import org.springframework.stereotype.Component;
 import javax.annotation.PostConstruct;
 import javax.crypto.Cipher;
 import javax.crypto.NoSuchPaddingException;
-import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * AES-GCM 암복호화.
+ * 암호문 형식은 Base64(IV(12bytes) || ciphertext || tag(16bytes)) 이며, 메시지마다 새로운 IV 를 사용한다.
+ * Cipher 는 thread-safe 하지 않으므로 요청 스레드마다 pool 에서 빌려 쓰고 반납한다.
+ */
 @Component
 public class AES128Service {
     private static final Charset ENCODING_TYPE = StandardCharsets.UTF_8;
-    private static final String INSTANCE_TYPE = "AES/CBC/PKCS5Padding";
+    private static final String INSTANCE_TYPE = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;        // 96bits (GCM 권장)
+    private static final int TAG_LENGTH_BITS = 128;
 
     @Value("${aes.secret-key}")
     private String secretKey;
-    private IvParameterSpec ivParameterSpec;
+
+    @Value("${aes.engine-pool-size:64}")
+    private int enginePoolSize;
+
     private SecretKeySpec secretKeySpec;
-    private Cipher cipher;
+    private final Queue<CipherEngine> engines = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleEngines = new AtomicInteger();
 
     @PostConstruct
     public void init() throws NoSuchPaddingException, NoSuchAlgorithmException {
-        SecureRandom secureRandom = new SecureRandom();
-        byte[] iv = new byte[16];   // 16bytes = 128bits
-        secureRandom.nextBytes(iv);
-        ivParameterSpec = new IvParameterSpec(iv);
         secretKeySpec = new SecretKeySpec(secretKey.getBytes(ENCODING_TYPE), "AES");
-        cipher = Cipher.getInstance(INSTANCE_TYPE);
+        // 설정 오류(알고리즘 미지원 등)는 기동 시점에 드러나도록 미리 하나 생성해 둔다
+        release(new CipherEngine());
     }
 
     // AES 암호화
     public String encryptAes(String plaintext) {
+        CipherEngine engine = null;
         try {
-            cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec, ivParameterSpec);
-            byte[] encryted = cipher.doFinal(plaintext.getBytes(ENCODING_TYPE));
-            return new String(Base64.getEncoder().encode(encryted), ENCODING_TYPE);
+            engine = acquire();
+            byte[] iv = new byte[IV_LENGTH];
+            engine.random.nextBytes(iv);
+            engine.cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+            byte[] plainBytes = plaintext.getBytes(ENCODING_TYPE);
+            byte[] message = new byte[IV_LENGTH + engine.cipher.getOutputSize(plainBytes.length)];
+            System.arraycopy(iv, 0, message, 0, IV_LENGTH);
+            engine.cipher.doFinal(plainBytes, 0, plainBytes.length, message, IV_LENGTH);
+            return Base64.getEncoder().encodeToString(message);
         } catch (Exception e) {
             throw new BusinessException(ErrorCode.ENCRYPTION_FAILED);
+        } finally {
+            release(engine);
         }
     }
 
     // AES 복호화
-    public String decryptAes(String plaintext) {
+    public String decryptAes(String ciphertext) {
+        CipherEngine engine = null;
         try {
-            cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, ivParameterSpec);
-            byte[] decoded = Base64.getDecoder().decode(plaintext.getBytes(ENCODING_TYPE));
-            return new String(cipher.doFinal(decoded), ENCODING_TYPE);
+            byte[] decoded = Base64.getDecoder().decode(ciphertext.getBytes(ENCODING_TYPE));
+            if (decoded.length <= IV_LENGTH) {
+                throw new BusinessException(ErrorCode.DECRYPTION_FAILED);
+            }
+            engine = acquire();
+            engine.cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, new GCMParameterSpec(TAG_LENGTH_BITS, decoded, 0, IV_LENGTH));
+            byte[] plainBytes = engine.cipher.doFinal(decoded, IV_LENGTH, decoded.length - IV_LENGTH);
+            return new String(plainBytes, ENCODING_TYPE);
         } catch (Exception e) {
             throw new BusinessException(ErrorCode.DECRYPTION_FAILED);
+        } finally {
+            release(engine);
+        }
+    }
+
+    private CipherEngine acquire() throws NoSuchPaddingException, NoSuchAlgorithmException {
+        CipherEngine engine = engines.poll();
+        if (engine == null) {
+            return new CipherEngine();
+        }
+        idleEngines.decrementAndGet();
+        return engine;
+    }
+
+    // pool 이 가득 차 있으면 버린다 (GC 대상)
+    private void release(CipherEngine engine) {
+        if (engine == null) {
+            return;
+        }
+        if (idleEngines.incrementAndGet() <= enginePoolSize) {
+            engines.offer(engine);
+        } else {
+            idleEngines.decrementAndGet();
+        }
+    }
+
+    private static class CipherEngine {
+        private final Cipher cipher;
+        private final SecureRandom random;
+
+        private CipherEngine() throws NoSuchPaddingException, NoSuchAlgorithmException {
+            this.cipher = Cipher.getInstance(INSTANCE_TYPE);
+            this.random = new SecureRandom();
         }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,8 @@
 package com.gymory.global.security;
 
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.ErrorResponseWriter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
@@ -10,10 +13,13 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 @Slf4j
+@RequiredArgsConstructor
 public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint {
+    private final ErrorResponseWriter errorResponseWriter;
+
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) throws IOException, ServletException, IOException {
-        log.error("가입되지 않은 사용자 접근");
-        response.sendRedirect("/signin");
+        log.debug("가입되지 않은 사용자 접근");
+        errorResponseWriter.write(response, ErrorCode.NEED_LOGIN);
     }
 }
@@ -1,19 +1,19 @@
 package com.gymory.global.security;
 
+import com.gymory.global.code.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class CustomAuthenticationProvider implements AuthenticationProvider {
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final CustomUserDetailsService customUserDetailsService;
 
     @Override
@@ -47,10 +47,15 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
             throw new AccountExpiredException("User account has expired");
         }
         /* 실질적인 인증 */
-        if(!passwordEncoder.matches(password, loadedUser.getPassword())){
+        if(!matches(password, loadedUser.getPassword())){
             log.info("Password does not match stored value");
             throw new BadCredentialsException("Password does not match stored value");
         }
+        /* cost factor 가 변경된 경우 재해시 */
+        if(passwordHashingService.upgradeEncoding(loadedUser.getPassword())){
+            passwordHashingService.rehashAsync(password,
+                    encoded -> customUserDetailsService.updatePassword(loadedUser, encoded));
+        }
         /* checker */
         if(!loadedUser.isCredentialsNonExpired()){
             log.info("User credentials have expired");
@@ -62,6 +67,15 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
         return result;
     }
 
+    // 해시 executor 포화 시 다른 provider 로 넘기지 않고 즉시 실패
+    private boolean matches(String password, String encodedPassword) {
+        try {
+            return passwordHashingService.matches(password, encodedPassword);
+        } catch (BusinessException e) {
+            throw new InternalAuthenticationServiceException(e.getMessage(), e);
+        }
+    }
+
     @Override
     public boolean supports(Class<?> authentication) {
         return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
@@ -36,6 +36,13 @@ public class CustomUserDetails extends UserBase implements UserDetails {
         this.userRole = userRole;
     }
 
+    private CustomUserDetails(Long id, String email, String password, String userRole) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.userRole = userRole;
+    }
+
     public static CustomUserDetails of(UserBase user) {
         return new CustomUserDetails(user);
     }
@@ -48,6 +55,10 @@ public class CustomUserDetails extends UserBase implements UserDetails {
         return new CustomUserDetails(email, password, role);
     }
 
+    public static CustomUserDetails of(Long id, String email, String password, String role) {
+        return new CustomUserDetails(id, email, password, role);
+    }
+
     @Override
     public List<GrantedAuthority> getAuthorities() {
         return CustomAuthorityUtils.createAuthorities(userRole);
@@ -4,31 +4,68 @@ import com.gymory.domain.user.userbase.data.UserBase;
 import com.gymory.domain.user.userbase.repository.UserJpaRepository;
 import com.gymory.global.code.error.ErrorCode;
 import com.gymory.global.code.error.exception.BusinessException;
+import com.gymory.global.log.LogSampler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+    private static final LogSampler LOAD_LOG = LogSampler.oneIn(100);
+
     private final UserJpaRepository userJpaRepository;
+    private final UserDetailsCache userDetailsCache;
 
+    // 캐시 hit 시 트랜잭션(DB 커넥션)을 열지 않도록 SUPPORTS
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        UserDetails userDetails = userJpaRepository.findByEmail(email)
+        UserDetails userDetails = userDetailsCache.get(email, this::loadFromDatabase);
+        // toString 에는 비밀번호 해시가 포함되므로 email 만 남긴다
+        if (log.isDebugEnabled() && LOAD_LOG.tryAcquire()) {
+            log.debug("user details loaded = {}", email);
+        }
+        return userDetails;
+    }
+
+    // 재해시된 비밀번호 저장
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserBase userBase = userJpaRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_EXIST));
+        userBase.changePassword(newPassword);
+        evictAfterCommit(userBase.getEmail());
+        return createUserDetails(userBase);
+    }
+
+    private CustomUserDetails loadFromDatabase(String email) {
+        return userJpaRepository.findByEmail(email)
                 .map(this::createUserDetails)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_EXIST));
-        log.info(userDetails.toString());
-        return userDetails;
     }
 
-    private UserDetails createUserDetails(UserBase user) {
+    // commit 전에 지우면 다른 요청이 이전 값을 다시 캐시할 수 있으므로 commit 이후 제거
+    private void evictAfterCommit(String email) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userDetailsCache.evict(email);
+            }
+        });
+    }
+
+    private CustomUserDetails createUserDetails(UserBase user) {
         return CustomUserDetails.of(user);
     }
-}
\ No newline at end of file
+}
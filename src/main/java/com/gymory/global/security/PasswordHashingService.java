@@ -0,0 +1,171 @@
+package com.gymory.global.security;
+
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * BCrypt 해시 전용 executor.
+ * 요청 스레드가 직접 해시하지 않고, 크기와 대기열이 제한된 pool 에 맡긴다.
+ * pool 이 포화되면 즉시 TOO_MANY_REQUESTS(429) 로 거절해 다른 API 가 Tomcat 스레드를 잃지 않도록 한다.
+ * virtual thread 모드에서도 CPU 를 쓰는 해시는 이 platform thread pool 에서만 수행한다.
+ *
+ * hash-timeout-millis 는 대기열 대기 시간을 포함한다. timeout 시 대기 중인 작업은 취소되어 실행되지 않지만,
+ * 이미 실행 중인 BCrypt 는 interrupt 를 확인하지 않으므로 끝까지 수행된다.
+ * 따라서 timeout 으로 429 를 응답한 뒤에도 해당 스레드는 최대 해시 1회 시간 동안 점유되며,
+ * 동시에 점유될 수 있는 작업은 최대 hash-threads + hash-queue-capacity 건이다.
+ * timeout 은 (hash-queue-capacity / hash-threads + 1) × 해시 1회 시간보다 크게 잡아 정상 부하에서 발생하지 않도록 한다.
+ *
+ * 재해시 결과 저장(DB 쓰기)은 해시 pool 이 아닌 별도의 단일 스레드 executor 에서 수행해, DB 가 느려도 해시 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    // 0 이하이면 CPU 코어 수
+    @Value("${security.password.hash-threads:0}")
+    private int hashThreads;
+
+    @Value("${security.password.hash-queue-capacity:64}")
+    private int hashQueueCapacity;
+
+    @Value("${security.password.hash-timeout-millis:5000}")
+    private long hashTimeoutMillis;
+
+    // 재해시 결과 저장 대기열. 가득 차면 저장을 건너뛰고 다음 로그인에서 다시 재해시한다
+    @Value("${security.password.rehash-write-queue-capacity:256}")
+    private int rehashWriteQueueCapacity;
+
+    private ThreadPoolExecutor executor;
+    private ThreadPoolExecutor rehashWriteExecutor;
+    private Timer encodeTimer;
+    private Timer matchesTimer;
+    private Counter saturatedCounter;
+    private Counter timeoutCounter;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(hashQueueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        rehashWriteExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(rehashWriteQueueCapacity),
+                new CustomizableThreadFactory("password-rehash-write-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        encodeTimer = Timer.builder("password.hash.latency").tag("operation", "encode").register(meterRegistry);
+        matchesTimer = Timer.builder("password.hash.latency").tag("operation", "matches").register(meterRegistry);
+        saturatedCounter = Counter.builder("password.hash.rejected").tag("reason", "saturated").register(meterRegistry);
+        timeoutCounter = Counter.builder("password.hash.rejected").tag("reason", "timeout").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        rehashWriteExecutor.shutdown();
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    // 저장된 해시의 cost 가 설정값보다 낮은지 확인 (해시 연산 없음)
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // 응답을 기다리게 하지 않고 재해시. 해시는 해시 pool 에서, onEncoded(저장)는 저장 전용 스레드에서 실행한다.
+    // 어느 쪽이든 포화 상태면 다음 로그인으로 미룬다.
+    public void rehashAsync(CharSequence rawPassword, Consumer<String> onEncoded) {
+        try {
+            executor.execute(() -> {
+                String encoded;
+                try {
+                    encoded = encodeTimer.record(() -> passwordEncoder.encode(rawPassword));
+                } catch (RuntimeException e) {
+                    log.warn("Password rehash failed", e);
+                    return;
+                }
+                writeRehashed(encoded, onEncoded);
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Password rehash skipped, hashing executor is saturated");
+        }
+    }
+
+    private void writeRehashed(String encoded, Consumer<String> onEncoded) {
+        try {
+            rehashWriteExecutor.execute(() -> {
+                try {
+                    onEncoded.accept(encoded);
+                } catch (RuntimeException e) {
+                    log.warn("Rehashed password write failed", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Rehashed password write skipped, write executor is saturated");
+        }
+    }
+
+    private <T> T execute(Callable<T> task, Timer timer) {
+        Future<T> future;
+        try {
+            future = executor.submit(timer.wrap(task));
+        } catch (RejectedExecutionException e) {
+            saturatedCounter.increment();
+            throw new BusinessException("Password hashing executor is saturated", ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        try {
+            return future.get(hashTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에 있던 작업만 실제로 취소된다. 실행 중인 해시는 끝날 때까지 스레드를 점유한다
+            future.cancel(true);
+            timeoutCounter.increment();
+            throw new BusinessException("Password hashing timed out", ErrorCode.TOO_MANY_REQUESTS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
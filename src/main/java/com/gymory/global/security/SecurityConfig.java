@@ -1,13 +1,19 @@
 package com.gymory.global.security;
 
-import com.gymory.domain.user.userbase.service.UserService;
-import com.gymory.global.redis.RedisUtils;
+import com.gymory.domain.user.userbase.service.TokenWriteBehindService;
+import com.gymory.global.code.error.ErrorResponseWriter;
 import com.gymory.global.security.handler.CustomAccessDeniedHandler;
 import com.gymory.global.security.handler.LoginFailureHandler;
 import com.gymory.global.security.handler.LoginSuccessHandler;
 import com.gymory.global.security.jwt.JwtTokenProvider;
 import com.gymory.global.security.jwt.JwtVerificationFilter;
+import com.gymory.global.security.jwt.TokenRevocationService;
 import com.gymory.global.security.jwt.JwtAuthenticationFilter;
+import com.gymory.global.security.ratelimit.RateLimitFilter;
+import com.gymory.global.security.ratelimit.RateLimiter;
+import com.gymory.global.security.route.RouteAuthorizationManager;
+import com.gymory.global.security.route.RoutePolicy;
+import com.gymory.global.security.route.RouteRule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -32,9 +38,11 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 @Slf4j
 public class SecurityConfig {
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserService userService;
+    private final TokenWriteBehindService tokenWriteBehindService;
     private final AES128Service aes128Service;
-    private final RedisUtils redisUtils;
+    private final TokenRevocationService tokenRevocationService;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final RateLimiter rateLimiter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception{
@@ -46,27 +54,38 @@ public class SecurityConfig {
                 .and()
                 .formLogin().disable()
                 .httpBasic().disable()
-                .authorizeHttpRequests(auth -> auth
-                        .antMatchers(
-                                "/","/**",
-                                "/h2-console",
-                                "/login/**",
-                                "/swagger-ui/**",
-                                "/swagger-ui.html",
-                                "/auth/**").permitAll()
-                        .antMatchers("/user/**").hasAnyRole("ADMIN", "USER", "ANONYMOUS")
-                        .antMatchers("/admin/**").hasAnyRole("ADMIN")
-                )
+                // 규칙별 antMatcher 대신 RoutePolicy trie 조회 한 번으로 접근을 결정한다
+                .authorizeHttpRequests(auth -> auth.anyRequest().access(new RouteAuthorizationManager(routePolicy())))
                 .sessionManagement(session -> session.sessionCreationPolicy(STATELESS))
                 .exceptionHandling(exception
-                        -> exception.authenticationEntryPoint(new CustomAuthenticationEntryPoint())
-                        .accessDeniedHandler(new CustomAccessDeniedHandler()))
+                        -> exception.authenticationEntryPoint(new CustomAuthenticationEntryPoint(errorResponseWriter))
+                        .accessDeniedHandler(new CustomAccessDeniedHandler(errorResponseWriter)))
                 .apply(new CustomFilterConfigurer());
 
         
         return http.build();
     }
 
+    // 경로별 접근 정책 (JwtVerificationFilter 와 공유)
+    @Bean
+    public RoutePolicy routePolicy() {
+        return new RoutePolicy(List.of(
+                RouteRule.skipJwt("/"),
+                RouteRule.skipJwt("/h2"),
+                RouteRule.skipJwt("/members/signup"),
+                RouteRule.skipJwt("/auth/login"),
+                RouteRule.skipJwt("/auth/reissue"),
+                RouteRule.permitAll("/h2-console"),
+                RouteRule.permitAll("/login/**"),
+                RouteRule.permitAll("/swagger-ui/**"),
+                RouteRule.permitAll("/swagger-ui.html"),
+                RouteRule.permitAll("/auth/**"),
+                RouteRule.hasAnyRole("/user/**", "ADMIN", "USER", "ANONYMOUS"),
+                RouteRule.hasAnyRole("/admin/**", "ADMIN"),
+                RouteRule.permitAll("/**")
+        ));
+    }
+
     @Bean
     CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -90,16 +109,19 @@ public class SecurityConfig {
             log.info("SecurityConfiguration.CustomFilterConfigurer.configure excute");
             AuthenticationManager authenticationManager = builder.getSharedObject(AuthenticationManager.class);
             JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(authenticationManager,
-                    jwtTokenProvider, aes128Service, userService, redisUtils);
-            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenProvider, redisUtils);
+                    jwtTokenProvider, aes128Service, tokenWriteBehindService, rateLimiter);
+            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenProvider, tokenRevocationService,
+                    routePolicy(), errorResponseWriter);
+            RateLimitFilter rateLimitFilter = new RateLimitFilter(rateLimiter, errorResponseWriter);
 
             jwtAuthenticationFilter.setFilterProcessesUrl("/auth/login");
             jwtAuthenticationFilter.setAuthenticationSuccessHandler(new LoginSuccessHandler());
-            jwtAuthenticationFilter.setAuthenticationFailureHandler(new LoginFailureHandler());
+            jwtAuthenticationFilter.setAuthenticationFailureHandler(new LoginFailureHandler(errorResponseWriter));
 
             builder
                     .addFilter(jwtAuthenticationFilter)
-                    .addFilterAfter(jwtVerificationFilter, JwtAuthenticationFilter.class);
+                    .addFilterAfter(jwtVerificationFilter, JwtAuthenticationFilter.class)
+                    .addFilterAfter(rateLimitFilter, JwtVerificationFilter.class);
         }
     }
 }
@@ -0,0 +1,243 @@
+package com.gymory.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gymory.global.redis.RedisUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * UserDetails 2단계 캐시 (L1: 노드별 Caffeine, L2: Redis).
+ * Redis 에는 비밀번호 해시도 AES 로 암호화해서만 저장한다.
+ * 비밀번호/권한 변경 시 evict 를 호출하면 L2 와 모든 노드의 L1 에서 제거된다.
+ * evict 는 email 별 generation 을 올리고, L2 쓰기는 DB 조회 전에 읽은 generation 이 그대로일 때만 반영해
+ * evict 와 겹친 조회가 이전 값을 L2 에 되살리지 않게 한다.
+ * Redis/DB 조회는 Caffeine 의 compute 잠금(synchronized) 밖에서 수행해 virtual thread 가 carrier 에 고정되지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDetailsCache implements MessageListener {
+
+    public static final String CHANNEL = "user-details-eviction";
+    private static final String KEY_PREFIX = "user-details:";
+    private static final String GENERATION_KEY_PREFIX = "user-details-gen:";
+    private static final String SEPARATOR = "\n";
+    private static final String NO_GENERATION = "0";
+
+    // KEYS[1] = user-details:{email}, KEYS[2] = user-details-gen:{email}, ARGV[1] = 조회 전 generation, ARGV[2] = value, ARGV[3] = TTL(ms)
+    private static final RedisScript<Long> WRITE_SCRIPT = RedisScript.of(
+            "local generation = redis.call('GET', KEYS[2]) or '0' "
+                    + "if generation ~= ARGV[1] then return 0 end "
+                    + "redis.call('PSETEX', KEYS[1], ARGV[3], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    // KEYS 는 WRITE_SCRIPT 와 같고 ARGV[1] = generation TTL(ms)
+    private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of(
+            "redis.call('INCR', KEYS[2]) "
+                    + "redis.call('PEXPIRE', KEYS[2], ARGV[1]) "
+                    + "return redis.call('DEL', KEYS[1])",
+            Long.class);
+
+    private final RedisUtils redisUtils;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final AES128Service aes128Service;
+    private final MeterRegistry meterRegistry;
+
+    @Getter
+    @Value("${security.user-details-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.user-details-cache.local.maximum-size:10000}")
+    private long localMaximumSize;
+
+    @Value("${security.user-details-cache.local.ttl-millis:60000}")
+    private long localTtlMillis;
+
+    @Value("${security.user-details-cache.remote.ttl-millis:600000}")
+    private long remoteTtlMillis;
+
+    private Cache<String, CustomUserDetails> localCache;
+    // 같은 email 의 동시 miss 는 한 번만 조회한다
+    private final Map<String, CompletableFuture<CustomUserDetails>> loading = new ConcurrentHashMap<>();
+    private Counter remoteHitCounter;
+    private Counter remoteMissCounter;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            log.info("UserDetails cache is disabled");
+            return;
+        }
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtlMillis, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "userDetails");
+
+        remoteHitCounter = Counter.builder("user.details.cache.remote").tag("result", "hit").register(meterRegistry);
+        remoteMissCounter = Counter.builder("user.details.cache.remote").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("user.details.cache.hit.ratio", localCache, cache -> cache.stats().hitRate())
+                .tag("tier", "local")
+                .register(meterRegistry);
+        Gauge.builder("user.details.cache.hit.ratio", this, UserDetailsCache::remoteHitRatio)
+                .tag("tier", "remote")
+                .register(meterRegistry);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public CustomUserDetails get(String email, Function<String, CustomUserDetails> loader) {
+        if (!enabled) {
+            return loader.apply(email);
+        }
+        CustomUserDetails cached = localCache.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<CustomUserDetails> created = new CompletableFuture<>();
+        CompletableFuture<CustomUserDetails> inFlight = loading.putIfAbsent(email, created);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            CustomUserDetails loaded = loadThroughRemote(email, loader);
+            localCache.put(email, loaded);
+            // 조회 중에 evict 되었다면 방금 넣은 값도 버린다
+            if (!loading.remove(email, created)) {
+                localCache.invalidate(email);
+            }
+            created.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            loading.remove(email, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void evict(String email) {
+        if (!enabled) {
+            return;
+        }
+        loading.remove(email);
+        localCache.invalidate(email);
+        // generation TTL 은 L2 TTL 과 같게 둔다. generation 이 먼저 만료되어도 진행 중인 쓰기는 불일치로 버려진다
+        redisTemplate.execute(EVICT_SCRIPT, List.of(dataKey(email), generationKey(email)), String.valueOf(remoteTtlMillis));
+        redisTemplate.convertAndSend(CHANNEL, email);
+    }
+
+    // 다른 노드에서 발생한 evict 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String email = new String(message.getBody(), StandardCharsets.UTF_8);
+        loading.remove(email);
+        localCache.invalidate(email);
+    }
+
+    private CustomUserDetails await(CompletableFuture<CustomUserDetails> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private CustomUserDetails loadThroughRemote(String email, Function<String, CustomUserDetails> loader) {
+        // 값과 generation 을 한 번의 MGET 으로 읽는다. generation 은 반드시 DB 조회 전에 읽어야 한다
+        Map<String, String> remote = readRemote(email);
+        String value = remote == null ? null : remote.get(dataKey(email));
+        if (value != null) {
+            CustomUserDetails cached = decode(email, value);
+            if (cached != null) {
+                remoteHitCounter.increment();
+                return cached;
+            }
+        }
+        remoteMissCounter.increment();
+        CustomUserDetails loaded = loader.apply(email);
+        // Redis 를 읽지 못했다면 generation 을 알 수 없으므로 쓰지 않는다
+        if (remote != null) {
+            writeRemote(loaded, remote.getOrDefault(generationKey(email), NO_GENERATION));
+        }
+        return loaded;
+    }
+
+    // Redis 장애 시에는 캐시를 건너뛰고 DB 에서 조회
+    private Map<String, String> readRemote(String email) {
+        try {
+            return redisUtils.getDataBatch(List.of(dataKey(email), generationKey(email)));
+        } catch (RuntimeException e) {
+            log.warn("Failed to read user details from redis", e);
+            return null;
+        }
+    }
+
+    private CustomUserDetails decode(String email, String value) {
+        try {
+            String[] fields = value.split(SEPARATOR, 3);
+            return CustomUserDetails.of(Long.valueOf(fields[0]), email, aes128Service.decryptAes(fields[2]), fields[1]);
+        } catch (RuntimeException e) {
+            log.warn("Failed to decode user details from redis", e);
+            return null;
+        }
+    }
+
+    private void writeRemote(CustomUserDetails userDetails, String generation) {
+        try {
+            String value = userDetails.getId() + SEPARATOR
+                    + userDetails.getUserRole() + SEPARATOR
+                    + aes128Service.encryptAes(userDetails.getPassword());
+            String email = userDetails.getEmail();
+            redisTemplate.execute(WRITE_SCRIPT, List.of(dataKey(email), generationKey(email)),
+                    generation, value, String.valueOf(remoteTtlMillis));
+        } catch (RuntimeException e) {
+            log.warn("Failed to write user details to redis", e);
+        }
+    }
+
+    // 같은 email 의 두 key 는 hash tag 로 같은 slot 에 둔다
+    private static String dataKey(String email) {
+        return KEY_PREFIX + "{" + email + "}";
+    }
+
+    private static String generationKey(String email) {
+        return GENERATION_KEY_PREFIX + "{" + email + "}";
+    }
+
+    private double remoteHitRatio() {
+        double hits = remoteHitCounter.count();
+        double total = hits + remoteMissCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+}
@@ -1,5 +1,8 @@
 package com.gymory.global.security.handler;
 
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.ErrorResponseWriter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
@@ -10,10 +13,13 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 @Slf4j
+@RequiredArgsConstructor
 public class CustomAccessDeniedHandler implements AccessDeniedHandler {
+    private final ErrorResponseWriter errorResponseWriter;
+
     @Override
     public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException) throws IOException, ServletException, IOException {
-        log.error("권한없는 사용자의 접근");
-        response.sendRedirect("/signup_auth");
+        log.debug("권한없는 사용자의 접근");
+        errorResponseWriter.write(response, ErrorCode.NO_AUTHORITY);
     }
 }
@@ -1,7 +1,13 @@
 package com.gymory.global.security.handler;
 
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.ErrorResponseWriter;
+import com.gymory.global.code.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.gymory.global.security.ratelimit.RateLimitExceededException;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -17,9 +23,24 @@ import java.net.URLEncoder;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class LoginFailureHandler implements AuthenticationFailureHandler {
+    private final ErrorResponseWriter errorResponseWriter;
+
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception) throws IOException {
+        if(exception instanceof RateLimitExceededException rateLimitExceededException){
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimitExceededException.getRetryAfterSeconds()));
+            errorResponseWriter.write(response, ErrorCode.TOO_MANY_REQUESTS);
+            return;
+        }
+
+        // 해시 executor 포화 등 비즈니스 예외는 redirect 없이 에러 코드 그대로 응답
+        if(exception.getCause() instanceof BusinessException businessException){
+            errorResponseWriter.write(response, businessException.getErrorCode());
+            return;
+        }
+
         String errorMsg = "";
 
         if(exception instanceof UsernameNotFoundException){
@@ -7,23 +7,18 @@ import org.springframework.security.web.authentication.AuthenticationSuccessHand
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
 import java.io.IOException;
 
 @Slf4j
 public class LoginSuccessHandler implements AuthenticationSuccessHandler {
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException, IOException {
-        HttpSession session = request.getSession();
-
+        // stateless 인증이므로 HttpSession 을 만들지 않는다
         String accessToken = response.getHeader("Authorization");
         String refreshToken = response.getHeader("Refresh");
 
-        log.info(accessToken);
-        log.info(refreshToken);
-
+        // 토큰 원문은 로그에 남기지 않는다
         String redirectUrl = getRedirectUrl(accessToken, refreshToken);
-        log.info(redirectUrl);
 
         response.sendRedirect(redirectUrl);
     }
@@ -0,0 +1,80 @@
+package com.gymory.global.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 서명 검증이 끝난 JWT Claims 캐시.
+ * key 는 토큰 원문이 아닌 SHA-256 digest 이며, 각 entry 는 토큰의 exp 이전에 만료된다.
+ */
+public class ClaimsCache {
+
+    private final Cache<String, Claims> cache;
+    private final long maxTtlNanos;
+
+    public ClaimsCache(long maximumSize, long maxTtlMillis) {
+        this(maximumSize, maxTtlMillis, Ticker.systemTicker());
+    }
+
+    // 테스트에서 시간을 직접 흘려보낼 수 있도록 ticker 를 받는다
+    public ClaimsCache(long maximumSize, long maxTtlMillis, Ticker ticker) {
+        this.maxTtlNanos = TimeUnit.MILLISECONDS.toNanos(maxTtlMillis);
+        this.cache = Caffeine.newBuilder()
+                .ticker(ticker)
+                .maximumSize(maximumSize)
+                .expireAfter(new ClaimsExpiry())
+                .recordStats()
+                .build();
+    }
+
+    // 캐시에 없으면 parser 로 검증 후 저장. 검증 실패 시 발생한 예외는 그대로 전파되고 캐시되지 않는다.
+    public Claims get(String token, Function<String, Claims> parser) {
+        return cache.get(TokenDigests.sha256(token), key -> parser.apply(token));
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maxTtlNanos;
+            }
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+            return Math.max(0L, Math.min(remainingNanos, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
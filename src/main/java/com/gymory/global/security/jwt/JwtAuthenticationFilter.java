@@ -2,10 +2,15 @@ package com.gymory.global.security.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gymory.domain.user.userbase.dto.UserDto;
-import com.gymory.domain.user.userbase.service.UserService;
+import com.gymory.domain.user.userbase.service.TokenWriteBehindService;
+import com.gymory.global.log.LogSampler;
 import com.gymory.global.security.AES128Service;
-import com.gymory.global.redis.RedisUtils;
 import com.gymory.global.security.CustomUserDetails;
+import com.gymory.global.security.ratelimit.RateLimitExceededException;
+import com.gymory.global.security.ratelimit.RateLimitProperties;
+import com.gymory.global.security.ratelimit.RateLimitProperties.Endpoint;
+import com.gymory.global.security.ratelimit.RateLimiter;
+import com.gymory.global.security.ratelimit.RateLimiter.Dimension;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -20,30 +25,50 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.Duration;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
+    private static final LogSampler LOGIN_LOG = LogSampler.atMostEvery(Duration.ofSeconds(1));
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final AES128Service aes128Service;
-    private final UserService userService;
-    private final RedisUtils redisUtils;
+    private final TokenWriteBehindService tokenWriteBehindService;
+    private final RateLimiter rateLimiter;
 
     @SneakyThrows
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request,
                                                 HttpServletResponse response) throws AuthenticationException {
+        Endpoint loginLimit = rateLimiter.getEndpoint(RateLimitProperties.LOGIN).orElse(null);
+        // IP 기준은 body 를 읽기 전에 거절
+        if (loginLimit != null) {
+            checkRateLimit(loginLimit, Dimension.IP, request.getRemoteAddr(), loginLimit.getIp());
+        }
+
         // ServletInputStream을 LoginDto 객체로 역직렬화
         ObjectMapper objectMapper = new ObjectMapper();
         UserDto userDto = objectMapper.readValue(request.getInputStream(), UserDto.class);
+
+        // email 기준은 BCrypt 비교(CustomAuthenticationProvider) 전에 거절
+        if (loginLimit != null) {
+            checkRateLimit(loginLimit, Dimension.EMAIL, userDto.getEmail(), loginLimit.getEmail());
+        }
         UsernamePasswordAuthenticationToken authenticationToken =
                 new UsernamePasswordAuthenticationToken(userDto.getEmail(), userDto.getPassword());
 
         return authenticationManager.authenticate(authenticationToken);
     }
 
+    private void checkRateLimit(Endpoint endpoint, Dimension dimension, String key, RateLimitProperties.Limit limit) {
+        long retryAfterMillis = rateLimiter.tryAcquire(endpoint, dimension, key, limit);
+        if (retryAfterMillis > 0) {
+            throw new RateLimitExceededException(retryAfterMillis);
+        }
+    }
+
     @Override
     protected void successfulAuthentication(HttpServletRequest request,
                                             HttpServletResponse response,
@@ -58,13 +83,13 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         jwtTokenProvider.accessTokenSetHeader(accessToken, response);
         jwtTokenProvider.refresshTokenSetHeader(encryptedRefreshToken, response);
 
-        UserDto findUser = userService
-                .findUserAndUpdateTokens(customUserDetails.getId(), accessToken, refreshToken);
-        log.info("login success = {}", findUser);
-
-        // 로그인 성공시 Refresh Token Redis 저장 ( key = Email / value = Refresh Token )
+        // 토큰 DB 저장 및 Refresh Token Redis 저장은 응답과 분리하여 비동기로 반영
         long refreshTokenExpirationMillis = jwtTokenProvider.getRefreshTokenExpirationMillis();
-        redisUtils.setData(findUser.getEmail(), refreshToken, refreshTokenExpirationMillis);
+        tokenWriteBehindService.enqueue(customUserDetails.getId(), customUserDetails.getEmail(),
+                customUserDetails.getUserRole(), tokenDto.getTokenId(), accessToken, refreshToken, refreshTokenExpirationMillis);
+        if (LOGIN_LOG.tryAcquire()) {
+            log.info("login success = {} (suppressed {})", customUserDetails.getEmail(), LOGIN_LOG.getAndResetSuppressed());
+        }
 
         this.getSuccessHandler().onAuthenticationSuccess(request, response, authResult);
     }
@@ -8,6 +8,7 @@ import io.jsonwebtoken.security.Keys;
 import com.gymory.global.code.error.ErrorCode;
 import com.gymory.global.code.error.ErrorResponse;
 import com.gymory.global.code.error.exception.BusinessException;
+import com.gymory.global.log.LogSampler;
 import com.gymory.global.security.CustomUserDetails;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -22,10 +23,12 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -36,6 +39,9 @@ public class JwtTokenProvider {
     public static final String REFRESH_HEADER = "Refresh";
     public static final String BEARER_PREFIX = "Bearer ";
 
+    private static final LogSampler AUTHORITY_LOG = LogSampler.oneIn(100);
+    private static final LogSampler INVALID_TOKEN_LOG = LogSampler.atMostEvery(Duration.ofSeconds(1));
+
     @Getter
     @Value("${jwt.secret-key}")
     private String secretKey;
@@ -47,13 +53,29 @@ public class JwtTokenProvider {
     @Getter
     @Value("${jwt.refresh-token-expiration-millis}")
     private long refreshTokenExpirationMillis;
+
+    @Value("${jwt.claims-cache.maximum-size:100000}")
+    private long claimsCacheMaximumSize;
+
+    @Value("${jwt.claims-cache.max-ttl-millis:600000}")
+    private long claimsCacheMaxTtlMillis;
+
     private Key key;
+    private JwtParser jwtParser;
+
+    @Getter
+    private ClaimsCache claimsCache;
 
     // Bean 등록후 Key SecretKey HS256 decode
     @PostConstruct
     public void init() {
         String base64EncodedSecretKey = encodeBase64SecretKey(this.secretKey);
         this.key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
+        // JwtParser 는 immutable/thread-safe 하므로 한 번만 생성해서 재사용
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.claimsCache = new ClaimsCache(claimsCacheMaximumSize, claimsCacheMaxTtlMillis);
     }
 
     public String encodeBase64SecretKey(String secretKey) {
@@ -66,13 +88,21 @@ public class JwtTokenProvider {
     }
 
     public TokenDto generateTokenDto(CustomUserDetails customUserDetails) {
+        // access/refresh token 쌍을 식별하는 token id (jti). 로그아웃 시 폐기 key 로 사용
+        return generateTokenDto(customUserDetails, UUID.randomUUID().toString());
+    }
+
+    // 재발급 시에는 같은 세션(jti)을 유지한 채 새 토큰 쌍을 서명
+    public TokenDto generateTokenDto(CustomUserDetails customUserDetails, String tokenId) {
         Date accessTokenExpiresIn = getTokenExpiration(accessTokenExpirationMillis);
         Date refreshTokenExpiresIn = getTokenExpiration(refreshTokenExpirationMillis);
         Map<String, Object> claims = new HashMap<>();
         claims.put("userRole", customUserDetails.getUserRole());
+        claims.put("uid", customUserDetails.getId());
 
         String accessToken = Jwts.builder()
                 .setClaims(claims)
+                .setId(tokenId)
                 .setSubject(customUserDetails.getEmail())
                 .setExpiration(accessTokenExpiresIn)
                 .setIssuedAt(Calendar.getInstance().getTime())
@@ -80,15 +110,18 @@ public class JwtTokenProvider {
                 .compact();
 
         String refreshToken = Jwts.builder()
+                .setId(tokenId)
                 .setSubject(customUserDetails.getEmail())
                 .setIssuedAt(Calendar.getInstance().getTime())
                 .setExpiration(refreshTokenExpiresIn)
                 .claim("userRole", customUserDetails.getUserRole())
+                .claim("uid", customUserDetails.getId())
                 .signWith(key)
                 .compact();
 
         return TokenDto.builder()
                 .grantType(BEARER_TYPE)
+                .tokenId(tokenId)
                 .authorizationType(AUTHORIZATION_HEADER)
                 .accessToken(accessToken)
                 .accessTokenExpiresIn(accessTokenExpiresIn.getTime())
@@ -110,7 +143,9 @@ public class JwtTokenProvider {
                 claims.getSubject(),
                 authority);
 
-        log.info("# AuthMember.getRoles 권한 체크 = {}", customUserDetails.getAuthorities().toString());
+        if (log.isDebugEnabled() && AUTHORITY_LOG.tryAcquire()) {
+            log.debug("# AuthMember.getRoles 권한 체크 = {}", customUserDetails.getAuthorities());
+        }
 
         return new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
     }
@@ -120,9 +155,20 @@ public class JwtTokenProvider {
         return parseClaims(refreshToken).getSubject();
     }
 
+    // JWT 토큰에서 token id (jti) 추출
+    public String getTokenId(String token){
+        return parseClaims(token).getId();
+    }
+
+    // JWT 토큰에서 user id 추출 (uid claim 이 없는 이전 토큰은 null)
+    public Long getUserId(Claims claims){
+        Object uid = claims.get("uid");
+        return uid == null ? null : ((Number) uid).longValue();
+    }
+
     public UserRole getUserPermission(String refreshToken){
         Claims claims = parseClaims(refreshToken);
-        String role = (String)parseClaims(refreshToken).get("userRole");
+        String role = (String) claims.get("userRole");
         return UserRole.fromKey(role);
     }
 
@@ -131,18 +177,18 @@ public class JwtTokenProvider {
         try {
             parseClaims(token);
         } catch (MalformedJwtException e) {
-            log.info("Invalid JWT token");
+            logInvalidToken("Invalid JWT token");
             log.trace("Invalid JWT token trace = {}", e);
         } catch (ExpiredJwtException e) {
-            log.info("Expired JWT token");
+            logInvalidToken("Expired JWT token");
             log.trace("Expired JWT token trace = {}", e);
             ErrorResponse.of(ErrorCode.TOKEN_EXPIRED);
         } catch (UnsupportedJwtException e) {
-            log.info("Unsupported JWT token");
+            logInvalidToken("Unsupported JWT token");
             log.trace("Unsupported JWT token trace = {}", e);
             ErrorResponse.of(ErrorCode.TOKEN_UNSUPPORTED);
         } catch (IllegalArgumentException e) {
-            log.info("JWT claims string is empty.");
+            logInvalidToken("JWT claims string is empty.");
             log.trace("JWT claims string is empty trace = {}", e);
             ErrorResponse.of(ErrorCode.TOKEN_ILLEGAL_ARGUMENT);
         }
@@ -153,24 +199,31 @@ public class JwtTokenProvider {
         try {
             parseClaims(token);
         } catch (MalformedJwtException e) {
-            log.info("Invalid JWT token");
+            logInvalidToken("Invalid JWT token");
             log.trace("Invalid JWT token trace = {}", e);
         } catch (ExpiredJwtException e) {
-            log.info("Expired JWT token");
+            logInvalidToken("Expired JWT token");
             log.trace("Expired JWT token trace = {}", e);
             ErrorResponse.of(ErrorCode.TOKEN_EXPIRED);
         } catch (UnsupportedJwtException e) {
-            log.info("Unsupported JWT token");
+            logInvalidToken("Unsupported JWT token");
             log.trace("Unsupported JWT token trace = {}", e);
             ErrorResponse.of(ErrorCode.TOKEN_UNSUPPORTED);
         } catch (IllegalArgumentException e) {
-            log.info("JWT claims string is empty.");
+            logInvalidToken("JWT claims string is empty.");
             log.trace("JWT claims string is empty trace = {}", e);
             ErrorResponse.of(ErrorCode.TOKEN_ILLEGAL_ARGUMENT);
         }
         return true;
     }
 
+    // 만료 토큰이 몰려도 초당 1 건만 남긴다
+    private void logInvalidToken(String message) {
+        if (INVALID_TOKEN_LOG.tryAcquire()) {
+            log.info("{} (suppressed {})", message, INVALID_TOKEN_LOG.getAndResetSuppressed());
+        }
+    }
+
     private Date getTokenExpiration(long expirationMillisecond) {
         Date date = new Date();
 
@@ -178,10 +231,16 @@ public class JwtTokenProvider {
     }
 
     // Token 복호화 및 예외 발생(토큰 만료, 시그니처 오류)시 Claims 객체가 안만들어짐.
+    // 검증된 Claims 는 토큰 만료 시각까지 ClaimsCache 에 보관되어 같은 토큰의 재검증을 생략한다.
     public Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        if (!StringUtils.hasText(token)) {
+            throw new IllegalArgumentException("JWT String argument cannot be null or empty.");
+        }
+        return claimsCache.get(token, this::verifyClaims);
+    }
+
+    private Claims verifyClaims(String token) {
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -1,9 +1,9 @@
 package com.gymory.global.security.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.gymory.global.redis.RedisUtils;
-import com.gymory.global.code.error.ErrorResponse;
+import com.gymory.global.code.error.ErrorResponseWriter;
 import com.gymory.global.code.error.exception.BusinessException;
+import com.gymory.global.log.LogSampler;
+import com.gymory.global.security.route.RoutePolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -16,20 +16,17 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtVerificationFilter extends OncePerRequestFilter {
-    // 인증에서 제외할 url
-    private static final List<String> EXCLUDE_URL =
-            List.of("/",
-                    "/h2",
-                    "/members/signup",
-                    "/auth/login",
-                    "/auth/reissue");
+    private static final LogSampler VERIFIED_LOG = LogSampler.oneIn(100);
+
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisUtils redisUtils;
+    private final TokenRevocationService tokenRevocationService;
+    // 인증에서 제외할 url 은 RoutePolicy 의 skipJwt 규칙
+    private final RoutePolicy routePolicy;
+    private final ErrorResponseWriter errorResponseWriter;
 
     // JWT 인증 정보를 현재 쓰레드의 SecurityContext에 저장(가입/로그인/재발급 Request 제외)
     @Override
@@ -38,38 +35,38 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         try {
             String accessToken = jwtTokenProvider.resolveAccessToken(request);
-            if (StringUtils.hasText(accessToken) && doNotLogout(accessToken)
-                    && jwtTokenProvider.validateToken(accessToken, response)) {
+            if (StringUtils.hasText(accessToken) && jwtTokenProvider.validateToken(accessToken, response)
+                    && doNotLogout(accessToken)) {
                 setAuthenticationToContext(accessToken);
             }
             // TODO: 예외처리 리팩토링
         } catch (RuntimeException e) {
-            if (e instanceof BusinessException) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                String json = objectMapper.writeValueAsString(ErrorResponse.of(((BusinessException) e).getErrorCode()));
-                response.getWriter().write(json);
-                response.setStatus(((BusinessException) e).getErrorCode().getStatus());
+            if (e instanceof BusinessException businessException) {
+                // 미리 직렬화된 body 로 응답하고 chain 을 더 진행하지 않는다
+                errorResponseWriter.write(response, businessException.getErrorCode());
+                return;
             }
         }
         filterChain.doFilter(request, response);
     }
 
+    // 폐기 여부는 로컬 메모리에서 확인 (시작 직후 적재 전에만 Redis 조회)
     private boolean doNotLogout(String accessToken) {
-        String isLogout = redisUtils.getData(accessToken);
-        return isLogout.equals("false");
+        String tokenId = jwtTokenProvider.getTokenId(accessToken);
+        return !tokenRevocationService.isRevoked(tokenId);
     }
 
-    // EXCLUDE_URL과 동일한 요청이 들어왔을 경우, 현재 필터를 진행하지 않고 다음 필터 진행
+    // skipJwt 규칙에 해당하는 요청이 들어왔을 경우, 현재 필터를 진행하지 않고 다음 필터 진행
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        boolean result = EXCLUDE_URL.stream().anyMatch(exclude -> exclude.equalsIgnoreCase(request.getServletPath()));
-
-        return result;
+        return routePolicy.shouldSkipJwt(request.getServletPath());
     }
 
     private void setAuthenticationToContext(String accessToken) {
         Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        log.info("# Token verification success!");
+        if (log.isDebugEnabled() && VERIFIED_LOG.tryAcquire()) {
+            log.debug("# Token verification success!");
+        }
     }
 }
\ No newline at end of file
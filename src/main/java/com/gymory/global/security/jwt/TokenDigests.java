@@ -0,0 +1,26 @@
+package com.gymory.global.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+// 토큰 원문 대신 저장/비교에 사용하는 SHA-256 fingerprint (Base64 URL, 43자)
+public final class TokenDigests {
+
+    private TokenDigests() {
+    }
+
+    public static String sha256(String token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256Bytes(token));
+    }
+
+    public static byte[] sha256Bytes(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
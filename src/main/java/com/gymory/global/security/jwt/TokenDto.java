@@ -7,6 +7,7 @@ import lombok.Data;
 @Builder
 public class TokenDto {
     private final String grantType;
+    private final String tokenId;
     private final String authorizationType;
     private final String accessToken;
     private final String refreshToken;
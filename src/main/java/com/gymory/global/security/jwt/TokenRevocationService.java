@@ -0,0 +1,255 @@
+package com.gymory.global.security.jwt;
+
+import com.gymory.global.redis.RedisUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃 등으로 폐기된 토큰(jti) 관리.
+ * 폐기 여부는 노드 메모리에서 조회하고, Redis 는 TTL 보관 및 pub/sub 전파에 사용한다.
+ * 만료된 항목은 조회 시점과 주기적인 sweep 에서 정리한다.
+ * <p>
+ * 구독은 listener container 가 시작될 때(웹 서버 시작 이후) 활성화되므로, 폐기 목록은 ApplicationReadyEvent 에서 적재한다.
+ * 적재가 끝나기 전에는 메모리에 없는 jti 를 Redis 에서 직접 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationService implements MessageListener {
+
+    public static final String CHANNEL = "token-revocation";
+    private static final String KEY_PREFIX = "revoked:";
+    private static final char SEPARATOR = ':';
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final RedisUtils redisUtils;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${token.revocation.sweep-interval-millis:60000}")
+    private long sweepIntervalMillis;
+
+    // jti -> 토큰 만료 시각 (epoch millis)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private ScheduledExecutorService sweeper;
+    // Redis 의 폐기 목록을 구독 활성화 이후에 적재했는지
+    private volatile boolean loaded;
+
+    @PostConstruct
+    public void init() {
+        // listener 등록만 한다. 실제 구독은 container 가 시작될 때 활성화된다
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        sweeper = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("token-revocation-sweep-"));
+        sweeper.scheduleWithFixedDelay(this::sweepQuietly, sweepIntervalMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // container 가 시작된 뒤 적재해야 적재 중 및 이후에 발생한 폐기를 pub/sub 으로 놓치지 않는다
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        loaded = loadRevokedTokens();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        redisMessageListenerContainer.removeMessageListener(this);
+        sweeper.shutdownNow();
+    }
+
+    public void revoke(String tokenId, Date expiration) {
+        if (tokenId == null || expiration == null) {
+            return;
+        }
+        long expiresAt = expiration.getTime();
+        long ttl = expiresAt - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return;
+        }
+        addLocally(tokenId, expiresAt);
+        redisUtils.setData(KEY_PREFIX + tokenId, String.valueOf(expiresAt), ttl);
+        redisTemplate.convertAndSend(CHANNEL, tokenId + SEPARATOR + expiresAt);
+    }
+
+    // 일괄 로그아웃. jti -> 토큰 만료 시각
+    public void revokeAll(Map<String, Date> tokens) {
+        long now = System.currentTimeMillis();
+        Map<String, String> data = new HashMap<>();
+        Map<String, Long> ttls = new HashMap<>();
+        tokens.forEach((tokenId, expiration) -> {
+            if (tokenId == null || expiration == null || expiration.getTime() <= now) {
+                return;
+            }
+            long expiresAt = expiration.getTime();
+            addLocally(tokenId, expiresAt);
+            data.put(KEY_PREFIX + tokenId, String.valueOf(expiresAt));
+            ttls.put(KEY_PREFIX + tokenId, expiresAt - now);
+        });
+        if (data.isEmpty()) {
+            return;
+        }
+        redisUtils.setDataBatch(data, ttls);
+        // 전파 메시지도 한 번의 pipeline 으로 보낸다
+        byte[] channel = CHANNEL.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            data.forEach((key, expiresAt) -> connection.publish(channel,
+                    (key.substring(KEY_PREFIX.length()) + SEPARATOR + expiresAt).getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        Long expiresAt = revokedTokens.get(tokenId);
+        if (expiresAt == null) {
+            return !loaded && isRevokedInRedis(tokenId);
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            revokedTokens.remove(tokenId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    // 다른 노드에서 발생한 폐기 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separatorIndex = body.lastIndexOf(SEPARATOR);
+        if (separatorIndex <= 0) {
+            log.warn("Invalid token revocation message = {}", body);
+            return;
+        }
+        try {
+            addLocally(body.substring(0, separatorIndex), Long.parseLong(body.substring(separatorIndex + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid token revocation message = {}", body);
+        }
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    // 만료된 항목 정리. 정리한 건수를 반환
+    public int sweepExpired() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        for (Map.Entry<String, Long> entry : revokedTokens.entrySet()) {
+            if (entry.getValue() <= now && revokedTokens.remove(entry.getKey(), entry.getValue())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private void sweepQuietly() {
+        try {
+            // 기동 시 적재에 실패했으면 재시도
+            if (!loaded) {
+                loaded = loadRevokedTokens();
+            }
+            int removed = sweepExpired();
+            log.debug("Swept {} expired revoked tokens", removed);
+        } catch (RuntimeException e) {
+            log.error("Revoked token sweep failed", e);
+        }
+    }
+
+    private void addLocally(String tokenId, long expiresAt) {
+        if (expiresAt > System.currentTimeMillis()) {
+            revokedTokens.put(tokenId, expiresAt);
+        }
+    }
+
+    // 적재 전 조회. 있으면 메모리에도 추가한다
+    private boolean isRevokedInRedis(String tokenId) {
+        try {
+            String expiresAt = redisUtils.getData(KEY_PREFIX + tokenId);
+            if (expiresAt == null) {
+                return false;
+            }
+            addLocally(tokenId, Long.parseLong(expiresAt));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to check revoked token from redis, tokenId = {}", tokenId, e);
+            return false;
+        }
+    }
+
+    // 노드 기동 시 Redis 에 남아있는 폐기 목록을 메모리로 적재. SCAN 한 key 는 LOAD_BATCH_SIZE 개씩 MGET 으로 조회
+    private boolean loadRevokedTokens() {
+        try {
+            Integer loadedCount = redisTemplate.execute((RedisCallback<Integer>) connection -> {
+                int count = 0;
+                List<byte[]> keys = new ArrayList<>(LOAD_BATCH_SIZE);
+                ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(LOAD_BATCH_SIZE).build();
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    while (cursor.hasNext()) {
+                        keys.add(cursor.next());
+                        if (keys.size() == LOAD_BATCH_SIZE) {
+                            count += loadBatch(keys, connection.stringCommands().mGet(keys.toArray(byte[][]::new)));
+                            keys.clear();
+                        }
+                    }
+                }
+                if (!keys.isEmpty()) {
+                    count += loadBatch(keys, connection.stringCommands().mGet(keys.toArray(byte[][]::new)));
+                }
+                return count;
+            });
+            log.info("Loaded {} revoked tokens", loadedCount);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to load revoked tokens from redis", e);
+            return false;
+        }
+    }
+
+    private int loadBatch(List<byte[]> keys, List<byte[]> values) {
+        if (values == null) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            // SCAN 과 MGET 사이에 만료된 key 는 null
+            if (values.get(i) == null) {
+                continue;
+            }
+            String tokenId = new String(keys.get(i), StandardCharsets.UTF_8).substring(KEY_PREFIX.length());
+            try {
+                addLocally(tokenId, Long.parseLong(new String(values.get(i), StandardCharsets.UTF_8)));
+                count++;
+            } catch (NumberFormatException e) {
+                log.warn("Invalid revoked token value, key = {}", new String(keys.get(i), StandardCharsets.UTF_8));
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,17 @@
+package com.gymory.global.security.ratelimit;
+
+import lombok.Getter;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 로그인 요청이 rate limit 에 걸린 경우. LoginFailureHandler 에서 429 + Retry-After 로 응답한다.
+ */
+@Getter
+public class RateLimitExceededException extends AuthenticationException {
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterMillis) {
+        super("Too many login attempts");
+        this.retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+}
@@ -0,0 +1,69 @@
+package com.gymory.global.security.ratelimit;
+
+import com.gymory.domain.user.userbase.UserRole;
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.ErrorResponseWriter;
+import com.gymory.global.security.ratelimit.RateLimitProperties.Endpoint;
+import com.gymory.global.security.ratelimit.RateLimitProperties.Limit;
+import com.gymory.global.security.ratelimit.RateLimiter.Dimension;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 로그인 외 endpoint 의 rate limit (IP, 인증된 사용자의 권한별).
+ * JwtVerificationFilter 뒤에 두어 SecurityContext 의 권한을 사용한다. 로그인은 JwtAuthenticationFilter 에서 검사한다.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final RateLimiter rateLimiter;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Endpoint endpoint = rateLimiter.findEndpoint(request.getServletPath()).orElse(null);
+        if (endpoint != null) {
+            long retryAfterMillis = rateLimiter.tryAcquire(endpoint, Dimension.IP, request.getRemoteAddr(), endpoint.getIp());
+            if (retryAfterMillis == 0) {
+                retryAfterMillis = acquireForUser(endpoint);
+            }
+            if (retryAfterMillis > 0) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000)));
+                errorResponseWriter.write(response, ErrorCode.TOO_MANY_REQUESTS);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private long acquireForUser(Endpoint endpoint) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || endpoint.getRoles().isEmpty()) {
+            return 0;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            for (Map.Entry<UserRole, Limit> entry : endpoint.getRoles().entrySet()) {
+                if (!entry.getKey().getKey().equals(authority.getAuthority())) {
+                    continue;
+                }
+                long retryAfterMillis = rateLimiter.tryAcquire(endpoint, Dimension.USER, authentication.getName(), entry.getValue());
+                if (retryAfterMillis > 0) {
+                    return retryAfterMillis;
+                }
+            }
+        }
+        return 0;
+    }
+}
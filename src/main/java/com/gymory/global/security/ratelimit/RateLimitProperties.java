@@ -0,0 +1,76 @@
+package com.gymory.global.security.ratelimit;
+
+import com.gymory.domain.user.userbase.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * security.rate-limit.* 설정.
+ *
+ * <pre>
+ * security.rate-limit.endpoints.login.path=/auth/login
+ * security.rate-limit.endpoints.login.ip.capacity=30
+ * security.rate-limit.endpoints.login.ip.refill-per-minute=30
+ * security.rate-limit.endpoints.login.email.capacity=5
+ * security.rate-limit.endpoints.{name}.roles.MEMBER.capacity=...
+ * </pre>
+ * 설정하지 않은 limit 은 검사하지 않는다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+    public static final String LOGIN = "login";
+
+    private boolean enabled = true;
+
+    // 로컬 bucket 사용량을 Redis 에 반영하는 주기
+    private long syncIntervalMillis = 1_000;
+
+    // 노드별로 유지하는 bucket 수 상한 (오래 쓰지 않은 bucket 부터 제거)
+    private long maximumBuckets = 100_000;
+
+    private Map<String, Endpoint> endpoints = new HashMap<>(Map.of(LOGIN,
+            new Endpoint("/auth/login", new Limit(30, 30), new Limit(5, 5), new EnumMap<>(UserRole.class))));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Endpoint {
+        private String path;
+        // client IP 기준
+        private Limit ip;
+        // 로그인 요청의 email 기준 (body 역직렬화 후, 인증 전)
+        private Limit email;
+        // 인증된 사용자의 권한별 limit (사용자 email 기준)
+        private Map<UserRole, Limit> roles = new EnumMap<>(UserRole.class);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private long capacity;
+        private long refillPerMinute;
+
+        double refillPerMillis() {
+            return refillPerMinute / 60_000.0;
+        }
+
+        // 비어 있는 bucket 이 가득 찰 때까지 걸리는 시간
+        long fullRefillMillis() {
+            return refillPerMinute <= 0 ? 60_000L : (long) Math.ceil(capacity / refillPerMillis());
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.gymory.global.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gymory.global.log.LogSampler;
+import com.gymory.global.security.ratelimit.RateLimitProperties.Endpoint;
+import com.gymory.global.security.ratelimit.RateLimitProperties.Limit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * endpoint / 기준(IP, email, 사용자) 별 token bucket rate limiter.
+ * 요청마다의 판정은 노드 로컬 bucket 에서 끝나고, 소비량은 sync-interval 마다 Redis Lua script 로 cluster bucket 에 합산된 뒤
+ * 남은 token 수로 로컬 bucket 을 보정한다. 따라서 cluster 전체의 초과 허용량은 동기화 주기 동안의 refill 량으로 제한된다.
+ * Redis 장애 시에는 노드별 limit 으로만 동작한다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+    private static final LogSampler SYNC_FAILURE_LOG = LogSampler.atMostEvery(Duration.ofSeconds(10));
+
+    // KEYS[1] = bucket, ARGV[1] = capacity, ARGV[2] = ms 당 refill, ARGV[3] = 소비량, ARGV[4] = now(ms), ARGV[5] = TTL(ms)
+    // 남은 token 수를 반환 (음수이면 다른 노드에서 초과 소비된 것)
+    private static final RedisScript<String> SYNC_SCRIPT = RedisScript.of(
+            "local capacity = tonumber(ARGV[1]) "
+                    + "local now = tonumber(ARGV[4]) "
+                    + "local state = redis.call('HMGET', KEYS[1], 't', 'ts') "
+                    + "local tokens = tonumber(state[1]) or capacity "
+                    + "local ts = tonumber(state[2]) or now "
+                    + "if now < ts then now = ts end "
+                    + "tokens = math.min(capacity, tokens + (now - ts) * tonumber(ARGV[2])) - tonumber(ARGV[3]) "
+                    + "redis.call('HMSET', KEYS[1], 't', tostring(tokens), 'ts', ARGV[4]) "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[5]) "
+                    + "return tostring(tokens)",
+            String.class);
+
+    public enum Dimension {
+        IP, EMAIL, USER
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, String> endpointNamesByPath = new HashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private Cache<String, TokenBucket> buckets;
+    private Counter syncFailureCounter;
+    private ScheduledExecutorService syncer;
+
+    public RateLimiter(RedisConnectionFactory connectionFactory, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        long maxRefillMillis = 60_000L;
+        for (Map.Entry<String, Endpoint> entry : properties.getEndpoints().entrySet()) {
+            Endpoint endpoint = entry.getValue();
+            endpointNamesByPath.put(endpoint.getPath(), entry.getKey());
+            for (Limit limit : limitsOf(endpoint)) {
+                maxRefillMillis = Math.max(maxRefillMillis, limit.fullRefillMillis());
+            }
+        }
+        // 가득 찰 만큼 쓰이지 않은 bucket 은 새로 만든 것과 같으므로 제거해도 된다
+        buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumBuckets())
+                .expireAfterAccess(maxRefillMillis, TimeUnit.MILLISECONDS)
+                .build();
+
+        Gauge.builder("rate.limit.buckets", buckets, Cache::estimatedSize).register(meterRegistry);
+        syncFailureCounter = Counter.builder("rate.limit.sync.failures").register(meterRegistry);
+
+        if (properties.isEnabled()) {
+            long interval = properties.getSyncIntervalMillis();
+            syncer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("rate-limit-sync-"));
+            syncer.scheduleWithFixedDelay(this::sync, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (syncer != null) {
+            syncer.shutdown();
+        }
+    }
+
+    public Optional<Endpoint> findEndpoint(String path) {
+        String name = endpointNamesByPath.get(path);
+        return name == null ? Optional.empty() : Optional.of(properties.getEndpoints().get(name));
+    }
+
+    public Optional<Endpoint> getEndpoint(String name) {
+        return Optional.ofNullable(properties.getEndpoints().get(name));
+    }
+
+    /**
+     * token 하나를 소비한다.
+     * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간(ms)
+     */
+    public long tryAcquire(Endpoint endpoint, Dimension dimension, String key, Limit limit) {
+        if (!properties.isEnabled() || limit == null || key == null) {
+            return 0;
+        }
+        String endpointName = endpointNamesByPath.get(endpoint.getPath());
+        String bucketKey = endpointName + ":" + dimension.name().toLowerCase() + ":" + key;
+        long now = System.currentTimeMillis();
+        long retryAfterMillis = buckets.get(bucketKey, k -> new TokenBucket(k, limit, now)).tryConsume(now);
+
+        counter(endpointName, dimension, retryAfterMillis == 0 ? "allowed" : "rejected").increment();
+        return retryAfterMillis;
+    }
+
+    // 마지막 동기화 이후 소비된 bucket 만 한 번의 pipeline 으로 Redis 에 반영
+    public void sync() {
+        List<TokenBucket> dirty = new ArrayList<>();
+        List<Long> consumed = new ArrayList<>();
+        for (TokenBucket bucket : buckets.asMap().values()) {
+            long count = bucket.drainUnsynced();
+            if (count > 0) {
+                dirty.add(bucket);
+                consumed.add(count);
+            }
+        }
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        byte[] script = utf8(SYNC_SCRIPT.getScriptAsString());
+        String sha = SYNC_SCRIPT.getSha1();
+        byte[] now = utf8(String.valueOf(System.currentTimeMillis()));
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.scriptingCommands().scriptLoad(script);
+                for (int i = 0; i < dirty.size(); i++) {
+                    Limit limit = dirty.get(i).getLimit();
+                    connection.scriptingCommands().evalSha(sha, ReturnType.VALUE, 1,
+                            utf8(KEY_PREFIX + dirty.get(i).getKey()),
+                            utf8(String.valueOf(limit.getCapacity())),
+                            utf8(String.valueOf(limit.refillPerMillis())),
+                            utf8(String.valueOf(consumed.get(i))),
+                            now,
+                            utf8(String.valueOf(limit.fullRefillMillis())));
+                }
+                return null;
+            });
+
+            long appliedAt = System.currentTimeMillis();
+            // 첫 결과는 SCRIPT LOAD 응답
+            for (int i = 0; i < dirty.size(); i++) {
+                dirty.get(i).applyClusterTokens(Double.parseDouble((String) results.get(i + 1)), appliedAt);
+            }
+        } catch (RuntimeException e) {
+            for (int i = 0; i < dirty.size(); i++) {
+                dirty.get(i).restoreUnsynced(consumed.get(i));
+            }
+            syncFailureCounter.increment();
+            if (SYNC_FAILURE_LOG.tryAcquire()) {
+                log.warn("Rate limit sync failed, buckets = {} (suppressed {})",
+                        dirty.size(), SYNC_FAILURE_LOG.getAndResetSuppressed(), e);
+            }
+        }
+    }
+
+    private List<Limit> limitsOf(Endpoint endpoint) {
+        List<Limit> limits = new ArrayList<>(endpoint.getRoles().values());
+        if (endpoint.getIp() != null) {
+            limits.add(endpoint.getIp());
+        }
+        if (endpoint.getEmail() != null) {
+            limits.add(endpoint.getEmail());
+        }
+        return limits;
+    }
+
+    private Counter counter(String endpointName, Dimension dimension, String result) {
+        return counters.computeIfAbsent(endpointName + ":" + dimension + ":" + result,
+                k -> Counter.builder("rate.limit.requests")
+                        .tag("endpoint", endpointName)
+                        .tag("dimension", dimension.name().toLowerCase())
+                        .tag("result", result)
+                        .register(meterRegistry));
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
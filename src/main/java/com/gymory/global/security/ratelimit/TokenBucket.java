@@ -0,0 +1,88 @@
+package com.gymory.global.security.ratelimit;
+
+import com.gymory.global.security.ratelimit.RateLimitProperties.Limit;
+import lombok.Getter;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노드 로컬 token bucket.
+ * 소비량은 주기적으로 Redis 의 cluster bucket 에 반영되고, 그 결과로 남은 token 수가 보정된다.
+ * virtual thread 에서도 carrier 를 고정하지 않도록 synchronized 대신 ReentrantLock 을 쓴다.
+ */
+class TokenBucket {
+    @Getter
+    private final String key;
+    @Getter
+    private final Limit limit;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double tokens;
+    private long lastRefillMillis;
+    // 마지막 동기화 이후 소비한 token 수
+    private long unsynced;
+
+    TokenBucket(String key, Limit limit, long nowMillis) {
+        this.key = key;
+        this.limit = limit;
+        this.tokens = limit.getCapacity();
+        this.lastRefillMillis = nowMillis;
+    }
+
+    // 허용되면 0, 거절되면 다음 token 까지 남은 시간(ms)
+    long tryConsume(long nowMillis) {
+        lock.lock();
+        try {
+            refill(nowMillis);
+            if (tokens >= 1) {
+                tokens -= 1;
+                unsynced++;
+                return 0;
+            }
+            double refillPerMillis = limit.refillPerMillis();
+            return refillPerMillis <= 0 ? limit.fullRefillMillis() : Math.max(1, (long) Math.ceil((1 - tokens) / refillPerMillis));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long drainUnsynced() {
+        lock.lock();
+        try {
+            long consumed = unsynced;
+            unsynced = 0;
+            return consumed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Redis 반영 실패 시 다음 주기에 다시 보낸다
+    void restoreUnsynced(long consumed) {
+        lock.lock();
+        try {
+            unsynced += consumed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // cluster 전체에서 남은 token 으로 맞춘다 (동기화 중 로컬에서 소비한 만큼은 뺀다)
+    void applyClusterTokens(double clusterTokens, long nowMillis) {
+        lock.lock();
+        try {
+            refill(nowMillis);
+            tokens = Math.min(limit.getCapacity(), clusterTokens - unsynced);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(long nowMillis) {
+        long elapsed = nowMillis - lastRefillMillis;
+        if (elapsed > 0) {
+            tokens = Math.min(limit.getCapacity(), tokens + elapsed * limit.refillPerMillis());
+            lastRefillMillis = nowMillis;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.gymory.global.security.route;
+
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * RoutePolicy 의 매칭 결과로 접근을 결정한다.
+ * 규칙마다 antMatcher 를 순서대로 검사하지 않고 trie 조회 한 번으로 규칙을 찾는다.
+ * 일치하는 규칙이 없으면 거부한다.
+ */
+public class RouteAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final RoutePolicy routePolicy;
+    // 규칙별 권한 검사기는 시작 시 한 번만 만든다
+    private final Map<RouteRule, AuthorityAuthorizationManager<RequestAuthorizationContext>> roleManagers =
+            new IdentityHashMap<>();
+
+    public RouteAuthorizationManager(RoutePolicy routePolicy) {
+        this.routePolicy = routePolicy;
+        for (RouteRule rule : routePolicy.getRules()) {
+            if (!rule.isPermitAll()) {
+                roleManagers.put(rule, AuthorityAuthorizationManager.hasAnyRole(rule.getRoles().toArray(String[]::new)));
+            }
+        }
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        RouteRule rule = routePolicy.match(context.getRequest().getServletPath());
+        if (rule == null) {
+            return DENIED;
+        }
+        if (rule.isPermitAll()) {
+            return GRANTED;
+        }
+        return roleManagers.get(rule).check(authentication, context);
+    }
+}
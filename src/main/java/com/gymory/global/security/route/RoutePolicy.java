@@ -0,0 +1,96 @@
+package com.gymory.global.security.route;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시작 시 한 번 만들어지는 경로 정책 trie.
+ * JwtVerificationFilter(검증 생략 여부)와 RouteAuthorizationManager(필요 권한)가 같은 규칙을 공유한다.
+ * 조회는 경로 segment 를 한 번 따라 내려가며, 가장 구체적인 규칙(정확한 경로 > 긴 prefix > 짧은 prefix)이 선택된다.
+ */
+public class RoutePolicy {
+
+    private static final Comparator<RouteRule> MOST_SPECIFIC_FIRST =
+            Comparator.comparing(RouteRule::isPrefix)
+                    .thenComparingInt(rule -> -rule.literalSegments().length);
+
+    private final Node root = new Node();
+    private final List<RouteRule> rules;
+
+    public RoutePolicy(List<RouteRule> rules) {
+        for (RouteRule rule : rules) {
+            insert(rule);
+        }
+        List<RouteRule> sorted = new ArrayList<>(rules);
+        sorted.sort(MOST_SPECIFIC_FIRST);
+        this.rules = List.copyOf(sorted);
+    }
+
+    // 구체적인 규칙부터 반환
+    public List<RouteRule> getRules() {
+        return rules;
+    }
+
+    public boolean shouldSkipJwt(String path) {
+        RouteRule rule = match(path);
+        return rule != null && rule.isSkipJwt();
+    }
+
+    public RouteRule match(String path) {
+        Node node = root;
+        RouteRule fallback = root.prefixRule;
+        int length = path.length();
+        int start = 0;
+        while (start < length) {
+            if (path.charAt(start) == '/') {
+                start++;
+                continue;
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.children.get(path.substring(start, end));
+            if (node == null) {
+                return fallback;
+            }
+            if (node.prefixRule != null) {
+                fallback = node.prefixRule;
+            }
+            start = end;
+        }
+        return node.exactRule != null ? node.exactRule : fallback;
+    }
+
+    private void insert(RouteRule rule) {
+        Node node = root;
+        for (String segment : rule.literalSegments()) {
+            node = node.children.computeIfAbsent(segment, key -> new Node());
+        }
+        RouteRule previous = rule.isPrefix() ? node.prefixRule : node.exactRule;
+        if (previous != null) {
+            throw new IllegalStateException("Duplicate route rule: " + rule.getPattern());
+        }
+        if (rule.isPrefix()) {
+            node.prefixRule = rule;
+        } else {
+            node.exactRule = rule;
+        }
+    }
+
+    static String[] split(String path) {
+        return Arrays.stream(path.split("/"))
+                .filter(segment -> !segment.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private RouteRule exactRule;
+        private RouteRule prefixRule;
+    }
+}
@@ -0,0 +1,61 @@
+package com.gymory.global.security.route;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 경로 패턴별 접근 정책.
+ * pattern 은 "/auth/login" 같은 정확한 경로 또는 "/admin/**" 처럼 끝이 "/**" 인 prefix 만 허용한다.
+ * roles 가 비어 있으면 permitAll.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RouteRule {
+    private static final String ANY_SUFFIX = "/**";
+
+    private final String pattern;
+    private final boolean skipJwt;
+    private final List<String> roles;
+
+    public static RouteRule permitAll(String pattern) {
+        return new RouteRule(validate(pattern), false, List.of());
+    }
+
+    // JWT 검증 필터도 거치지 않는 경로 (가입/로그인/재발급)
+    public static RouteRule skipJwt(String pattern) {
+        return new RouteRule(validate(pattern), true, List.of());
+    }
+
+    public static RouteRule hasAnyRole(String pattern, String... roles) {
+        return new RouteRule(validate(pattern), false, List.of(roles));
+    }
+
+    public boolean isPermitAll() {
+        return roles.isEmpty();
+    }
+
+    public boolean isPrefix() {
+        return pattern.endsWith(ANY_SUFFIX);
+    }
+
+    String[] literalSegments() {
+        String literal = isPrefix() ? pattern.substring(0, pattern.length() - ANY_SUFFIX.length()) : pattern;
+        return RoutePolicy.split(literal);
+    }
+
+    private static String validate(String pattern) {
+        if (!pattern.startsWith("/")) {
+            throw new IllegalArgumentException("Route pattern must start with '/': " + pattern);
+        }
+        String literal = pattern.endsWith(ANY_SUFFIX) ? pattern.substring(0, pattern.length() - ANY_SUFFIX.length()) : pattern;
+        if (literal.contains("*") || literal.contains("?") || literal.contains("{")) {
+            throw new IllegalArgumentException("Only exact paths and trailing '/**' are supported: " + pattern);
+        }
+        return pattern;
+    }
+}
@@ -0,0 +1,7 @@
+-- 체육관 좌표 컬럼 추가 (MySQL). 좌표가 없는 체육관은 주변 검색에서 제외된다
+-- 공간 검색은 애플리케이션의 GymGeoIndex 가 담당하므로 DB 인덱스는 두지 않는다
+
+ALTER TABLE USER
+    ADD COLUMN LATITUDE DOUBLE NULL,
+    ADD COLUMN LONGITUDE DOUBLE NULL,
+    ALGORITHM = INPLACE, LOCK = NONE;
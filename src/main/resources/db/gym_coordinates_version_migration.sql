@@ -0,0 +1,6 @@
+-- 체육관 좌표 version 컬럼 추가 (MySQL)
+-- 좌표와 같은 UPDATE 에서 1 씩 증가하며, 노드들은 이 값이 더 큰 변경만 GymGeoIndex 에 반영한다
+
+ALTER TABLE USER
+    ADD COLUMN COORDINATES_VERSION BIGINT NOT NULL DEFAULT 0,
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,22 @@
+-- USER.ACCESS_TOKEN / USER.REFRESH_TOKEN -> TOKEN_SESSION 이전 스크립트 (MySQL)
+-- 1) 애플리케이션 배포 전에 실행: 테이블 생성 (기존 토큰은 이전하지 않으며 모든 사용자가 다시 로그인해야 한다)
+-- 2) 신규 버전 배포 후 구 버전 인스턴스가 모두 내려가면 실행: USER 의 토큰 컬럼 삭제
+
+CREATE TABLE IF NOT EXISTS TOKEN_SESSION (
+    USER_ID             BIGINT       NOT NULL,
+    TOKEN_ID            VARCHAR(36)  NOT NULL,
+    ACCESS_FINGERPRINT  VARCHAR(43)  NOT NULL,
+    REFRESH_FINGERPRINT VARCHAR(43)  NOT NULL,
+    EXPIRES_AT          DATETIME(6)  NOT NULL,
+    CREATED_AT          DATETIME(6),
+    UPDATED_AT          DATETIME(6),
+    PRIMARY KEY (USER_ID, TOKEN_ID),
+    INDEX IDX_TOKEN_SESSION_EXPIRES_AT (EXPIRES_AT)
+);
+
+-- 기존 토큰은 이전하지 않는다.
+-- 구 버전 토큰에는 uid / jti claim 이 없어 재발급과 로그아웃에서 세션(USER_ID, TOKEN_ID)을 찾을 수 없으므로,
+-- 배포 후 모든 사용자는 다시 로그인해야 한다. (구 Access Token 은 만료 시까지 인증에는 사용할 수 있지만 재발급은 거절된다)
+
+-- (2) 구 버전 인스턴스 종료 후
+-- ALTER TABLE USER DROP COLUMN ACCESS_TOKEN, DROP COLUMN REFRESH_TOKEN;
@@ -0,0 +1,11 @@
+-- 사용자 목록 keyset 페이지네이션 인덱스 (MySQL 8)
+-- WHERE ROLE = ? AND CREATED_AT <= ? AND (CREATED_AT < ? OR USER_ID < ?) ORDER BY CREATED_AT DESC, USER_ID DESC LIMIT ?
+-- InnoDB online DDL 로 생성하므로 배포 전에 실행해도 쓰기를 막지 않는다
+
+ALTER TABLE USER
+    ADD INDEX IDX_USER_ROLE_CREATED_AT_ID (ROLE, CREATED_AT DESC, USER_ID DESC),
+    ADD INDEX IDX_USER_CREATED_AT_ID (CREATED_AT DESC, USER_ID DESC),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- CREATED_AT 이 없는 row 는 목록에서 빠지므로 채워 둔다
+UPDATE USER SET CREATED_AT = COALESCE(UPDATED_AT, NOW(6)) WHERE CREATED_AT IS NULL;
@@ -0,0 +1,82 @@
+package com.gymory.unit.domain.base;
+
+import com.gymory.domain.base.GymoryIdGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GymoryIdGeneratorTest {
+    @Test
+    void monotonicTest(){
+        // given
+        GymoryIdGenerator generator = new GymoryIdGenerator(3);
+        long before = System.currentTimeMillis();
+
+        // when
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+
+            // then
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        assertThat(previous).isLessThan(1L << 53);
+        assertThat(GymoryIdGenerator.timestampOf(previous)).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void concurrentUniqueTest() throws Exception {
+        // given
+        GymoryIdGenerator generator = new GymoryIdGenerator(0);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            futures.add(executorService.submit(() -> {
+                List<Long> ids = new ArrayList<>();
+                for (int j = 0; j < 50_000; j++) {
+                    ids.add(generator.nextId());
+                }
+                return ids;
+            }));
+        }
+        Set<Long> ids = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            ids.addAll(future.get());
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(ids).hasSize(8 * 50_000);
+    }
+
+    @Test
+    void nodeIdTest(){
+        // when, then: 같은 시각이라도 노드가 다르면 ID 가 겹치지 않는다
+        assertThat(new GymoryIdGenerator(1).nextId()).isNotEqualTo(new GymoryIdGenerator(2).nextId());
+        assertThatThrownBy(() -> new GymoryIdGenerator(GymoryIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void unsetNodeIdFailsFastTest(){
+        // when, then: 노드 id 를 지정하지 않으면 hostname 등으로 추측하지 않고 기동에 실패한다
+        assertThat(GymoryIdGenerator.resolveNodeId(" 7 ")).isEqualTo(7);
+        assertThatThrownBy(() -> GymoryIdGenerator.resolveNodeId(null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(GymoryIdGenerator.NODE_ID_SETTING);
+        assertThatThrownBy(() -> GymoryIdGenerator.resolveNodeId(""))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,225 @@
+package com.gymory.unit.domain.user.gym.geo;
+
+import com.gymory.domain.user.gym.geo.GymCoordinatesChangedEvent;
+import com.gymory.domain.user.gym.geo.GymGeoIndex;
+import com.gymory.domain.user.gym.geo.GymGeoIndexSynchronizer;
+import com.gymory.domain.user.gym.geo.VersionedGymLocation;
+import com.gymory.domain.user.gym.repository.GymRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GymGeoIndexSynchronizerTest {
+    private static final long PROBE_GYM_ID = 999L;
+
+    static RedisServer redisServer;
+    static LettuceConnectionFactory connectionFactory;
+    static RedisTemplate<String, Object> redisTemplate;
+
+    GymRepository gymRepository = mock(GymRepository.class);
+    List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    GymGeoIndex indexA;
+    GymGeoIndex indexB;
+    GymGeoIndexSynchronizer nodeA;
+    GymGeoIndexSynchronizer nodeB;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void init(){
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        when(gymRepository.findAllVersionedLocations())
+                .thenReturn(List.of(new VersionedGymLocation(1L, 37.5665, 126.9780, 1L)));
+        indexA = new GymGeoIndex(0.01);
+        indexB = new GymGeoIndex(0.01);
+        nodeA = startNode(indexA);
+        nodeB = startNode(indexB);
+
+        // 두 노드의 구독이 활성화될 때까지 probe 를 보낸다
+        awaitTrue(() -> {
+            nodeA.onCoordinatesChanged(new GymCoordinatesChangedEvent(PROBE_GYM_ID, 35.0, 129.0, 1));
+            return indexB.size() == 2;
+        });
+        nodeB.onCoordinatesChanged(new GymCoordinatesChangedEvent(PROBE_GYM_ID, null, null, 2));
+        awaitTrue(() -> indexA.size() == 1 && indexB.size() == 1);
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+    }
+
+    @Test
+    void propagateChangeTest(){
+        // when: A 노드에서 체육관 2 추가, 체육관 1 이동
+        nodeA.onCoordinatesChanged(new GymCoordinatesChangedEvent(2L, 37.4979, 127.0276, 1));
+        nodeA.onCoordinatesChanged(new GymCoordinatesChangedEvent(1L, 37.5547, 126.9707, 2));
+
+        // then: 이 노드에는 바로, 다른 노드에는 pub/sub 으로 반영된다
+        assertThat(gymIdsNear(indexA, 37.4979, 127.0276)).containsExactly(2L);
+        awaitTrue(() -> gymIdsNear(indexB, 37.4979, 127.0276).equals(List.of(2L))
+                && gymIdsNear(indexB, 37.5547, 126.9707).equals(List.of(1L)));
+        assertThat(gymIdsNear(indexB, 37.5665, 126.9780)).doesNotContain(1L);
+
+        // when: B 노드에서 좌표 삭제
+        nodeB.onCoordinatesChanged(new GymCoordinatesChangedEvent(2L, null, null, 2));
+
+        // then
+        awaitTrue(() -> indexA.size() == 1 && indexB.size() == 1);
+    }
+
+    @Test
+    void laterCommitWinsOnEveryNodeTest(){
+        // when: 같은 체육관을 두 노드에서 바꿨고, 먼저 commit 된(version 2) 변경이 나중에 발행된 경우
+        nodeB.onCoordinatesChanged(new GymCoordinatesChangedEvent(1L, 37.4979, 127.0276, 3));
+        nodeA.onCoordinatesChanged(new GymCoordinatesChangedEvent(1L, 35.1796, 129.0756, 2));
+
+        // then: 두 노드 모두 나중에 commit 된 좌표로 맞춰진다
+        awaitTrue(() -> gymIdsNear(indexA, 37.4979, 127.0276).equals(List.of(1L)));
+        awaitTrue(() -> gymIdsNear(indexB, 37.4979, 127.0276).equals(List.of(1L)));
+        assertThat(gymIdsNear(indexA, 35.1796, 129.0756)).isEmpty();
+        assertThat(gymIdsNear(indexB, 35.1796, 129.0756)).isEmpty();
+    }
+
+    @Test
+    void changeDuringLoadTest(){
+        // given: @PostConstruct 후 container 가 시작됐지만 아직 적재(ApplicationReadyEvent) 전인 노드
+        GymGeoIndex indexC = new GymGeoIndex(0.01);
+        RedisMessageListenerContainer container = newContainer();
+        GymGeoIndexSynchronizer nodeC = newNode(indexC, container);
+        container.start();
+
+        // when: 적재 중에 다른 노드에서 commit 된 변경을 수신하고, DB 에서는 그 이전 값(version 1)을 읽은 경우
+        awaitTrue(() -> {
+            nodeA.onCoordinatesChanged(new GymCoordinatesChangedEvent(1L, 37.4979, 127.0276, 5));
+            return indexC.size() == 1;
+        });
+        nodeC.onApplicationReady();
+
+        // then: 적재 후에도 더 최신 변경이 남는다
+        assertThat(gymIdsNear(indexC, 37.4979, 127.0276)).containsExactly(1L);
+        assertThat(gymIdsNear(indexC, 37.5665, 126.9780)).isEmpty();
+
+        // when: 적재 이후 변경도 수신한다
+        nodeA.onCoordinatesChanged(new GymCoordinatesChangedEvent(2L, 35.1796, 129.0756, 1));
+
+        // then
+        awaitTrue(() -> gymIdsNear(indexC, 35.1796, 129.0756).equals(List.of(2L)));
+    }
+
+    @Test
+    void olderVersionIsIgnoredTest(){
+        // given: 메시지가 발행 순서와 다르게 처리되는 경우
+        String newer = "20:3:37.4979:127.0276";
+        String older = "10:3:35.1796:129.0756";
+
+        // when
+        nodeB.onMessage(message(newer), null);
+        nodeB.onMessage(message(older), null);
+
+        // then: 더 큰 version 의 좌표가 남는다
+        assertThat(gymIdsNear(indexB, 37.4979, 127.0276)).containsExactly(3L);
+        assertThat(gymIdsNear(indexB, 35.1796, 129.0756)).isEmpty();
+    }
+
+    @Test
+    void invalidMessageIsIgnoredTest(){
+        // when
+        nodeB.onMessage(message("not-a-message"), null);
+        nodeB.onMessage(message("1:4:100.0:0.0"), null);
+
+        // then
+        assertThat(indexB.size()).isEqualTo(1);
+    }
+
+    // Spring 기동 순서: @PostConstruct -> listener container 시작 -> ApplicationReadyEvent
+    private GymGeoIndexSynchronizer startNode(GymGeoIndex index) {
+        RedisMessageListenerContainer container = newContainer();
+        GymGeoIndexSynchronizer node = newNode(index, container);
+        container.start();
+        node.onApplicationReady();
+        return node;
+    }
+
+    private RedisMessageListenerContainer newContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        containers.add(container);
+        return container;
+    }
+
+    private GymGeoIndexSynchronizer newNode(GymGeoIndex index, RedisMessageListenerContainer container) {
+        GymGeoIndexSynchronizer node = new GymGeoIndexSynchronizer(gymRepository, index, redisTemplate, container);
+        node.init();
+        return node;
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(GymGeoIndexSynchronizer.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Long> gymIdsNear(GymGeoIndex index, double latitude, double longitude) {
+        return index.withinRadius(latitude, longitude, 10).stream()
+                .map(distance -> distance.getLocation().getGymId())
+                .toList();
+    }
+
+    private void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
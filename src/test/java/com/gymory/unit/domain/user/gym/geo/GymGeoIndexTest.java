@@ -0,0 +1,212 @@
+package com.gymory.unit.domain.user.gym.geo;
+
+import com.gymory.domain.user.gym.geo.GymDistance;
+import com.gymory.domain.user.gym.geo.GymGeoIndex;
+import com.gymory.domain.user.gym.geo.GymLocation;
+import com.gymory.global.code.error.exception.BusinessException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class GymGeoIndexTest {
+    // 대한민국 대략의 범위
+    private static final double MIN_LATITUDE = 33.0;
+    private static final double MAX_LATITUDE = 38.6;
+    private static final double MIN_LONGITUDE = 124.6;
+    private static final double MAX_LONGITUDE = 131.9;
+    private static final int GYMS = 300_000;
+    private static final int QUERIES = 10_000;
+
+    @Test
+    void withinRadiusMatchesFullScanTest(){
+        // given
+        Random random = new Random(7);
+        List<GymLocation> locations = randomLocations(random, 20_000);
+        GymGeoIndex index = new GymGeoIndex(0.01);
+        index.rebuild(locations);
+
+        for (int i = 0; i < 200; i++) {
+            double latitude = randomLatitude(random);
+            double longitude = randomLongitude(random);
+            double radius = 500 + random.nextDouble() * 20_000;
+
+            // when
+            List<GymDistance> result = index.withinRadius(latitude, longitude, radius);
+
+            // then
+            assertThat(ids(result)).containsExactlyInAnyOrderElementsOf(ids(fullScan(locations, latitude, longitude, radius)));
+            assertThat(result).isSortedAccordingTo(Comparator.comparingDouble(GymDistance::getDistanceMeters));
+        }
+    }
+
+    @Test
+    void nearestMatchesFullScanTest(){
+        // given
+        Random random = new Random(11);
+        List<GymLocation> locations = randomLocations(random, 20_000);
+        GymGeoIndex index = new GymGeoIndex(0.01);
+        index.rebuild(locations);
+
+        for (int i = 0; i < 200; i++) {
+            double latitude = randomLatitude(random);
+            double longitude = randomLongitude(random);
+
+            // when
+            List<GymDistance> result = index.nearest(latitude, longitude, 10, 1_000_000);
+
+            // then
+            List<GymDistance> expected = fullScan(locations, latitude, longitude, 1_000_000).subList(0, 10);
+            assertThat(result).hasSize(10);
+            for (int j = 0; j < 10; j++) {
+                assertThat(result.get(j).getDistanceMeters()).isCloseTo(expected.get(j).getDistanceMeters(), within(1e-6));
+            }
+        }
+    }
+
+    @Test
+    void incrementalUpdateTest(){
+        // given: 강남역, 1km 북쪽, 서울역
+        GymGeoIndex index = new GymGeoIndex(0.01);
+        index.put(new GymLocation(1L, 37.4979, 127.0276));
+        index.put(new GymLocation(2L, 37.5069, 127.0276));
+        index.put(new GymLocation(3L, 37.5547, 126.9707));
+
+        // when, then
+        assertThat(ids(index.withinRadius(37.4979, 127.0276, 1_500))).containsExactly(1L, 2L);
+
+        // when: 서울역 체육관이 강남역 바로 옆으로 이전
+        index.put(new GymLocation(3L, 37.4980, 127.0277));
+
+        // then
+        assertThat(ids(index.withinRadius(37.4979, 127.0276, 1_500))).containsExactly(1L, 3L, 2L);
+        assertThat(index.withinRadius(37.5547, 126.9707, 1_000)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+
+        // when
+        index.remove(1L);
+
+        // then
+        assertThat(ids(index.nearest(37.4979, 127.0276, 1, 10_000))).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void antimeridianAndPoleTest(){
+        // given
+        GymGeoIndex index = new GymGeoIndex(0.01);
+        index.put(new GymLocation(1L, 0.0, 179.999));
+        index.put(new GymLocation(2L, 0.0, -179.999));
+        index.put(new GymLocation(3L, 89.999, 10.0));
+        index.put(new GymLocation(4L, 89.999, -170.0));
+
+        // when, then: 날짜변경선과 극을 건너 찾는다
+        assertThat(ids(index.withinRadius(0.0, 179.9995, 1_000))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(index.withinRadius(89.9995, 10.0, 1_000))).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(ids(index.nearest(0.0, -179.9995, 4, GymGeoIndex.MAX_DISTANCE_METERS))).hasSize(4).startsWith(2L, 1L);
+    }
+
+    @Test
+    void invalidCoordinatesTest(){
+        // given
+        GymGeoIndex index = new GymGeoIndex(0.01);
+
+        // when, then
+        assertThatThrownBy(() -> index.put(new GymLocation(1L, 91.0, 0.0))).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> index.withinRadius(0.0, 181.0, 1_000)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> index.nearest(0.0, 0.0, 10, 0)).isInstanceOf(BusinessException.class);
+
+        // when: 잘못된 좌표는 rebuild 에서 건너뛴다
+        index.rebuild(List.of(new GymLocation(1L, Double.NaN, 0.0), new GymLocation(2L, 37.0, 127.0)));
+
+        // then
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    // 300,000 개 체육관: 반경 3km 검색, 가까운 20 개 검색 vs 전체 scan
+    @Tag("benchmark")
+    @Test
+    void searchBenchmark(){
+        Random random = new Random(42);
+        List<GymLocation> locations = randomLocations(random, GYMS);
+        GymGeoIndex index = new GymGeoIndex(0.01);
+
+        long start = System.nanoTime();
+        index.rebuild(locations);
+        long rebuildNanos = System.nanoTime() - start;
+
+        double[][] points = new double[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            points[i] = new double[]{randomLatitude(random), randomLongitude(random)};
+        }
+        long found = 0;
+        for (double[] point : points) {
+            found += index.withinRadius(point[0], point[1], 3_000).size();
+            found += index.nearest(point[0], point[1], 20, 50_000).size();
+        }
+
+        start = System.nanoTime();
+        for (double[] point : points) {
+            found += index.withinRadius(point[0], point[1], 3_000).size();
+        }
+        long radiusNanos = (System.nanoTime() - start) / QUERIES;
+
+        start = System.nanoTime();
+        for (double[] point : points) {
+            found += index.nearest(point[0], point[1], 20, 50_000).size();
+        }
+        long nearestNanos = (System.nanoTime() - start) / QUERIES;
+
+        int scans = 100;
+        start = System.nanoTime();
+        for (int i = 0; i < scans; i++) {
+            found += fullScan(locations, points[i][0], points[i][1], 3_000).size();
+        }
+        long fullScanNanos = (System.nanoTime() - start) / scans;
+
+        System.out.printf("%d gyms (rebuild %d ms): radius 3km %d ns/op (%.0f ops/s), nearest 20 %d ns/op (%.0f ops/s), "
+                        + "full scan %d ns/op%n", GYMS, rebuildNanos / 1_000_000,
+                radiusNanos, 1e9 / radiusNanos, nearestNanos, 1e9 / nearestNanos, fullScanNanos);
+        assertThat(found).isPositive();
+    }
+
+    private List<GymDistance> fullScan(List<GymLocation> locations, double latitude, double longitude, double radius) {
+        List<GymDistance> result = new ArrayList<>();
+        for (GymLocation location : locations) {
+            double distance = GymGeoIndex.distanceMeters(latitude, longitude, location.getLatitude(), location.getLongitude());
+            if (distance <= radius) {
+                result.add(new GymDistance(location, distance));
+            }
+        }
+        result.sort(Comparator.comparingDouble(GymDistance::getDistanceMeters));
+        return result;
+    }
+
+    private List<GymLocation> randomLocations(Random random, int size) {
+        List<GymLocation> locations = new ArrayList<>();
+        for (long id = 1; id <= size; id++) {
+            locations.add(new GymLocation(id, randomLatitude(random), randomLongitude(random)));
+        }
+        return locations;
+    }
+
+    private double randomLatitude(Random random) {
+        return MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE);
+    }
+
+    private double randomLongitude(Random random) {
+        return MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE);
+    }
+
+    private List<Long> ids(List<GymDistance> distances) {
+        return distances.stream().map(distance -> distance.getLocation().getGymId()).collect(Collectors.toList());
+    }
+}
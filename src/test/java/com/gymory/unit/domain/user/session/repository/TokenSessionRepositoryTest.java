@@ -0,0 +1,212 @@
+package com.gymory.unit.domain.user.session.repository;
+
+import com.gymory.domain.user.session.data.TokenSession;
+import com.gymory.domain.user.session.repository.TokenSessionRepository;
+import com.gymory.domain.user.userbase.service.TokenWriteBehindService;
+import com.gymory.global.config.QuerydslConfig;
+import com.gymory.global.redis.RefreshTokenStore;
+import com.gymory.global.security.jwt.TokenDigests;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:token_session;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class TokenSessionRepositoryTest {
+    private static final long TTL_MILLIS = 60_000L;
+    private static final int USERS = 20_000;
+    private static final int LOOKUPS = 20_000;
+
+    @Autowired
+    TokenSessionRepository tokenSessionRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    EntityManager entityManager;
+
+    TokenWriteBehindService tokenWriteBehindService;
+
+    @BeforeEach
+    void init(){
+        tokenWriteBehindService = new TokenWriteBehindService(jdbcTemplate,
+                new TransactionTemplate(transactionManager), mock(RefreshTokenStore.class));
+        ReflectionTestUtils.setField(tokenWriteBehindService, "batchSize", 100);
+    }
+
+    @Test
+    void upsertTest(){
+        // given: 로그인 후 같은 세션(jti)으로 재발급
+        tokenWriteBehindService.enqueue(1L, "a@email.com", "ROLE_MEMBER", "jti-1", "access-1", "refresh-1", TTL_MILLIS);
+        tokenWriteBehindService.flush();
+
+        // when
+        tokenWriteBehindService.enqueue(1L, "a@email.com", "ROLE_MEMBER", "jti-1", "access-2", "refresh-2", TTL_MILLIS);
+        tokenWriteBehindService.flush();
+        entityManager.clear();
+
+        // then
+        List<TokenSession> sessions = tokenSessionRepository.findByUserId(1L);
+        assertThat(sessions).hasSize(1);
+        assertThat(sessions.get(0).getAccessFingerprint()).isEqualTo(TokenDigests.sha256("access-2"));
+        assertThat(sessions.get(0).getRefreshFingerprint()).isEqualTo(TokenDigests.sha256("refresh-2"));
+    }
+
+    @Test
+    void multipleSessionsPerUserTest(){
+        // given: 같은 사용자의 기기 3 대 + 다른 사용자 1 명
+        for (int device = 1; device <= 3; device++) {
+            tokenWriteBehindService.enqueue(1L, "a@email.com", "ROLE_MEMBER", "jti-" + device,
+                    "access-" + device, "refresh-" + device, TTL_MILLIS);
+        }
+        tokenWriteBehindService.enqueue(2L, "b@email.com", "ROLE_MEMBER", "jti-9", "access-9", "refresh-9", TTL_MILLIS);
+
+        // when
+        tokenWriteBehindService.flush();
+
+        // then
+        assertThat(tokenSessionRepository.findByUserId(1L))
+                .extracting(TokenSession::getTokenId)
+                .containsExactlyInAnyOrder("jti-1", "jti-2", "jti-3");
+        assertThat(tokenSessionRepository.findByUserId(2L)).hasSize(1);
+    }
+
+    @Test
+    void deleteSessionTest(){
+        // given
+        insertSession(1L, "jti-1", System.currentTimeMillis() + TTL_MILLIS);
+        insertSession(1L, "jti-2", System.currentTimeMillis() + TTL_MILLIS);
+
+        // when
+        int deleted = tokenSessionRepository.deleteSession(1L, "jti-1");
+
+        // then: 다른 기기의 세션은 유지
+        assertThat(deleted).isEqualTo(1);
+        assertThat(tokenSessionRepository.deleteSession(1L, "jti-1")).isZero();
+        assertThat(tokenSessionRepository.findByUserId(1L))
+                .extracting(TokenSession::getTokenId)
+                .containsExactly("jti-2");
+    }
+
+    @Test
+    void purgeExpiredSessionsTest(){
+        // given
+        long now = System.currentTimeMillis();
+        insertSession(1L, "expired-1", now - 1_000);
+        insertSession(2L, "expired-2", now - TTL_MILLIS);
+        insertSession(1L, "live", now + TTL_MILLIS);
+
+        // when
+        int deleted = tokenWriteBehindService.purgeExpiredSessions();
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT TOKEN_ID FROM TOKEN_SESSION", String.class))
+                .containsExactly("live");
+    }
+
+    // 구 USER (토큰 원문 컬럼) vs USER + TOKEN_SESSION (fingerprint): 행 크기와 조회 시간
+    @Tag("benchmark")
+    @Test
+    void rowSizeAndLookupBenchmark(){
+        jdbcTemplate.execute("CREATE TABLE LEGACY_USER (USER_ID BIGINT PRIMARY KEY, ROLE VARCHAR(31), "
+                + "USERNAME VARCHAR(255), EMAIL VARCHAR(255) UNIQUE, PASSWORD VARCHAR(255), "
+                + "ACCESS_TOKEN VARCHAR(2000), REFRESH_TOKEN VARCHAR(2000))");
+        jdbcTemplate.execute("CREATE TABLE SLIM_USER (USER_ID BIGINT PRIMARY KEY, ROLE VARCHAR(31), "
+                + "USERNAME VARCHAR(255), EMAIL VARCHAR(255) UNIQUE, PASSWORD VARCHAR(255))");
+
+        Random random = new Random(42);
+        List<Object[]> legacyRows = new ArrayList<>();
+        List<Object[]> slimRows = new ArrayList<>();
+        List<Object[]> sessionRows = new ArrayList<>();
+        Timestamp expiresAt = new Timestamp(System.currentTimeMillis() + TTL_MILLIS);
+        for (long id = 1; id <= USERS; id++) {
+            // 실제 JWT 와 비슷한 길이 (access ~ 280, refresh ~ 230)
+            String accessToken = randomToken(random, 280);
+            String refreshToken = randomToken(random, 230);
+            String email = "user" + id + "@email.com";
+            String password = randomToken(random, 60);
+            legacyRows.add(new Object[]{id, "MEMBER", "user" + id, email, password, accessToken, refreshToken});
+            slimRows.add(new Object[]{id, "MEMBER", "user" + id, email, password});
+            sessionRows.add(new Object[]{id, "jti-" + id, TokenDigests.sha256(accessToken),
+                    TokenDigests.sha256(refreshToken), expiresAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO LEGACY_USER VALUES (?, ?, ?, ?, ?, ?, ?)", legacyRows);
+        jdbcTemplate.batchUpdate("INSERT INTO SLIM_USER VALUES (?, ?, ?, ?, ?)", slimRows);
+        jdbcTemplate.batchUpdate("INSERT INTO TOKEN_SESSION (USER_ID, TOKEN_ID, ACCESS_FINGERPRINT, "
+                + "REFRESH_FINGERPRINT, EXPIRES_AT) VALUES (?, ?, ?, ?, ?)", sessionRows);
+
+        Double legacyRowBytes = jdbcTemplate.queryForObject("SELECT AVG(OCTET_LENGTH(USERNAME) + OCTET_LENGTH(EMAIL) "
+                + "+ OCTET_LENGTH(PASSWORD) + OCTET_LENGTH(ACCESS_TOKEN) + OCTET_LENGTH(REFRESH_TOKEN)) FROM LEGACY_USER", Double.class);
+        Double slimRowBytes = jdbcTemplate.queryForObject("SELECT AVG(OCTET_LENGTH(USERNAME) + OCTET_LENGTH(EMAIL) "
+                + "+ OCTET_LENGTH(PASSWORD)) FROM SLIM_USER", Double.class);
+        Double sessionRowBytes = jdbcTemplate.queryForObject("SELECT AVG(OCTET_LENGTH(TOKEN_ID) "
+                + "+ OCTET_LENGTH(ACCESS_FINGERPRINT) + OCTET_LENGTH(REFRESH_FINGERPRINT)) FROM TOKEN_SESSION", Double.class);
+
+        List<Long> ids = random.ints(LOOKUPS, 1, USERS + 1).asLongStream().boxed().collect(Collectors.toList());
+        lookup("SELECT * FROM LEGACY_USER WHERE EMAIL = ?", ids, true);
+        lookup("SELECT * FROM SLIM_USER WHERE EMAIL = ?", ids, true);
+        lookup("SELECT * FROM TOKEN_SESSION WHERE USER_ID = ?", ids, false);
+
+        long legacyNanos = lookup("SELECT * FROM LEGACY_USER WHERE EMAIL = ?", ids, true);
+        long slimNanos = lookup("SELECT * FROM SLIM_USER WHERE EMAIL = ?", ids, true);
+        long sessionNanos = lookup("SELECT * FROM TOKEN_SESSION WHERE USER_ID = ?", ids, false);
+
+        System.out.printf("%d users: row bytes (variable columns) legacy USER %.0f -> USER %.0f + TOKEN_SESSION %.0f, "
+                        + "lookup by email legacy %d ns/op -> %d ns/op, session by user %d ns/op%n",
+                USERS, legacyRowBytes, slimRowBytes, sessionRowBytes, legacyNanos, slimNanos, sessionNanos);
+        assertThat(slimRowBytes).isLessThan(legacyRowBytes);
+    }
+
+    private long lookup(String sql, List<Long> ids, boolean byEmail) {
+        long start = System.nanoTime();
+        for (Long id : ids) {
+            jdbcTemplate.queryForList(sql, byEmail ? "user" + id + "@email.com" : id);
+        }
+        return (System.nanoTime() - start) / ids.size();
+    }
+
+    private void insertSession(Long userId, String tokenId, long expiresAtMillis) {
+        jdbcTemplate.update("INSERT INTO TOKEN_SESSION (USER_ID, TOKEN_ID, ACCESS_FINGERPRINT, REFRESH_FINGERPRINT, "
+                        + "EXPIRES_AT) VALUES (?, ?, ?, ?, ?)", userId, tokenId,
+                TokenDigests.sha256("access-" + tokenId), TokenDigests.sha256("refresh-" + tokenId),
+                new Timestamp(expiresAtMillis));
+    }
+
+    private String randomToken(Random random, int length) {
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+}
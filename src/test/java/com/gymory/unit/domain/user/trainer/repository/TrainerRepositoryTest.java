@@ -0,0 +1,132 @@
+package com.gymory.unit.domain.user.trainer.repository;
+
+import com.gymory.domain.certification.data.Certification;
+import com.gymory.domain.fee.data.Fee;
+import com.gymory.domain.user.trainer.data.Trainer;
+import com.gymory.domain.user.trainer.dto.TrainerSearchCondition;
+import com.gymory.domain.user.trainer.dto.TrainerSearchDto;
+import com.gymory.domain.user.trainer.repository.TrainerRepository;
+import com.gymory.domain.user.userbase.UserRole;
+import com.gymory.global.config.QuerydslConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:trainer_search;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TrainerRepositoryTest {
+    private static final int TRAINERS = 30;
+
+    @Autowired
+    TrainerRepository trainerRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void init(){
+        // 짝수 트레이너: 50,000 원 주 2 회 + 생활스포츠지도사, 홀수 트레이너: 100,000 원 주 3 회 + 퍼스널트레이너
+        for (int i = 0; i < TRAINERS; i++) {
+            Trainer trainer = Trainer.builder()
+                    .username("trainer" + i)
+                    .email("trainer" + i + "@email.com")
+                    .password("password")
+                    .role(UserRole.TRAINER)
+                    .shortIntroduction("introduction " + i)
+                    .build();
+            entityManager.persist(trainer);
+            boolean even = i % 2 == 0;
+            entityManager.persist(Fee.builder().trainer(trainer).price(even ? 50_000L : 100_000L).frequency(even ? 2 : 3).build());
+            entityManager.persist(Fee.builder().trainer(trainer).price(300_000L).frequency(12).build());
+            entityManager.persist(Certification.builder().trainer(trainer)
+                    .certificateName(even ? "생활스포츠지도사 2급" : "퍼스널트레이너").build());
+            entityManager.persist(Certification.builder().trainer(trainer).certificateName("응급처치").build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void searchWithCollectionsTest(){
+        // given
+        TrainerSearchCondition condition = TrainerSearchCondition.builder()
+                .minPrice(40_000L)
+                .maxPrice(60_000L)
+                .frequency(2)
+                .certificationName("생활스포츠")
+                .build();
+
+        // when
+        Page<TrainerSearchDto> page = trainerRepository.search(condition, PageRequest.of(0, 5));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(TRAINERS / 2);
+        assertThat(page.getContent()).hasSize(5);
+        TrainerSearchDto first = page.getContent().get(0);
+        assertThat(first.getFees()).extracting(TrainerSearchDto.FeeInfo::getPrice).containsExactly(50_000L, 300_000L);
+        assertThat(first.getCertifications()).extracting(TrainerSearchDto.CertificationInfo::getCertificateName)
+                .containsExactlyInAnyOrder("생활스포츠지도사 2급", "응급처치");
+        // 최신 순
+        assertThat(page.getContent()).extracting(TrainerSearchDto::getId).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @Test
+    void fixedStatementCountTest(){
+        // when, then: 목록 + count + fees + certifications
+        for (int size : new int[]{5, 10, 20}) {
+            statistics.clear();
+            Page<TrainerSearchDto> page = trainerRepository.search(new TrainerSearchCondition(), PageRequest.of(0, size));
+
+            assertThat(page.getContent()).hasSize(size);
+            assertThat(page.getContent()).allMatch(trainer -> trainer.getFees().size() == 2 && trainer.getCertifications().size() == 2);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        }
+
+        // 마지막 페이지는 count 를 생략한다
+        statistics.clear();
+        Page<TrainerSearchDto> lastPage = trainerRepository.search(new TrainerSearchCondition(), PageRequest.of(1, 20));
+        assertThat(lastPage.getContent()).hasSize(TRAINERS - 20);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void noMatchTest(){
+        // given
+        TrainerSearchCondition condition = TrainerSearchCondition.builder().frequency(2).minPrice(60_000L).build();
+
+        // when
+        Page<TrainerSearchDto> page = trainerRepository.search(condition, PageRequest.of(0, 10));
+
+        // then: 목록 쿼리만 실행
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
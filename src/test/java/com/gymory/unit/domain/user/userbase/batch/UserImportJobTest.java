@@ -0,0 +1,205 @@
+package com.gymory.unit.domain.user.userbase.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gymory.domain.user.userbase.batch.UserImportJobConfig;
+import com.gymory.domain.user.userbase.batch.UserImportReportListener;
+import com.gymory.domain.user.userbase.batch.UserImportWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.JobRepositoryTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBatchTest
+@SpringJUnitConfig(classes = {UserImportJobConfig.class, UserImportJobTest.TestConfig.class})
+@TestPropertySource(properties = {"batch.user-import.partitions=4", "batch.user-import.chunk-size=2",
+        "spring.jpa.properties.gymory.id.node-id=0"})
+class UserImportJobTest {
+
+    @Autowired
+    JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    JobRepositoryTestUtils jobRepositoryTestUtils;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void init() {
+        jdbcTemplate.update("DELETE FROM USER");
+        jdbcTemplate.update("INSERT INTO USER (USER_ID, ROLE, USERNAME, EMAIL, PASSWORD) "
+                + "VALUES (1, 'MEMBER', 'existing', 'existing@email.com', 'hash')");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jobRepositoryTestUtils.removeJobExecutions();
+    }
+
+    @Test
+    void csvImportTest() throws Exception {
+        // given
+        Path input = Files.writeString(tempDir.resolve("users.csv"), String.join("\n",
+                "username,email,password,role,location,parking,shortIntroduction,unknownColumn",
+                "gym,gym@email.com,1234!@#,GYM,seoul,true,,x",
+                "trainer,Trainer@Email.com,1234!@#,TRAINER,,,PT 10년,x",
+                "member,member@email.com,1234!@#,MEMBER,,,,x",
+                "invalid,not-an-email,1234!@#,MEMBER,,,,x",
+                "admin,admin@email.com,1234!@#,ADMIN,,,,x",
+                "again,member@email.com,1234!@#,MEMBER,,,,x",
+                "existing,existing@email.com,1234!@#,MEMBER,,,,x"));
+
+        // when
+        JobExecution jobExecution = launch(input);
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jobExecution.getExecutionContext().getLong(UserImportReportListener.IMPORTED_KEY)).isEqualTo(3);
+        assertThat(jobExecution.getExecutionContext().getLong(UserImportReportListener.DUPLICATES_KEY)).isEqualTo(2);
+        assertThat(jobExecution.getExecutionContext().getLong(UserImportReportListener.SKIPPED_KEY)).isEqualTo(2);
+        assertThat((List<?>) jobExecution.getExecutionContext().get(UserImportWriter.DUPLICATE_EMAILS_KEY))
+                .containsExactlyInAnyOrder("member@email.com", "existing@email.com");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM USER", Integer.class)).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("SELECT LOCATION FROM USER WHERE EMAIL = 'gym@email.com'", String.class))
+                .isEqualTo("seoul");
+        assertThat(jdbcTemplate.queryForObject("SELECT ROLE FROM USER WHERE EMAIL = 'trainer@email.com'", String.class))
+                .isEqualTo("TRAINER");
+        String password = jdbcTemplate.queryForObject("SELECT PASSWORD FROM USER WHERE EMAIL = 'member@email.com'", String.class);
+        assertThat(passwordEncoder.matches("1234!@#", password)).isTrue();
+    }
+
+    @Test
+    void ndjsonImportTest() throws Exception {
+        // given
+        Path input = Files.writeString(tempDir.resolve("users.ndjson"), String.join("\n",
+                "{\"username\":\"gym\",\"email\":\"gym@email.com\",\"password\":\"1234!@#\",\"role\":\"GYM\",\"wear\":true}",
+                "{\"username\":\"member\",\"email\":\"member@email.com\",\"password\":\"1234!@#\",\"role\":\"MEMBER\"}",
+                "{broken json"));
+
+        // when
+        JobExecution jobExecution = launch(input);
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jobExecution.getExecutionContext().getLong(UserImportReportListener.IMPORTED_KEY)).isEqualTo(2);
+        assertThat(jobExecution.getExecutionContext().getLong(UserImportReportListener.SKIPPED_KEY)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT WEAR FROM USER WHERE EMAIL = 'gym@email.com'", Boolean.class)).isTrue();
+    }
+
+    @Test
+    void malformedLineIsSkippedOnceTest() throws Exception {
+        // given: column 수가 맞지 않는 줄 (partition 4 개)
+        Path input = Files.writeString(tempDir.resolve("users.csv"), String.join("\n",
+                "username,email,password,role",
+                "member1,member1@email.com,1234!@#,MEMBER",
+                "broken,broken@email.com",
+                "member2,member2@email.com,1234!@#,MEMBER",
+                "member3,member3@email.com,1234!@#,MEMBER"));
+
+        // when
+        JobExecution jobExecution = launch(input);
+
+        // then: 모든 partition 이 전체 입력을 읽지 않으므로 한 번만 skip 된다
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jobExecution.getExecutionContext().getLong(UserImportReportListener.SKIPPED_KEY)).isEqualTo(1);
+        assertThat(jobExecution.getExecutionContext().getLong(UserImportReportListener.IMPORTED_KEY)).isEqualTo(3);
+        long readCount = jobExecution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().startsWith(UserImportJobConfig.WORKER_STEP_NAME))
+                .mapToLong(stepExecution -> stepExecution.getReadCount() + stepExecution.getReadSkipCount())
+                .sum();
+        assertThat(readCount).isEqualTo(4);
+        // 완료된 job 의 partition 파일은 지운다
+        assertThat(tempDir.resolve("users.csv.partitions")).doesNotExist();
+    }
+
+    @Test
+    void completedInputCannotRunAgainTest() throws Exception {
+        // given
+        Path input = Files.writeString(tempDir.resolve("users.csv"),
+                "username,email,password,role\nmember,member@email.com,1234!@#,MEMBER");
+        assertThat(launch(input).getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        // when, then: 같은 input 은 같은 JobInstance 이므로 다시 가입시키지 않는다
+        assertThatThrownBy(() -> launch(input)).isInstanceOf(JobInstanceAlreadyCompleteException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM USER", Integer.class)).isEqualTo(2);
+    }
+
+    private JobExecution launch(Path input) throws Exception {
+        return jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString(UserImportJobConfig.INPUT_PARAMETER, input.toString())
+                .toJobParameters());
+    }
+
+    @Configuration
+    static class TestConfig {
+        @Bean
+        DataSource dataSource() {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:mem:user_import;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+            ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                    new ClassPathResource("org/springframework/batch/core/schema-h2.sql"));
+            populator.setContinueOnError(true);
+            populator.execute(dataSource);
+            new JdbcTemplate(dataSource).execute("CREATE TABLE IF NOT EXISTS USER (USER_ID BIGINT PRIMARY KEY, "
+                    + "ROLE VARCHAR(31), USERNAME VARCHAR(255), EMAIL VARCHAR(255), PASSWORD VARCHAR(255), "
+                    + "SHORT_INTRODUCTION VARCHAR(255), LONG_INTRODUCTION VARCHAR(255), LOCATION VARCHAR(255), "
+                    + "PHONE_NUMBER VARCHAR(255), ETC_INFO VARCHAR(255), PARKING BOOLEAN, WEAR BOOLEAN, LOCKER BOOLEAN, "
+                    + "EXAMPLE_COLUMN VARCHAR(255), CREATED_AT TIMESTAMP, UPDATED_AT TIMESTAMP)");
+            return dataSource;
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.gymory.unit.domain.user.userbase.repository;
+
+import com.gymory.domain.user.gym.data.Gym;
+import com.gymory.domain.user.member.data.Member;
+import com.gymory.domain.user.trainer.data.Trainer;
+import com.gymory.domain.user.userbase.UserRole;
+import com.gymory.domain.user.userbase.data.UserBase;
+import com.gymory.domain.user.userbase.repository.UserJpaRepository;
+import com.gymory.global.config.QuerydslConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Gym / Trainer / Member 엔티티 saveAll 이 JDBC batch 로 묶이는지 Hibernate statistics 로 확인한다.
+ * batch 하나는 PreparedStatement 하나로 실행되므로 prepare 횟수가 곧 batch 수다.
+ * 비교 기준(이전 방식)은 같은 컬럼을 IDENTITY 로 저장하는 테스트 전용 엔티티 IdentityUser 로 측정한다.
+ */
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user_batch_insert;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class UserBatchInsertTest {
+    private static final int BATCH_SIZE = 100;
+    private static final int ROWS = 100_000;
+
+    @Autowired
+    UserJpaRepository userJpaRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void init(){
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void saveAllIsBatchedTest(){
+        // given: 역할이 섞인 1,000 명씩
+        List<UserBase> users = users(3_000);
+
+        // when
+        userJpaRepository.saveAll(users);
+        entityManager.flush();
+
+        // then: order_inserts 로 역할별로 모아 batch-size 100 단위로 실행한다
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3_000);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3 * 1_000 / BATCH_SIZE);
+    }
+
+    @Test
+    void identityInsertIsNotBatchedTest(){
+        // given
+        List<IdentityUser> users = identityUsers(300);
+
+        // when
+        users.forEach(entityManager::persist);
+        entityManager.flush();
+
+        // then: IDENTITY 는 id 를 받기 위해 persist 마다 바로 INSERT 하므로 batch 로 묶이지 않는다
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(300);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(300);
+    }
+
+    // 100k 건 역할 혼합 insert: IDENTITY(이전) 와 GymoryIdGenerator(현재) 의 처리량과 JDBC statement 수
+    @Tag("benchmark")
+    @Test
+    void saveAllBenchmark(){
+        List<IdentityUser> identityUsers = identityUsers(ROWS);
+        long identityStart = System.nanoTime();
+        for (int from = 0; from < ROWS; from += 10_000) {
+            identityUsers.subList(from, Math.min(from + 10_000, ROWS)).forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        long identityElapsed = System.nanoTime() - identityStart;
+        long identityStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        List<UserBase> users = users(ROWS);
+        long start = System.nanoTime();
+        for (int from = 0; from < ROWS; from += 10_000) {
+            userJpaRepository.saveAll(users.subList(from, Math.min(from + 10_000, ROWS)));
+            entityManager.flush();
+            entityManager.clear();
+        }
+        long elapsed = System.nanoTime() - start;
+        long statements = statistics.getPrepareStatementCount();
+
+        System.out.printf("%-20s %10s %12s %16s%n", ROWS + " entities", "ms", "rows/s", "JDBC statements");
+        System.out.printf("%-20s %10d %12.0f %16d%n", "IDENTITY (before)", identityElapsed / 1_000_000,
+                ROWS / (identityElapsed / 1e9), identityStatements);
+        System.out.printf("%-20s %10d %12.0f %16d%n", "GymoryId (after)", elapsed / 1_000_000,
+                ROWS / (elapsed / 1e9), statements);
+        assertThat(identityStatements).isEqualTo(ROWS);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statements).isLessThanOrEqualTo(ROWS / BATCH_SIZE + 3L * (ROWS / 10_000));
+    }
+
+    private List<UserBase> users(int count) {
+        List<UserBase> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String username = "user" + i;
+            String email = username + "@email.com";
+            users.add(switch (i % 3) {
+                case 0 -> Gym.builder().username(username).email(email).password("password").role(UserRole.GYM)
+                        .location("Seoul").build();
+                case 1 -> Trainer.builder().username(username).email(email).password("password").role(UserRole.TRAINER)
+                        .shortIntroduction("PT").build();
+                default -> Member.builder().username(username).email(email).password("password").role(UserRole.MEMBER)
+                        .build();
+            });
+        }
+        return users;
+    }
+
+    private List<IdentityUser> identityUsers(int count) {
+        List<IdentityUser> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String username = "identity" + i;
+            UserRole role = switch (i % 3) {
+                case 0 -> UserRole.GYM;
+                case 1 -> UserRole.TRAINER;
+                default -> UserRole.MEMBER;
+            };
+            users.add(new IdentityUser(username, username + "@email.com", "password", role.name(),
+                    role == UserRole.GYM ? "Seoul" : null, role == UserRole.TRAINER ? "PT" : null));
+        }
+        return users;
+    }
+
+    // 이전 방식(IDENTITY) 비교용. USER 테이블(SINGLE_TABLE)과 같은 컬럼을 가진다
+    @Entity
+    @Table(name = "IDENTITY_USER")
+    static class IdentityUser {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        private String username;
+        private String email;
+        private String password;
+        private String role;
+        private String location;
+        private String shortIntroduction;
+
+        protected IdentityUser() {
+        }
+
+        IdentityUser(String username, String email, String password, String role, String location,
+                     String shortIntroduction) {
+            this.username = username;
+            this.email = email;
+            this.password = password;
+            this.role = role;
+            this.location = location;
+            this.shortIntroduction = shortIntroduction;
+        }
+    }
+}
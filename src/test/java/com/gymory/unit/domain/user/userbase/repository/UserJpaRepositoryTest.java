@@ -0,0 +1,164 @@
+package com.gymory.unit.domain.user.userbase.repository;
+
+import com.gymory.domain.user.userbase.UserRole;
+import com.gymory.domain.user.userbase.dto.UserSummaryDto;
+import com.gymory.domain.user.userbase.repository.UserJpaRepository;
+import com.gymory.global.config.QuerydslConfig;
+import com.gymory.global.pagination.CursorPage;
+import com.gymory.global.pagination.CursorRequest;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.gymory.domain.user.userbase.data.QUserBase.userBase;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user_keyset;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class UserJpaRepositoryTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final UserRole[] ROLES = {UserRole.GYM, UserRole.TRAINER, UserRole.MEMBER};
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 10_000;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    UserJpaRepository userJpaRepository;
+
+    @Autowired
+    JPAQueryFactory queryFactory;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void walkAllPagesTest(){
+        // given: 3 명씩 같은 createdAt 이므로 id 로 순서가 정해져야 한다
+        insertUsers(100, i -> ROLES[i % ROLES.length]);
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        CursorPage<UserSummaryDto> page = userJpaRepository.findSummaries(UserRole.TRAINER, CursorRequest.first(7));
+        ids.addAll(idsOf(page));
+        while (page.isHasNext()) {
+            page = userJpaRepository.findSummaries(UserRole.TRAINER, CursorRequest.of(page.getNextCursor(), 7));
+            ids.addAll(idsOf(page));
+        }
+
+        // then
+        List<Long> expected = IntStream.rangeClosed(1, 100)
+                .filter(id -> ROLES[(id - 1) % ROLES.length] == UserRole.TRAINER)
+                .mapToObj(id -> (long) id)
+                .sorted((a, b) -> Long.compare(b, a))
+                .collect(Collectors.toList());
+        assertThat(ids).containsExactlyElementsOf(expected);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void allRolesTest(){
+        // given
+        insertUsers(10, i -> ROLES[i % ROLES.length]);
+
+        // when
+        CursorPage<UserSummaryDto> first = userJpaRepository.findSummaries(null, CursorRequest.first(6));
+        CursorPage<UserSummaryDto> second = userJpaRepository.findSummaries(null, CursorRequest.of(first.getNextCursor(), 6));
+
+        // then
+        assertThat(idsOf(first)).containsExactly(10L, 9L, 8L, 7L, 6L, 5L);
+        assertThat(idsOf(second)).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(first.getContent().get(0).getRole()).isEqualTo(UserRole.GYM);
+    }
+
+    // 200,000 명 체육관 목록의 1 ~ 10,000 페이지: OFFSET vs keyset
+    @Tag("benchmark")
+    @Test
+    void deepPageBenchmark(){
+        insertUsers(PAGE_SIZE * PAGES, i -> UserRole.GYM);
+
+        // 한 번 끝까지 넘기면서 측정할 페이지의 cursor 를 모은다
+        Map<Integer, String> cursors = new LinkedHashMap<>();
+        List<Integer> checkpoints = List.of(1, 10, 100, 1_000, 10_000);
+        String cursor = null;
+        for (int page = 1; page <= PAGES; page++) {
+            if (checkpoints.contains(page)) {
+                cursors.put(page, cursor);
+            }
+            cursor = userJpaRepository.findSummaries(UserRole.GYM, CursorRequest.of(cursor, PAGE_SIZE)).getNextCursor();
+        }
+        assertThat(cursor).isNull();
+
+        for (Map.Entry<Integer, String> entry : cursors.entrySet()) {
+            int page = entry.getKey();
+            List<Long> offsetIds = offsetPage(page);
+            List<Long> keysetIds = idsOf(userJpaRepository.findSummaries(UserRole.GYM, CursorRequest.of(entry.getValue(), PAGE_SIZE)));
+            assertThat(keysetIds).isEqualTo(offsetIds);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) {
+                offsetPage(page);
+            }
+            long offsetNanos = (System.nanoTime() - start) / ROUNDS;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) {
+                userJpaRepository.findSummaries(UserRole.GYM, CursorRequest.of(entry.getValue(), PAGE_SIZE));
+            }
+            long keysetNanos = (System.nanoTime() - start) / ROUNDS;
+
+            System.out.printf("page %5d: offset %6d us, keyset %4d us%n", page, offsetNanos / 1_000, keysetNanos / 1_000);
+        }
+    }
+
+    private List<Long> offsetPage(int page) {
+        return queryFactory
+                .select(Projections.constructor(UserSummaryDto.class,
+                        userBase.id, userBase.username, userBase.role, userBase.createdAt))
+                .from(userBase)
+                .where(userBase.role.eq(UserRole.GYM))
+                .orderBy(userBase.createdAt.desc(), userBase.id.desc())
+                .offset((long) (page - 1) * PAGE_SIZE)
+                .limit(PAGE_SIZE)
+                .fetch()
+                .stream()
+                .map(UserSummaryDto::getId)
+                .collect(Collectors.toList());
+    }
+
+    private void insertUsers(int count, IntFunction<UserRole> roleOf) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{i + 1L, roleOf.apply(i).name(), "user" + i, "user" + i + "@email.com", "password",
+                    Timestamp.valueOf(BASE.plusSeconds(i / 3))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO USER (USER_ID, ROLE, USERNAME, EMAIL, PASSWORD, CREATED_AT) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private List<Long> idsOf(CursorPage<UserSummaryDto> page) {
+        return page.getContent().stream().map(UserSummaryDto::getId).collect(Collectors.toList());
+    }
+}
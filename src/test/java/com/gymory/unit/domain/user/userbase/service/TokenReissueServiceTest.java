@@ -0,0 +1,131 @@
+package com.gymory.unit.domain.user.userbase.service;
+
+import com.gymory.domain.user.userbase.dto.TokenDto;
+import com.gymory.domain.user.userbase.service.TokenReissueService;
+import com.gymory.domain.user.userbase.service.TokenWriteBehindService;
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.exception.BusinessException;
+import com.gymory.global.redis.RefreshTokenStore;
+import com.gymory.global.redis.RefreshTokenStore.RotateResult;
+import com.gymory.global.security.AES128Service;
+import com.gymory.global.security.jwt.JwtTokenProvider;
+import com.gymory.global.security.jwt.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenReissueServiceTest {
+    private static final int PARALLEL_REQUESTS = 1_000;
+    private static final String ENCRYPTED_REFRESH_TOKEN = "encrypted-refresh-token";
+    private static final String REFRESH_TOKEN = "refresh-token";
+    private static final String TOKEN_ID = "token-id";
+
+    JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    AES128Service aes128Service = mock(AES128Service.class);
+    TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+    TokenWriteBehindService tokenWriteBehindService = mock(TokenWriteBehindService.class);
+    RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+    TokenReissueService tokenReissueService;
+
+    @BeforeEach
+    void init(){
+        tokenReissueService = new TokenReissueService(jwtTokenProvider, aes128Service,
+                tokenRevocationService, tokenWriteBehindService, refreshTokenStore);
+        ReflectionTestUtils.setField(tokenReissueService, "graceMillis", 3_000L);
+        tokenReissueService.init();
+
+        Claims claims = Jwts.claims().setSubject("test@email.com").setId(TOKEN_ID);
+        claims.put("userRole", "ROLE_MEMBER");
+        when(aes128Service.decryptAes(ENCRYPTED_REFRESH_TOKEN)).thenReturn(REFRESH_TOKEN);
+        when(aes128Service.encryptAes(anyString())).thenReturn("encrypted-new-refresh-token");
+        when(jwtTokenProvider.parseClaims(REFRESH_TOKEN)).thenReturn(claims);
+        when(jwtTokenProvider.getUserId(claims)).thenReturn(1L);
+        when(jwtTokenProvider.getRefreshTokenExpirationMillis()).thenReturn(60_000L);
+        when(jwtTokenProvider.generateTokenDto(any(), eq(TOKEN_ID))).thenAnswer(invocation ->
+                com.gymory.global.security.jwt.TokenDto.builder()
+                        .tokenId(TOKEN_ID)
+                        .accessToken("new-access-token")
+                        .refreshToken("new-refresh-token")
+                        .build());
+    }
+
+    @Test
+    void parallelReissueSharesOneSigningTest() throws Exception {
+        // given
+        when(refreshTokenStore.rotate(anyString(), anyString(), anyString(), anyString(), anyLong()))
+                .thenReturn(RotateResult.ROTATED);
+        ExecutorService executorService = Executors.newFixedThreadPool(64);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<TokenDto>> futures = new ArrayList<>();
+        for (int i = 0; i < PARALLEL_REQUESTS; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return tokenReissueService.reissue(ENCRYPTED_REFRESH_TOKEN);
+            }));
+        }
+
+        // when
+        startLatch.countDown();
+        List<TokenDto> results = new ArrayList<>();
+        for (Future<TokenDto> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(results).hasSize(PARALLEL_REQUESTS)
+                .allSatisfy(tokenDto -> assertThat(tokenDto.getAccessToken()).isEqualTo("new-access-token"));
+        verify(jwtTokenProvider, times(1)).generateTokenDto(any(), eq(TOKEN_ID));
+        verify(refreshTokenStore, times(1)).rotate(eq("1:" + TOKEN_ID), eq(REFRESH_TOKEN), eq("new-refresh-token"),
+                eq("ROLE_MEMBER"), anyLong());
+        verify(tokenWriteBehindService, times(1)).enqueue(eq(1L), eq("test@email.com"), eq("ROLE_MEMBER"), eq(TOKEN_ID),
+                eq("new-access-token"), eq("new-refresh-token"), anyLong());
+    }
+
+    @Test
+    void staleRefreshTokenTest(){
+        // given
+        when(refreshTokenStore.rotate(anyString(), anyString(), anyString(), anyString(), anyLong()))
+                .thenReturn(RotateResult.STALE);
+
+        // when, then
+        assertThatThrownBy(() -> tokenReissueService.reissue(ENCRYPTED_REFRESH_TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.REFRESH_TOKEN_INVALID);
+        verify(tokenWriteBehindService, never()).enqueue(any(), any(), any(), any(), any(), any(), anyLong());
+    }
+
+    @Test
+    void revokedRefreshTokenTest(){
+        // given
+        when(tokenRevocationService.isRevoked(TOKEN_ID)).thenReturn(true);
+
+        // when, then
+        assertThatThrownBy(() -> tokenReissueService.reissue(ENCRYPTED_REFRESH_TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.REFRESH_TOKEN_INVALID);
+        verify(jwtTokenProvider, never()).generateTokenDto(any(), any());
+    }
+}
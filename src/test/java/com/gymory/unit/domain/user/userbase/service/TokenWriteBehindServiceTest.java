@@ -0,0 +1,174 @@
+package com.gymory.unit.domain.user.userbase.service;
+
+import com.gymory.domain.user.userbase.service.TokenWriteBehindService;
+import com.gymory.global.redis.RefreshTokenStore;
+import com.gymory.global.security.jwt.TokenDigests;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TokenWriteBehindServiceTest {
+    private static final long TTL_MILLIS = 60_000L;
+
+    RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+    JdbcTemplate jdbcTemplate;
+    TokenWriteBehindService tokenWriteBehindService;
+
+    @BeforeEach
+    void init(){
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE TOKEN_SESSION (USER_ID BIGINT NOT NULL, TOKEN_ID VARCHAR(36) NOT NULL, "
+                + "ACCESS_FINGERPRINT VARCHAR(43) NOT NULL, REFRESH_FINGERPRINT VARCHAR(43) NOT NULL, "
+                + "EXPIRES_AT TIMESTAMP NOT NULL, CREATED_AT TIMESTAMP, UPDATED_AT TIMESTAMP, "
+                + "PRIMARY KEY (USER_ID, TOKEN_ID))");
+
+        tokenWriteBehindService = new TokenWriteBehindService(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), refreshTokenStore);
+        // 테스트에서는 주기 flush 가 끼어들지 않도록 길게 둔다
+        ReflectionTestUtils.setField(tokenWriteBehindService, "flushIntervalMillis", 3_600_000L);
+        ReflectionTestUtils.setField(tokenWriteBehindService, "maxPending", 10_000);
+        ReflectionTestUtils.setField(tokenWriteBehindService, "batchSize", 2);
+        ReflectionTestUtils.setField(tokenWriteBehindService, "sessionPurgeIntervalMillis", 3_600_000L);
+        tokenWriteBehindService.init();
+    }
+
+    @AfterEach
+    void cleanUp() throws InterruptedException {
+        doNothing().when(refreshTokenStore).saveAll(anyCollection());
+        tokenWriteBehindService.shutdown();
+    }
+
+    @Test
+    void coalesceSameSessionTest(){
+        // given
+        tokenWriteBehindService.enqueue(1L, "a@email.com", "ROLE_MEMBER", "jti-1", "access-1", "refresh-1", TTL_MILLIS);
+        tokenWriteBehindService.enqueue(1L, "a@email.com", "ROLE_MEMBER", "jti-1", "access-2", "refresh-2", TTL_MILLIS);
+
+        // when
+        tokenWriteBehindService.flush();
+
+        // then: 같은 세션은 마지막 값 1건만 반영
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT * FROM TOKEN_SESSION");
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).get("ACCESS_FINGERPRINT")).isEqualTo(TokenDigests.sha256("access-2"));
+        assertThat(rows.get(0).get("REFRESH_FINGERPRINT")).isEqualTo(TokenDigests.sha256("refresh-2"));
+
+        List<RefreshTokenStore.Session> sessions = captureSavedSessions();
+        assertThat(sessions).hasSize(1);
+        assertThat(sessions.get(0).getAuthId()).isEqualTo("1:jti-1");
+        assertThat(sessions.get(0).getRefreshToken()).isEqualTo("refresh-2");
+        assertThat(tokenWriteBehindService.isPending(1L, "jti-1")).isFalse();
+    }
+
+    @Test
+    void batchUpdateAndInsertTest(){
+        // given: 이미 존재하는 세션 1건
+        Timestamp createdAt = Timestamp.valueOf("2020-01-01 00:00:00");
+        jdbcTemplate.update("INSERT INTO TOKEN_SESSION VALUES (?, ?, ?, ?, ?, ?, ?)",
+                1L, "jti-1", "old-access", "old-refresh", createdAt, createdAt, createdAt);
+
+        // 기존 세션 갱신 1건 + 신규 세션 4건 (batch-size 2 → 여러 chunk)
+        tokenWriteBehindService.enqueue(1L, "a@email.com", "ROLE_MEMBER", "jti-1", "access-1", "refresh-1", TTL_MILLIS);
+        for (long userId = 2; userId <= 5; userId++) {
+            tokenWriteBehindService.enqueue(userId, userId + "@email.com", "ROLE_MEMBER", "jti-" + userId,
+                    "access-" + userId, "refresh-" + userId, TTL_MILLIS);
+        }
+
+        // when
+        tokenWriteBehindService.flush();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TOKEN_SESSION", Integer.class)).isEqualTo(5);
+        Map<String, Object> updated = jdbcTemplate.queryForMap(
+                "SELECT * FROM TOKEN_SESSION WHERE USER_ID = 1 AND TOKEN_ID = 'jti-1'");
+        assertThat(updated.get("ACCESS_FINGERPRINT")).isEqualTo(TokenDigests.sha256("access-1"));
+        assertThat(updated.get("CREATED_AT")).isEqualTo(createdAt);
+        assertThat((Timestamp) updated.get("UPDATED_AT")).isAfter(createdAt);
+        for (long userId = 2; userId <= 5; userId++) {
+            assertThat(jdbcTemplate.queryForObject("SELECT REFRESH_FINGERPRINT FROM TOKEN_SESSION WHERE USER_ID = ?",
+                    String.class, userId)).isEqualTo(TokenDigests.sha256("refresh-" + userId));
+        }
+        assertThat(captureSavedSessions()).hasSize(5);
+    }
+
+    @Test
+    void flushOnShutdownTest() throws InterruptedException {
+        // given
+        tokenWriteBehindService.enqueue(1L, "a@email.com", "ROLE_MEMBER", "jti-1", "access-1", "refresh-1", TTL_MILLIS);
+        tokenWriteBehindService.enqueue(2L, "b@email.com", "ROLE_GYM", "jti-2", "access-2", "refresh-2", TTL_MILLIS);
+
+        // when
+        tokenWriteBehindService.shutdown();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TOKEN_SESSION", Integer.class)).isEqualTo(2);
+        assertThat(tokenWriteBehindService.getPendingCount()).isZero();
+    }
+
+    @Test
+    void inlineFlushFailureIsRequeuedTest(){
+        // given: 버퍼가 가득 차 호출 스레드가 직접 flush 하지만 Redis 저장이 실패
+        ReflectionTestUtils.setField(tokenWriteBehindService, "maxPending", 1);
+        doThrow(new IllegalStateException("redis down")).when(refreshTokenStore).saveAll(anyCollection());
+
+        // when, then: 로그인 요청으로 예외가 전파되지 않는다
+        assertThatCode(() -> tokenWriteBehindService.enqueue(1L, "a@email.com", "ROLE_MEMBER", "jti-1",
+                "access-1", "refresh-1", TTL_MILLIS)).doesNotThrowAnyException();
+        assertThat(tokenWriteBehindService.isPending(1L, "jti-1")).isTrue();
+
+        // when: 복구 후 다음 flush 에서 반영
+        doNothing().when(refreshTokenStore).saveAll(anyCollection());
+        tokenWriteBehindService.flush();
+
+        // then
+        assertThat(tokenWriteBehindService.isPending(1L, "jti-1")).isFalse();
+        verify(refreshTokenStore, times(2)).saveAll(anyCollection());
+    }
+
+    @Test
+    void discardPendingSessionTest(){
+        // given: 두 기기에서 로그인했고 아직 반영되지 않은 상태
+        tokenWriteBehindService.enqueue(1L, "a@email.com", "ROLE_MEMBER", "jti-1", "access-1", "refresh-1", TTL_MILLIS);
+        tokenWriteBehindService.enqueue(1L, "a@email.com", "ROLE_MEMBER", "jti-2", "access-2", "refresh-2", TTL_MILLIS);
+
+        // when: jti-1 기기에서 로그아웃한 뒤 flush
+        tokenWriteBehindService.discard(1L, "jti-1");
+        tokenWriteBehindService.flush();
+
+        // then: 로그아웃한 세션은 DB 와 Redis 에 다시 저장되지 않는다
+        assertThat(jdbcTemplate.queryForList("SELECT TOKEN_ID FROM TOKEN_SESSION", String.class)).containsExactly("jti-2");
+        List<RefreshTokenStore.Session> sessions = captureSavedSessions();
+        assertThat(sessions).extracting(RefreshTokenStore.Session::getAuthId).containsExactly("1:jti-2");
+        assertThat(tokenWriteBehindService.isPending(1L, "jti-1")).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RefreshTokenStore.Session> captureSavedSessions() {
+        ArgumentCaptor<Collection<RefreshTokenStore.Session>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(refreshTokenStore).saveAll(captor.capture());
+        return List.copyOf(captor.getValue());
+    }
+}
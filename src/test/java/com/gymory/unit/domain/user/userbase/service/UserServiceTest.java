@@ -0,0 +1,118 @@
+package com.gymory.unit.domain.user.userbase.service;
+
+import com.gymory.domain.user.session.data.TokenSession;
+import com.gymory.domain.user.session.repository.TokenSessionRepository;
+import com.gymory.domain.user.userbase.service.TokenWriteBehindService;
+import com.gymory.domain.user.userbase.service.UserService;
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.exception.BusinessException;
+import com.gymory.global.redis.RefreshTokenStore;
+import com.gymory.global.security.jwt.JwtTokenProvider;
+import com.gymory.global.security.jwt.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+    private static final String ACCESS_TOKEN = "access-token";
+
+    JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+    RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+    TokenSessionRepository tokenSessionRepository = mock(TokenSessionRepository.class);
+    TokenWriteBehindService tokenWriteBehindService = mock(TokenWriteBehindService.class);
+    UserService userService;
+
+    @BeforeEach
+    void init(){
+        userService = new UserService(null, null, null, null, null, null,
+                jwtTokenProvider, tokenRevocationService, refreshTokenStore, tokenSessionRepository, tokenWriteBehindService);
+
+        Claims claims = Jwts.claims().setSubject("member@email.com").setId("jti-phone");
+        claims.setExpiration(new Date(System.currentTimeMillis() + 60_000));
+        when(jwtTokenProvider.parseClaims(ACCESS_TOKEN)).thenReturn(claims);
+        when(jwtTokenProvider.getUserId(claims)).thenReturn(1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void logoutAllTest(){
+        // given: 휴대폰과 노트북 두 기기의 세션
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(14);
+        List<TokenSession> sessions = List.of(session("jti-phone", expiresAt), session("jti-laptop", expiresAt));
+        when(tokenSessionRepository.findByUserId(1L)).thenReturn(sessions);
+
+        // when
+        int loggedOut = userService.logoutAll(ACCESS_TOKEN);
+
+        // then: 아직 반영되지 않은 세션을 먼저 flush 한 뒤 모든 세션의 토큰을 한 번에 폐기한다
+        assertThat(loggedOut).isEqualTo(2);
+        InOrder order = inOrder(tokenWriteBehindService, tokenSessionRepository, tokenRevocationService);
+        order.verify(tokenWriteBehindService).flush();
+        order.verify(tokenSessionRepository).findByUserId(1L);
+        ArgumentCaptor<Map<String, Date>> captor = ArgumentCaptor.forClass(Map.class);
+        order.verify(tokenRevocationService).revokeAll(captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys("jti-phone", "jti-laptop");
+
+        verify(refreshTokenStore).delete(RefreshTokenStore.sessionId(1L, "jti-phone"));
+        verify(refreshTokenStore).delete(RefreshTokenStore.sessionId(1L, "jti-laptop"));
+        verify(tokenSessionRepository).deleteByUserId(1L);
+    }
+
+    @Test
+    void logoutPendingSessionTest(){
+        // when: 로그인 직후라 세션이 아직 write-behind 대기열에 있을 수 있다
+        userService.logout(ACCESS_TOKEN);
+
+        // then: 대기 중인 값을 먼저 버린 뒤 Refresh Token 과 세션을 삭제해, 이후 flush 가 되살리지 않는다
+        InOrder order = inOrder(tokenRevocationService, tokenWriteBehindService, refreshTokenStore, tokenSessionRepository);
+        order.verify(tokenRevocationService).revoke(eq("jti-phone"), any(Date.class));
+        order.verify(tokenWriteBehindService).discard(1L, "jti-phone");
+        order.verify(refreshTokenStore).delete(RefreshTokenStore.sessionId(1L, "jti-phone"));
+        order.verify(tokenSessionRepository).deleteSession(1L, "jti-phone");
+    }
+
+    @Test
+    void revokedAccessTokenIsRejectedTest(){
+        // given: 이미 로그아웃한 Access Token
+        when(tokenRevocationService.isRevoked("jti-phone")).thenReturn(true);
+
+        // when, then: 유출된 토큰으로 모든 세션을 끊거나 다시 로그아웃할 수 없다
+        assertThatThrownBy(() -> userService.logoutAll(ACCESS_TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.USER_ALREADY_LOGOUT);
+        assertThatThrownBy(() -> userService.logout(ACCESS_TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.USER_ALREADY_LOGOUT);
+        verifyNoInteractions(tokenWriteBehindService, tokenSessionRepository, refreshTokenStore);
+        verify(tokenRevocationService, never()).revokeAll(anyMap());
+        verify(tokenRevocationService, never()).revoke(any(), any());
+    }
+
+    private TokenSession session(String tokenId, LocalDateTime expiresAt) {
+        TokenSession session = mock(TokenSession.class);
+        when(session.getTokenId()).thenReturn(tokenId);
+        when(session.getExpiresAt()).thenReturn(expiresAt);
+        return session;
+    }
+}
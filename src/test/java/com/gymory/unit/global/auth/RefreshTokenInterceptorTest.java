@@ -0,0 +1,134 @@
+package com.gymory.unit.global.auth;
+
+import com.gymory.domain.test.TestController;
+import com.gymory.domain.user.userbase.UserRole;
+import com.gymory.global.auth.AuthContext;
+import com.gymory.global.auth.RefreshTokenInterceptor;
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.exception.BusinessException;
+import com.gymory.global.security.AES128Service;
+import com.gymory.global.security.CustomUserDetails;
+import com.gymory.global.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RefreshTokenInterceptorTest {
+    private static final int ITERATIONS = 50_000;
+
+    AES128Service aes128Service;
+    JwtTokenProvider jwtTokenProvider;
+    RefreshTokenInterceptor refreshTokenInterceptor;
+    HandlerMethod helloHandler;
+
+    @BeforeEach
+    void init() throws Exception {
+        aes128Service = new AES128Service();
+        ReflectionTestUtils.setField(aes128Service, "secretKey", "0123456789abcdef");
+        ReflectionTestUtils.setField(aes128Service, "enginePoolSize", 8);
+        aes128Service.init();
+
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", "gymory-test-secret-key-0123456789abcdef");
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenExpirationMillis", 60_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenExpirationMillis", 600_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "claimsCacheMaximumSize", 10_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "claimsCacheMaxTtlMillis", 600_000L);
+        jwtTokenProvider.init();
+
+        refreshTokenInterceptor = new RefreshTokenInterceptor(jwtTokenProvider, aes128Service);
+        helloHandler = new HandlerMethod(new TestController(), TestController.class.getMethod("hello", AuthContext.class));
+    }
+
+    @Test
+    void authContextTest(){
+        // given
+        MockHttpServletRequest request = requestWithRefreshToken("ROLE_MEMBER");
+
+        // when
+        refreshTokenInterceptor.preHandle(request, new MockHttpServletResponse(), helloHandler);
+
+        // then
+        AuthContext authContext = (AuthContext) request.getAttribute(AuthContext.class.getName());
+        assertThat(authContext.getEmail()).isEqualTo("test@email.com");
+        assertThat(authContext.getUserId()).isEqualTo(1L);
+        assertThat(authContext.getRole()).isEqualTo(UserRole.MEMBER);
+    }
+
+    @Test
+    void wrongRoleTest(){
+        // given
+        MockHttpServletRequest request = requestWithRefreshToken("ROLE_TRAINER");
+
+        // when, then
+        assertThatThrownBy(() -> refreshTokenInterceptor.preHandle(request, new MockHttpServletResponse(), helloHandler))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.METHOD_NOT_ALLOWED);
+    }
+
+    @Test
+    void missingRefreshTokenTest(){
+        // when, then
+        assertThatThrownBy(() -> refreshTokenInterceptor.preHandle(new MockHttpServletRequest(),
+                new MockHttpServletResponse(), helloHandler))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.TOKEN_UNSUPPORTED);
+    }
+
+    // 기존 aspect 의 순서(복호화 → validateToken → getUserPermission → getUserEmail)와 요청당 비용 비교
+    @Tag("benchmark")
+    @Test
+    void perRequestOverheadBenchmark(){
+        // given
+        MockHttpServletRequest request = requestWithRefreshToken("ROLE_MEMBER");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String header = request.getHeader(RefreshTokenInterceptor.REFRESH_TOKEN_HEADER);
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            aspectStyle(header);
+            refreshTokenInterceptor.preHandle(request, response, helloHandler);
+        }
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            aspectStyle(header);
+        }
+        long aspectNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            refreshTokenInterceptor.preHandle(request, response, helloHandler);
+        }
+        long interceptorNanos = System.nanoTime() - start;
+
+        // then
+        System.out.printf("refresh token check per request: aspect=%.0f ns/op interceptor=%.0f ns/op%n",
+                (double) aspectNanos / ITERATIONS, (double) interceptorNanos / ITERATIONS);
+        assertThat(request.getAttribute(AuthContext.class.getName())).isNotNull();
+    }
+
+    private String aspectStyle(String header) {
+        String refreshToken = aes128Service.decryptAes(header);
+        jwtTokenProvider.validateToken(refreshToken);
+        if (jwtTokenProvider.getUserPermission(refreshToken) != UserRole.MEMBER) {
+            throw new IllegalStateException();
+        }
+        return jwtTokenProvider.getUserEmail(refreshToken);
+    }
+
+    private MockHttpServletRequest requestWithRefreshToken(String role) {
+        String refreshToken = jwtTokenProvider
+                .generateTokenDto(CustomUserDetails.of(1L, "test@email.com", null, role))
+                .getRefreshToken();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test/hello");
+        request.addHeader(RefreshTokenInterceptor.REFRESH_TOKEN_HEADER, aes128Service.encryptAes(refreshToken));
+        return request;
+    }
+}
@@ -0,0 +1,153 @@
+package com.gymory.unit.global.config;
+
+import com.gymory.global.config.VirtualThreadConfig;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 HTTP 부하 테스트: 내장 Tomcat 을 띄우고 동시 연결 200 / 2,000 / 20,000 개로 요청을 보내 처리량과 p50/p99 를 비교한다.
+ * 서버는 Tomcat 기본 pool(200) 과 VirtualThreadConfig 의 customizer 를 적용한 virtual thread 모드 두 가지이며,
+ * 요청 하나는 Redis/JDBC 왕복을 흉내 낸 20ms blocking I/O 를 수행한다.
+ * 연결마다 keep-alive 로 ROUNDS 번 요청하므로 클라이언트/서버 합쳐 연결 수의 2 배 이상의 file descriptor 가 필요하다 (ulimit -n 65535).
+ * virtual thread 모드는 JDK 21 이상에서만 측정된다 (./gradlew benchmark -Pbenchmark.javaHome=JDK21 경로).
+ */
+@Tag("benchmark")
+class VirtualThreadLoadTest {
+    private static final long IO_MILLIS = 20;
+    private static final int ROUNDS = 3;
+    private static final int[] CONNECTIONS = {200, 2_000, 20_000};
+    private static final int MAX_CONNECTIONS = 30_000;
+
+    @Test
+    void httpThroughputAndLatencyBenchmark() throws Exception {
+        Optional<ExecutorService> clientExecutor = VirtualThreadConfig.newVirtualThreadPerTaskExecutor("load-client-");
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(clientExecutor.orElseGet(Executors::newCachedThreadPool))
+                .build();
+
+        List<String> modes = new ArrayList<>(List.of("platform"));
+        if (VirtualThreadConfig.newVirtualThreadPerTaskExecutor("probe-").isPresent()) {
+            modes.add("virtual");
+        } else {
+            System.out.printf("virtual threads are not available on Java %d, measuring the platform pool only%n",
+                    Runtime.version().feature());
+        }
+
+        for (String mode : modes) {
+            WebServer server = startServer("virtual".equals(mode));
+            try {
+                URI uri = URI.create("http://localhost:" + server.getPort() + "/io");
+                // JIT 와 connection pool warm-up
+                run(client, uri, CONNECTIONS[0]);
+                for (int connections : CONNECTIONS) {
+                    Result result = run(client, uri, connections);
+                    System.out.printf("%-8s connections=%6d: %8.0f req/s p50=%4dms p99=%5dms errors=%d%n", mode,
+                            connections, result.throughput, result.p50Millis, result.p99Millis, result.errors);
+                    assertThat(result.errors).as("failed requests (check ulimit -n)").isZero();
+                }
+            } finally {
+                server.stop();
+            }
+        }
+    }
+
+    private WebServer startServer(boolean virtualThreads) {
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        factory.addConnectorCustomizers(connector -> {
+            connector.setProperty("maxConnections", String.valueOf(MAX_CONNECTIONS));
+            connector.setProperty("acceptCount", String.valueOf(MAX_CONNECTIONS));
+            connector.setProperty("maxKeepAliveRequests", "-1");
+        });
+        if (virtualThreads) {
+            factory.addProtocolHandlerCustomizers(new VirtualThreadConfig().virtualThreadProtocolHandlerCustomizer());
+        }
+        WebServer server = factory.getWebServer(servletContext ->
+                servletContext.addServlet("simulatedIo", new SimulatedIoServlet()).addMapping("/io"));
+        server.start();
+        return server;
+    }
+
+    // 연결 수만큼의 가상 사용자가 각자 응답을 받은 뒤 다음 요청을 보낸다 (closed loop)
+    private Result run(HttpClient client, URI uri, int connections) {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofMinutes(2)).GET().build();
+        long[] latencies = new long[connections * ROUNDS];
+        AtomicInteger errors = new AtomicInteger();
+        CompletableFuture<?>[] users = new CompletableFuture<?>[connections];
+
+        long start = System.nanoTime();
+        for (int user = 0; user < connections; user++) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (int round = 0; round < ROUNDS; round++) {
+                int slot = user * ROUNDS + round;
+                chain = chain.thenCompose(ignored -> send(client, request, latencies, slot, errors));
+            }
+            users[user] = chain;
+        }
+        CompletableFuture.allOf(users).orTimeout(5, TimeUnit.MINUTES).join();
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(latencies.length / (elapsed / 1_000_000_000.0),
+                TimeUnit.NANOSECONDS.toMillis(percentile(latencies, 0.50)),
+                TimeUnit.NANOSECONDS.toMillis(percentile(latencies, 0.99)),
+                errors.get());
+    }
+
+    private CompletableFuture<Void> send(HttpClient client, HttpRequest request, long[] latencies, int slot,
+                                         AtomicInteger errors) {
+        long sentAt = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, e) -> {
+                    latencies[slot] = System.nanoTime() - sentAt;
+                    if (e != null || response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    }
+                    return null;
+                });
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(sorted.length * percentile) - 1];
+    }
+
+    private static class SimulatedIoServlet extends HttpServlet {
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            try {
+                Thread.sleep(IO_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            response.setContentType("text/plain");
+            response.getWriter().write("ok");
+        }
+    }
+
+    private record Result(double throughput, long p50Millis, long p99Millis, int errors) {
+    }
+}
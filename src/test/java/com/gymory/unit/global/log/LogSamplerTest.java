@@ -0,0 +1,104 @@
+package com.gymory.unit.global.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.gymory.global.log.LogSampler;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplerTest {
+    private static final int REQUESTS = 500_000;
+
+    @Test
+    void oneInTest(){
+        // given
+        LogSampler sampler = LogSampler.oneIn(100);
+
+        // when
+        int acquired = 0;
+        for (int i = 0; i < 100_000; i++) {
+            acquired += sampler.tryAcquire() ? 1 : 0;
+        }
+
+        // then
+        assertThat(acquired).isBetween(700, 1_300);
+        assertThat(sampler.getAndResetSuppressed()).isEqualTo(100_000 - acquired);
+        assertThat(sampler.getAndResetSuppressed()).isZero();
+    }
+
+    @Test
+    void atMostEveryTest(){
+        // given
+        LogSampler sampler = LogSampler.atMostEvery(Duration.ofHours(1));
+
+        // when, then
+        assertThat(sampler.tryAcquire()).isTrue();
+        assertThat(sampler.tryAcquire()).isFalse();
+        assertThat(sampler.tryAcquire()).isFalse();
+        assertThat(sampler.getAndResetSuppressed()).isEqualTo(2);
+    }
+
+    // 요청마다 INFO 로그를 남기는 경우와 sampling 한 경우의 요청당 비용 비교 (동기 appender)
+    @Tag("benchmark")
+    @Test
+    void perRequestCostBenchmark(){
+        // given
+        Logger logger = createLogger();
+        LogSampler sampler = LogSampler.oneIn(100);
+        for (int i = 0; i < REQUESTS / 10; i++) {
+            logger.info("# Token verification success! {}", i);
+            if (sampler.tryAcquire()) {
+                logger.info("# Token verification success! {}", i);
+            }
+        }
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            logger.info("# Token verification success! {}", i);
+        }
+        long everyRequestNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            if (sampler.tryAcquire()) {
+                logger.info("# Token verification success! {}", i);
+            }
+        }
+        long sampledNanos = System.nanoTime() - start;
+
+        // then
+        System.out.printf("log per request: every=%.1f ns/op sampled(1/100)=%.1f ns/op%n",
+                (double) everyRequestNanos / REQUESTS, (double) sampledNanos / REQUESTS);
+        assertThat(sampler.getAndResetSuppressed()).isPositive();
+    }
+
+    private Logger createLogger() {
+        LoggerContext context = new LoggerContext();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %5level [%thread] %logger : %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        Logger logger = context.getLogger("benchmark");
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+}
@@ -0,0 +1,47 @@
+package com.gymory.unit.global.pagination;
+
+import com.gymory.global.code.error.exception.BusinessException;
+import com.gymory.global.pagination.Cursor;
+import com.gymory.global.pagination.CursorRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+
+    @Test
+    void encodeDecodeTest(){
+        // given
+        Cursor cursor = new Cursor(LocalDateTime.of(2026, 10, 17, 12, 30, 15, 123_456_000), 1234567890123L);
+
+        // when
+        String token = cursor.encode();
+
+        // then
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(Cursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void invalidTokenTest(){
+        // given
+        String token = new Cursor(LocalDateTime.now(), 1L).encode();
+
+        // when, then
+        assertThatThrownBy(() -> Cursor.decode("not a cursor")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> Cursor.decode(token.substring(1))).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> CursorRequest.of("AAAA", 20)).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void requestSizeTest(){
+        // when, then
+        assertThat(CursorRequest.of(null, null).getSize()).isEqualTo(CursorRequest.DEFAULT_SIZE);
+        assertThat(CursorRequest.of("", 0).getSize()).isEqualTo(1);
+        assertThat(CursorRequest.of(" ", 1_000).getSize()).isEqualTo(CursorRequest.MAX_SIZE);
+        assertThat(CursorRequest.of(null, 10).getCursor()).isNull();
+    }
+}
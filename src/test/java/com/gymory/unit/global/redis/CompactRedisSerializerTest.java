@@ -0,0 +1,222 @@
+package com.gymory.unit.global.redis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import com.gymory.global.redis.CacheEntry;
+import com.gymory.global.redis.CacheTypeRegistry;
+import com.gymory.global.redis.CompactRedisSerializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactRedisSerializerTest {
+    private static final int ITERATIONS = 100_000;
+
+    CacheTypeRegistry typeRegistry = new CacheTypeRegistry().register(16, SampleTrainer.class);
+    CompactRedisSerializer smileSerializer = new CompactRedisSerializer(SmileFactory.builder()
+            .disable(SmileGenerator.Feature.WRITE_HEADER)
+            .disable(SmileParser.Feature.REQUIRE_HEADER)
+            .build(), typeRegistry, 1024);
+
+    @Test
+    void registeredTypeTest(){
+        // given
+        SampleTrainer trainer = sampleTrainer(3);
+
+        // when
+        Object deserialized = smileSerializer.deserialize(smileSerializer.serialize(trainer));
+
+        // then
+        assertThat(deserialized).isEqualTo(trainer);
+    }
+
+    @Test
+    void unregisteredTypeTest(){
+        // given
+        CompactRedisSerializer serializer = new CompactRedisSerializer(new CBORFactory(), new CacheTypeRegistry(), 0);
+        SampleTrainer trainer = sampleTrainer(3);
+
+        // when
+        byte[] bytes = serializer.serialize(trainer);
+
+        // then: 등록되지 않은 타입은 클래스 이름을 함께 저장한다
+        assertThat(new String(bytes)).contains(SampleTrainer.class.getName());
+        assertThat(serializer.deserialize(bytes)).isEqualTo(trainer);
+    }
+
+    @Test
+    void nullValueTest(){
+        // when, then: RedisCache 는 NullValue.INSTANCE 와의 동일성으로 null 을 판단한다
+        assertThat(smileSerializer.deserialize(smileSerializer.serialize(NullValue.INSTANCE))).isSameAs(NullValue.INSTANCE);
+        assertThat(smileSerializer.deserialize(smileSerializer.serialize("value"))).isEqualTo("value");
+    }
+
+    @Test
+    void cacheEntryTest(){
+        // given
+        CacheEntry entry = new CacheEntry(sampleTrainer(200), 35, System.currentTimeMillis() + 180_000);
+
+        // when
+        Object deserialized = smileSerializer.deserialize(smileSerializer.serialize(entry));
+
+        // then
+        assertThat(deserialized).isInstanceOf(CacheEntry.class);
+        assertThat(deserialized).usingRecursiveComparison().isEqualTo(entry);
+    }
+
+    @Test
+    void compressionTest(){
+        // given
+        SampleTrainer trainer = sampleTrainer(200);
+        CompactRedisSerializer uncompressed = new CompactRedisSerializer(new SmileFactory(), typeRegistry, 0);
+
+        // when
+        byte[] compressed = smileSerializer.serialize(trainer);
+
+        // then
+        assertThat(compressed.length).isLessThan(uncompressed.serialize(trainer).length);
+        assertThat(smileSerializer.deserialize(compressed)).isEqualTo(trainer);
+    }
+
+    @Test
+    void genericCollectionTest(){
+        // given: 캐시 타입을 선언하지 않은 List<SampleTrainer>
+        List<SampleTrainer> trainers = new ArrayList<>(List.of(sampleTrainer(1), sampleTrainer(2)));
+
+        // when
+        Object deserialized = smileSerializer.deserialize(smileSerializer.serialize(trainers));
+
+        // then: 원소가 LinkedHashMap 이 아닌 SampleTrainer 로 복원된다
+        assertThat(deserialized).isInstanceOf(List.class);
+        assertThat((List<?>) deserialized).hasOnlyElementsOfType(SampleTrainer.class).isEqualTo(trainers);
+    }
+
+    @Test
+    void declaredCacheTypeTest(){
+        // given
+        CacheTypeRegistry registry = new CacheTypeRegistry()
+                .registerCache("trainers", new TypeReference<List<SampleTrainer>>() {})
+                .registerCache("careerYears", new TypeReference<Map<String, Long>>() {});
+        CompactRedisSerializer base = new CompactRedisSerializer(new SmileFactory(), registry, 1024);
+        CompactRedisSerializer trainersSerializer = base.withDeclaredType(registry.getCacheTypes().get("trainers"));
+        CompactRedisSerializer careerYearsSerializer = base.withDeclaredType(registry.getCacheTypes().get("careerYears"));
+        List<SampleTrainer> trainers = List.of(sampleTrainer(1), sampleTrainer(2));
+        Map<String, Long> careerYears = new LinkedHashMap<>(Map.of("trainer@email.com", 7L));
+        CacheEntry entry = new CacheEntry(trainers, 12, System.currentTimeMillis() + 60_000);
+
+        // when
+        Object deserializedTrainers = trainersSerializer.deserialize(trainersSerializer.serialize(trainers));
+        Object deserializedCareerYears = careerYearsSerializer.deserialize(careerYearsSerializer.serialize(careerYears));
+        Object deserializedEntry = trainersSerializer.deserialize(trainersSerializer.serialize(entry));
+
+        // then: 선언된 타입으로 복원되며 final 타입 원소(Long)도 유지된다
+        assertThat((List<?>) deserializedTrainers).hasOnlyElementsOfType(SampleTrainer.class).isEqualTo(trainers);
+        assertThat((Map<?, ?>) deserializedCareerYears).containsEntry("trainer@email.com", 7L);
+        assertThat(((CacheEntry) deserializedEntry).getValue()).isEqualTo(trainers);
+    }
+
+    @Test
+    void unsupportedPayloadIsCacheMissTest(){
+        // given: JSON 형식으로 저장돼 있던 값과 더 이상 등록되지 않은 type id 로 저장된 값
+        byte[] json = new GenericJackson2JsonRedisSerializer().serialize(sampleTrainer(1));
+        byte[] unknownId = smileSerializer.serialize(sampleTrainer(1));
+        CompactRedisSerializer withoutType = new CompactRedisSerializer(SmileFactory.builder()
+                .disable(SmileGenerator.Feature.WRITE_HEADER)
+                .disable(SmileParser.Feature.REQUIRE_HEADER)
+                .build(), new CacheTypeRegistry(), 1024);
+        byte[] declared = new CompactRedisSerializer(new SmileFactory(), new CacheTypeRegistry(), 0)
+                .withDeclaredType(TypeFactory.defaultInstance().constructType(SampleTrainer.class))
+                .serialize(sampleTrainer(1));
+
+        // when, then: 예외 대신 cache miss 로 처리해 다시 적재되게 한다
+        assertThat(smileSerializer.deserialize(json)).isNull();
+        assertThat(withoutType.deserialize(unknownId)).isNull();
+        assertThat(withoutType.deserialize(declared)).isNull();
+    }
+
+    // 기존 GenericJackson2JsonRedisSerializer 와 entry 크기 및 직렬화/역직렬화 처리량 비교
+    @Tag("benchmark")
+    @Test
+    void sizeAndThroughputBenchmark(){
+        SampleTrainer trainer = sampleTrainer(5);
+        benchmark("json", new GenericJackson2JsonRedisSerializer(), trainer);
+        benchmark("smile", smileSerializer, trainer);
+        benchmark("cbor", new CompactRedisSerializer(new CBORFactory(), typeRegistry, 1024), trainer);
+    }
+
+    private void benchmark(String name, RedisSerializer<Object> serializer, SampleTrainer trainer) {
+        byte[] bytes = serializer.serialize(trainer);
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            serializer.deserialize(serializer.serialize(trainer));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            bytes = serializer.serialize(trainer);
+        }
+        long serializeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        Object deserialized = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            deserialized = serializer.deserialize(bytes);
+        }
+        long deserializeNanos = System.nanoTime() - start;
+
+        System.out.printf("%s: %d bytes/entry, serialize %.0f ops/s, deserialize %.0f ops/s%n", name, bytes.length,
+                ITERATIONS / (serializeNanos / 1e9), ITERATIONS / (deserializeNanos / 1e9));
+        assertThat(deserialized).isEqualTo(trainer);
+    }
+
+    private SampleTrainer sampleTrainer(int careers) {
+        SampleTrainer trainer = new SampleTrainer();
+        trainer.id = 1L;
+        trainer.email = "trainer@email.com";
+        trainer.name = "트레이너";
+        trainer.gymName = "gymory fitness";
+        trainer.careerYears = 7;
+        trainer.careers = new ArrayList<>();
+        for (int i = 0; i < careers; i++) {
+            trainer.careers.add("PT career " + i);
+        }
+        return trainer;
+    }
+
+    public static class SampleTrainer {
+        public Long id;
+        public String email;
+        public String name;
+        public String gymName;
+        public Integer careerYears;
+        public List<String> careers;
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof SampleTrainer other)) {
+                return false;
+            }
+            return Objects.equals(id, other.id) && Objects.equals(email, other.email) && Objects.equals(name, other.name)
+                    && Objects.equals(gymName, other.gymName) && Objects.equals(careerYears, other.careerYears)
+                    && Objects.equals(careers, other.careers);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, email);
+        }
+    }
+}
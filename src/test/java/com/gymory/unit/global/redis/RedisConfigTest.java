@@ -0,0 +1,208 @@
+package com.gymory.unit.global.redis;
+
+import com.gymory.global.redis.RedisConfig;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisSentinel;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisConfigTest {
+    static int redisPort;
+    static RedisServer redisServer;
+    LettuceConnectionFactory connectionFactory;
+    RedisProperties redisProperties;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisPort = freePort();
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void init(){
+        redisProperties = new RedisProperties();
+        redisProperties.setHost("127.0.0.1");
+        redisProperties.setPort(redisPort);
+    }
+
+    @AfterEach
+    void destroy(){
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @Test
+    void timeoutTest(){
+        // given
+        redisProperties.setTimeout(Duration.ofMillis(500));
+        redisProperties.setConnectTimeout(Duration.ofMillis(200));
+
+        // when
+        StringRedisTemplate template = template(null, 0);
+        template.opsForValue().set("key", "value");
+
+        // then
+        assertThat(connectionFactory.getClientConfiguration().getCommandTimeout()).isEqualTo(Duration.ofMillis(500));
+        assertThat(connectionFactory.getClientConfiguration().getClientOptions().orElseThrow()
+                .getSocketOptions().getConnectTimeout()).isEqualTo(Duration.ofMillis(200));
+        assertThat(template.opsForValue().get("key")).isEqualTo("value");
+    }
+
+    @Test
+    void poolTest(){
+        // given
+        redisProperties.getLettuce().getPool().setEnabled(true);
+        redisProperties.getLettuce().getPool().setMaxActive(4);
+
+        // when: MULTI/EXEC 는 pool 에서 빌린 전용 connection 으로 실행된다
+        StringRedisTemplate template = template(null, 0);
+        List<Object> results = template.execute(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                operations.opsForValue().set("tx:1", "a");
+                operations.opsForValue().set("tx:2", "b");
+                return operations.exec();
+            }
+        });
+
+        // then
+        assertThat(connectionFactory.getClientConfiguration()).isInstanceOf(LettucePoolingClientConfiguration.class);
+        assertThat(((LettucePoolingClientConfiguration) connectionFactory.getClientConfiguration())
+                .getPoolConfig().getMaxTotal()).isEqualTo(4);
+        assertThat(results).hasSize(2);
+        assertThat(template.opsForValue().get("tx:2")).isEqualTo("b");
+    }
+
+    @Test
+    void pipelineFlushTest(){
+        // given
+        StringRedisTemplate template = template(null, 100);
+
+        // when
+        List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < 1_000; i++) {
+                connection.stringCommands().set(("pipeline:" + i).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(i).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        // then
+        assertThat(results).hasSize(1_000);
+        assertThat(template.opsForValue().get("pipeline:999")).isEqualTo("999");
+    }
+
+    @Test
+    void readFromReplicaTest(){
+        // given: replica 가 없으면 master 에서 읽는다
+        StringRedisTemplate template = template("replicaPreferred", 0);
+
+        // when
+        template.opsForValue().set("read-from", "master");
+
+        // then
+        assertThat(connectionFactory.getClientConfiguration().getReadFrom()).contains(ReadFrom.REPLICA_PREFERRED);
+        assertThat(template.opsForValue().get("read-from")).isEqualTo("master");
+    }
+
+    @Test
+    void sentinelTest() throws IOException {
+        // given
+        int sentinelPort = freePort();
+        RedisSentinel sentinel = RedisSentinel.builder()
+                .port(sentinelPort)
+                .masterName("mymaster")
+                .masterPort(redisPort)
+                .quorumSize(1)
+                .build();
+        sentinel.start();
+        try {
+            redisProperties.getSentinel().setMaster("mymaster");
+            redisProperties.getSentinel().setNodes(List.of("127.0.0.1:" + sentinelPort));
+
+            // when
+            StringRedisTemplate template = template(null, 0);
+            template.opsForValue().set("sentinel", "ok");
+
+            // then
+            assertThat(connectionFactory.getSentinelConfiguration().getMaster().getName()).isEqualTo("mymaster");
+            assertThat(template.opsForValue().get("sentinel")).isEqualTo("ok");
+        } finally {
+            sentinel.stop();
+        }
+    }
+
+    @Test
+    void clusterConfigurationTest(){
+        // given
+        List<String> nodes = new ArrayList<>(List.of("127.0.0.1:7000", "127.0.0.1:7001", "127.0.0.1:7002"));
+        redisProperties.getCluster().setNodes(nodes);
+        redisProperties.getCluster().setMaxRedirects(3);
+        redisProperties.getLettuce().getCluster().getRefresh().setAdaptive(true);
+
+        // when: embedded redis 는 cluster 모드를 지원하지 않으므로 설정만 확인
+        LettuceConnectionFactory factory = (LettuceConnectionFactory) newConfig(null, 0).redisConnectionFactory();
+
+        // then
+        assertThat(factory.getClusterConfiguration().getClusterNodes()).hasSize(3);
+        assertThat(factory.getClusterConfiguration().getMaxRedirects()).isEqualTo(3);
+        ClusterClientOptions clientOptions = (ClusterClientOptions) factory.getClientConfiguration().getClientOptions().orElseThrow();
+        assertThat(clientOptions.getTopologyRefreshOptions().isPeriodicRefreshEnabled()).isTrue();
+        assertThat(clientOptions.getTopologyRefreshOptions().getAdaptiveRefreshTriggers()).isNotEmpty();
+    }
+
+    private StringRedisTemplate template(String readFrom, int pipelineFlushThreshold) {
+        connectionFactory = (LettuceConnectionFactory) newConfig(readFrom, pipelineFlushThreshold).redisConnectionFactory();
+        connectionFactory.afterPropertiesSet();
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        return new StringRedisTemplate(connectionFactory);
+    }
+
+    private RedisConfig newConfig(String readFrom, int pipelineFlushThreshold) {
+        RedisConfig redisConfig = new RedisConfig(redisProperties);
+        ReflectionTestUtils.setField(redisConfig, "readFrom", readFrom);
+        ReflectionTestUtils.setField(redisConfig, "pipelineFlushThreshold", pipelineFlushThreshold);
+        return redisConfig;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.gymory.unit.global.redis;
+
+import com.gymory.global.redis.RedisUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisUtilsTest {
+    private static final long TTL_MILLIS = 60_000L;
+    private static final int ROUNDS = 20;
+
+    static RedisServer redisServer;
+    static LettuceConnectionFactory connectionFactory;
+    static RedisTemplate<String, Object> redisTemplate;
+    RedisUtils redisUtils;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void init() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        redisUtils = new RedisUtils(redisTemplate);
+    }
+
+    @Test
+    void batchTest(){
+        // given
+        Map<String, String> data = data(3);
+        Map<String, Long> ttls = Map.of("key:0", 1_000L, "key:1", 60_000L, "key:2", 120_000L);
+
+        // when
+        redisUtils.setDataBatch(data, ttls);
+        Map<String, String> found = redisUtils.getDataBatch(List.of("key:0", "key:1", "missing", "key:2"));
+
+        // then
+        assertThat(found).containsExactlyEntriesOf(data);
+        assertThat(redisTemplate.getExpire("key:0")).isLessThanOrEqualTo(1);
+        assertThat(redisTemplate.getExpire("key:2")).isGreaterThan(60);
+
+        // when
+        long deleted = redisUtils.deleteDataBatch(List.of("key:0", "key:1", "missing"));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(redisUtils.getDataBatch(data.keySet())).containsOnlyKeys("key:2");
+    }
+
+    @Test
+    void missingTtlTest(){
+        // when, then
+        assertThatThrownBy(() -> redisUtils.setDataBatch(data(2), Map.of("key:0", TTL_MILLIS)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(redisUtils.getData("key:0")).isNull();
+    }
+
+    @Test
+    void asyncTest(){
+        // when
+        CompletableFuture.allOf(
+                redisUtils.setDataAsync("key:0", "value:0", TTL_MILLIS),
+                redisUtils.setDataAsync("key:1", "value:1", TTL_MILLIS)).join();
+
+        // then
+        assertThat(redisUtils.getDataAsync("key:0").join()).isEqualTo("value:0");
+        assertThat(redisUtils.getDataAsync("missing").join()).isNull();
+        assertThat(redisUtils.getDataBatchAsync(List.of("key:0", "missing", "key:1")).join())
+                .containsExactlyEntriesOf(data(2));
+        assertThat(redisUtils.deleteDataBatchAsync(List.of("key:0", "key:1")).join()).isEqualTo(2);
+        assertThat(redisUtils.deleteDataAsync("key:0").join()).isZero();
+    }
+
+    // 단건 명령 N 번과 batch 1 번의 처리 시간 비교
+    @Tag("benchmark")
+    @Test
+    void roundTripBenchmark(){
+        for (int size : new int[]{10, 100, 1_000}) {
+            Map<String, String> data = data(size);
+            List<String> keys = new ArrayList<>(data.keySet());
+            for (int i = 0; i < ROUNDS / 4; i++) {
+                sequential(data, keys);
+                batch(data, keys);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) {
+                sequential(data, keys);
+            }
+            long sequentialNanos = (System.nanoTime() - start) / ROUNDS;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) {
+                batch(data, keys);
+            }
+            long batchNanos = (System.nanoTime() - start) / ROUNDS;
+
+            System.out.printf("%d keys (set + get + delete): sequential %d us, batch %d us (%.1fx)%n", size,
+                    sequentialNanos / 1_000, batchNanos / 1_000, (double) sequentialNanos / batchNanos);
+        }
+    }
+
+    private void sequential(Map<String, String> data, List<String> keys) {
+        data.forEach((key, value) -> redisUtils.setData(key, value, TTL_MILLIS));
+        keys.forEach(key -> assertThat(redisUtils.getData(key)).isNotNull());
+        keys.forEach(redisUtils::deleteData);
+    }
+
+    private void batch(Map<String, String> data, List<String> keys) {
+        redisUtils.setDataBatch(data, TTL_MILLIS);
+        assertThat(redisUtils.getDataBatch(keys)).hasSize(keys.size());
+        assertThat(redisUtils.deleteDataBatch(keys)).isEqualTo(keys.size());
+    }
+
+    private Map<String, String> data(int size) {
+        Map<String, String> data = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            data.put("key:" + i, "value:" + i);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,219 @@
+package com.gymory.unit.global.redis;
+
+import com.gymory.global.redis.RefreshTokenStore;
+import com.gymory.global.redis.RefreshTokenStore.RotateResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenStoreTest {
+    private static final int SESSIONS = 100_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final long TTL_MILLIS = 3_600_000L;
+    private static final String SESSION = RefreshTokenStore.sessionId(1L, "jti-1");
+
+    static RedisServer redisServer;
+    static LettuceConnectionFactory connectionFactory;
+    static StringRedisTemplate stringRedisTemplate;
+    RefreshTokenStore refreshTokenStore;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void init(){
+        flushAll();
+        refreshTokenStore = new RefreshTokenStore(connectionFactory);
+    }
+
+    @Test
+    void saveAndFindTest(){
+        // when
+        refreshTokenStore.save(SESSION, "refresh-token", "ROLE_MEMBER", TTL_MILLIS);
+
+        // then
+        RefreshTokenStore.StoredRefreshToken stored = refreshTokenStore.findByAuthId(SESSION).orElseThrow();
+        assertThat(stored.getRole()).isEqualTo("ROLE_MEMBER");
+        assertThat(stored.matches("refresh-token")).isTrue();
+        assertThat(refreshTokenStore.findAuthIdByToken("refresh-token")).contains(SESSION);
+        assertThat(refreshTokenStore.getTtlMillis(SESSION).orElseThrow()).isBetween(1L, TTL_MILLIS);
+    }
+
+    @Test
+    void rotateTest(){
+        // given
+        refreshTokenStore.save(SESSION, "old-token", "ROLE_MEMBER", TTL_MILLIS);
+
+        // when
+        RotateResult first = refreshTokenStore.rotate(SESSION, "old-token", "new-token", "ROLE_MEMBER", TTL_MILLIS);
+        RotateResult replay = refreshTokenStore.rotate(SESSION, "old-token", "other-token", "ROLE_MEMBER", TTL_MILLIS);
+        RotateResult unknown = refreshTokenStore.rotate("9:unknown", "old-token", "new-token", "ROLE_MEMBER", TTL_MILLIS);
+
+        // then
+        assertThat(first).isEqualTo(RotateResult.ROTATED);
+        assertThat(replay).isEqualTo(RotateResult.STALE);
+        assertThat(unknown).isEqualTo(RotateResult.NOT_FOUND);
+        assertThat(refreshTokenStore.findAuthIdByToken("old-token")).isEmpty();
+        assertThat(refreshTokenStore.findAuthIdByToken("new-token")).contains(SESSION);
+    }
+
+    @Test
+    void saveAllAndDeleteTest(){
+        // given
+        List<RefreshTokenStore.Session> sessions = List.of(
+                new RefreshTokenStore.Session("1:jti-a", "token-a", "ROLE_MEMBER", TTL_MILLIS),
+                new RefreshTokenStore.Session("2:jti-b", "token-b", "ROLE_TRAINER", TTL_MILLIS));
+
+        // when
+        refreshTokenStore.saveAll(sessions);
+        refreshTokenStore.save("1:jti-a", "token-a2", "ROLE_MEMBER", TTL_MILLIS);
+        boolean deleted = refreshTokenStore.delete("2:jti-b");
+
+        // then
+        assertThat(deleted).isTrue();
+        assertThat(refreshTokenStore.findAuthIdByToken("token-a")).isEmpty();
+        assertThat(refreshTokenStore.findAuthIdByToken("token-a2")).contains("1:jti-a");
+        assertThat(refreshTokenStore.findByAuthId("2:jti-b")).isEmpty();
+        assertThat(refreshTokenStore.findAuthIdByToken("token-b")).isEmpty();
+        assertThat(dbSize()).isEqualTo(2);
+    }
+
+    @Test
+    void multipleDevicesTest(){
+        // given: 같은 사용자가 휴대폰과 노트북에서 각각 로그인
+        String phone = RefreshTokenStore.sessionId(1L, "jti-phone");
+        String laptop = RefreshTokenStore.sessionId(1L, "jti-laptop");
+        refreshTokenStore.saveAll(List.of(
+                new RefreshTokenStore.Session(phone, "phone-token", "ROLE_MEMBER", TTL_MILLIS),
+                new RefreshTokenStore.Session(laptop, "laptop-token", "ROLE_MEMBER", TTL_MILLIS)));
+
+        // when: 휴대폰 세션만 재발급
+        RotateResult rotated = refreshTokenStore.rotate(phone, "phone-token", "phone-token-2", "ROLE_MEMBER", TTL_MILLIS);
+
+        // then: 노트북 세션은 그대로 재발급할 수 있다
+        assertThat(rotated).isEqualTo(RotateResult.ROTATED);
+        assertThat(refreshTokenStore.findAuthIdByToken("phone-token-2")).contains(phone);
+        assertThat(refreshTokenStore.findAuthIdByToken("laptop-token")).contains(laptop);
+        assertThat(refreshTokenStore.rotate(laptop, "laptop-token", "laptop-token-2", "ROLE_MEMBER", TTL_MILLIS))
+                .isEqualTo(RotateResult.ROTATED);
+
+        // when: 휴대폰에서 로그아웃
+        refreshTokenStore.delete(phone);
+
+        // then
+        assertThat(refreshTokenStore.findByAuthId(phone)).isEmpty();
+        assertThat(refreshTokenStore.findAuthIdByToken("laptop-token-2")).contains(laptop);
+    }
+
+    // @RedisHash + @Indexed 구조(hash + 전체 id set + index set + 역참조 set + phantom key)와 세션당 메모리 비교
+    @Tag("benchmark")
+    @Test
+    void memoryPerMillionSessionsBenchmark(){
+        // given
+        List<RefreshTokenStore.Session> sessions = new ArrayList<>(SESSIONS);
+        for (int i = 0; i < SESSIONS; i++) {
+            sessions.add(new RefreshTokenStore.Session(RefreshTokenStore.sessionId((long) i, UUID.randomUUID().toString()),
+                    "eyJhbGciOiJIUzI1NiJ9." + UUID.randomUUID() + "." + UUID.randomUUID(), "ROLE_MEMBER", TTL_MILLIS));
+        }
+
+        // when
+        long baseline = usedMemory();
+        for (int from = 0; from < SESSIONS; from += BATCH_SIZE) {
+            refreshTokenStore.saveAll(sessions.subList(from, Math.min(from + BATCH_SIZE, SESSIONS)));
+        }
+        long storeBytes = usedMemory() - baseline;
+        long storeKeys = dbSize();
+
+        flushAll();
+        baseline = usedMemory();
+        for (int from = 0; from < SESSIONS; from += BATCH_SIZE) {
+            saveRedisHashLayout(sessions.subList(from, Math.min(from + BATCH_SIZE, SESSIONS)));
+        }
+        long redisHashBytes = usedMemory() - baseline;
+        long redisHashKeys = dbSize();
+
+        // then
+        double perMillion = 1_000_000.0 / SESSIONS / (1024 * 1024);
+        System.out.printf("refresh token memory per 1M sessions: store=%.1f MiB (%d keys) @RedisHash=%.1f MiB (%d keys)%n",
+                storeBytes * perMillion, storeKeys, redisHashBytes * perMillion, redisHashKeys);
+        assertThat(storeKeys).isEqualTo(SESSIONS * 2L);
+        assertThat(storeBytes).isLessThan(redisHashBytes);
+    }
+
+    // Spring Data Redis 가 RefreshTokenRepository.save 시 만들던 key 구성
+    private void saveRedisHashLayout(List<RefreshTokenStore.Session> sessions) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (RefreshTokenStore.Session session : sessions) {
+                String id = session.getAuthId();
+                String key = "refresh_token:" + id;
+                String indexKey = "refresh_token:token:" + session.getRefreshToken();
+                connection.hashCommands().hSet(bytes(key), bytes("_class"), bytes("com.gymory.global.redis.RefreshToken"));
+                connection.hashCommands().hSet(bytes(key), bytes("authId"), bytes(id));
+                connection.hashCommands().hSet(bytes(key), bytes("token"), bytes(session.getRefreshToken()));
+                connection.hashCommands().hSet(bytes(key), bytes("role"), bytes(session.getRole()));
+                connection.hashCommands().hSet(bytes(key), bytes("ttl"), bytes(String.valueOf(session.getTtlMillis() / 1000)));
+                connection.keyCommands().expire(bytes(key), session.getTtlMillis() / 1000);
+                connection.setCommands().sAdd(bytes("refresh_token"), bytes(id));
+                connection.setCommands().sAdd(bytes(indexKey), bytes(id));
+                connection.setCommands().sAdd(bytes(key + ":idx"), bytes(indexKey));
+                connection.hashCommands().hSet(bytes(key + ":phantom"), bytes("authId"), bytes(id));
+                connection.keyCommands().expire(bytes(key + ":phantom"), session.getTtlMillis() / 1000 + 300);
+            }
+            return null;
+        });
+    }
+
+    private long usedMemory() {
+        Properties info = stringRedisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+
+    private long dbSize() {
+        Long size = stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().dbSize());
+        return size == null ? 0 : size;
+    }
+
+    private void flushAll() {
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,252 @@
+package com.gymory.unit.global.redis;
+
+import com.gymory.global.redis.CacheLoadOptions;
+import com.gymory.global.redis.RedisCacheConfig;
+import com.gymory.global.redis.RedisCacheProperties;
+import com.gymory.global.redis.TwoTierCacheManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheLoadingTest {
+    private static final int THREADS = 32;
+
+    static RedisServer redisServer;
+    static LettuceConnectionFactory connectionFactory;
+    static RedisTemplate<String, Object> redisTemplate;
+    List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    List<TwoTierCacheManager> cacheManagers = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flushAll() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+    }
+
+    @AfterEach
+    void stopNodes() throws Exception {
+        for (TwoTierCacheManager cacheManager : cacheManagers) {
+            cacheManager.destroy();
+        }
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+    }
+
+    @Test
+    void singleFlightTest() throws Exception {
+        // given
+        Cache cache = node().getCache("trainer");
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        List<String> values = concurrentGet(List.of(cache), () -> {
+            loadCount.incrementAndGet();
+            Thread.sleep(100);
+            return "trainer-1";
+        });
+
+        // then: 같은 노드의 동시 miss 는 loader 를 한 번만 호출한다
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(values).containsOnly("trainer-1");
+    }
+
+    @Test
+    void leaseAcrossNodesTest() throws Exception {
+        // given
+        CacheLoadOptions options = CacheLoadOptions.builder().lease(true).build();
+        TwoTierCacheManager nodeA = node();
+        TwoTierCacheManager nodeB = node();
+        nodeA.setLoadOptions("trainer", options);
+        nodeB.setLoadOptions("trainer", options);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        List<String> values = concurrentGet(List.of(nodeA.getCache("trainer"), nodeB.getCache("trainer")), () -> {
+            loadCount.incrementAndGet();
+            Thread.sleep(100);
+            return "trainer-1";
+        });
+
+        // then: lease 를 얻은 노드만 로딩하고 다른 노드는 Redis 에 저장된 값을 읽는다
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(values).containsOnly("trainer-1");
+    }
+
+    @Test
+    void earlyRefreshTest() throws Exception {
+        // given: beta 가 매우 크면 계산 시간이 있는 항목은 매 조회마다 갱신 대상이 된다
+        TwoTierCacheManager node = node();
+        node.setLoadOptions("trainer", CacheLoadOptions.builder().beta(1_000_000).build());
+        Cache cache = node.getCache("trainer");
+        AtomicInteger loadCount = new AtomicInteger();
+        Callable<String> loader = () -> {
+            Thread.sleep(5);
+            return "trainer-" + loadCount.incrementAndGet();
+        };
+        assertThat(cache.get("1", loader)).isEqualTo("trainer-1");
+
+        // when
+        String value = cache.get("1", loader);
+
+        // then: 기존 값을 바로 반환하고 background 에서 갱신한다
+        assertThat(value).isEqualTo("trainer-1");
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (loadCount.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void noEarlyRefreshWithoutBetaTest() throws Exception {
+        // given
+        Cache cache = node().getCache("trainer");
+        AtomicInteger loadCount = new AtomicInteger();
+        Callable<String> loader = () -> "trainer-" + loadCount.incrementAndGet();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            cache.get("1", loader);
+        }
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void missDuringBackgroundRefreshTest() throws Exception {
+        // given: 갱신 스레드 1개, 두 노드 모두 lease + XFetch
+        RedisCacheProperties properties = new RedisCacheProperties();
+        properties.getLoad().setRefreshThreads(1);
+        CacheLoadOptions options = CacheLoadOptions.builder().lease(true).beta(1_000_000).build();
+        TwoTierCacheManager nodeA = node(properties);
+        TwoTierCacheManager nodeB = node(properties);
+        nodeA.setLoadOptions("trainer", options);
+        nodeB.setLoadOptions("trainer", options);
+        Cache cacheA = nodeA.getCache("trainer");
+        Cache cacheB = nodeB.getCache("trainer");
+        Callable<String> loader = () -> {
+            Thread.sleep(5);
+            return "trainer-a";
+        };
+        cacheA.get("busy", loader);
+        cacheA.get("1", loader);
+
+        // A 의 갱신 스레드를 다른 key 의 갱신으로 점유한다
+        CountDownLatch busyStarted = new CountDownLatch(1);
+        CountDownLatch busyRelease = new CountDownLatch(1);
+        cacheA.get("busy", () -> {
+            busyStarted.countDown();
+            busyRelease.await();
+            return "busy";
+        });
+        busyStarted.await();
+
+        // B 가 "1" 의 lease 를 잡고 갱신 중이고, A 의 "1" 갱신은 대기열에 있다
+        redisTemplate.opsForValue().set("cache-lease:trainer:1", "node-b");
+        assertThat(cacheA.get("1", loader)).isEqualTo("trainer-a");
+
+        // when: A 에서 값이 지워진 뒤 miss
+        cacheA.evict("1");
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<String> miss = executorService.submit(() -> cacheA.get("1", loader));
+        // A 의 background 갱신은 lease 를 얻지 못하고 값 없이 끝난다
+        busyRelease.countDown();
+        Thread.sleep(100);
+        cacheB.put("1", "trainer-b");
+        redisTemplate.delete("cache-lease:trainer:1");
+
+        // then: miss 는 background 갱신 결과(null)를 기다리지 않고 B 가 저장한 값을 읽는다
+        assertThat(miss.get(5, TimeUnit.SECONDS)).isEqualTo("trainer-b");
+        executorService.shutdown();
+    }
+
+    private List<String> concurrentGet(List<Cache> caches, Callable<String> loader) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Cache cache = caches.get(i % caches.size());
+            futures.add(executorService.submit(() -> {
+                start.await();
+                return cache.get("1", loader);
+            }));
+        }
+        start.countDown();
+
+        List<String> values = new ArrayList<>();
+        for (Future<String> future : futures) {
+            values.add(future.get());
+        }
+        executorService.shutdown();
+        return values;
+    }
+
+    private TwoTierCacheManager node() {
+        return node(new RedisCacheProperties());
+    }
+
+    private TwoTierCacheManager node(RedisCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        containers.add(container);
+
+        RedisCacheConfig redisCacheConfig = new RedisCacheConfig();
+        TwoTierCacheManager cacheManager = (TwoTierCacheManager) redisCacheConfig.rcm(connectionFactory,
+                properties, redisCacheConfig.cacheTypeRegistry(), redisTemplate, container,
+                new SimpleMeterRegistry());
+        cacheManagers.add(cacheManager);
+        container.start();
+        return cacheManager;
+    }
+}
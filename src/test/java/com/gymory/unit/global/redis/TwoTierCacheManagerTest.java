@@ -0,0 +1,164 @@
+package com.gymory.unit.global.redis;
+
+import com.gymory.global.redis.RedisCacheConfig;
+import com.gymory.global.redis.RedisCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheManagerTest {
+    static RedisServer redisServer;
+    static LettuceConnectionFactory connectionFactory;
+    static RedisTemplate<String, Object> redisTemplate;
+    List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flushAll() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+    }
+
+    @AfterEach
+    void stopContainers() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+    }
+
+    @Test
+    void nearCacheHitTest(){
+        // given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Cache cache = node(new RedisCacheProperties(), meterRegistry).getCache("trainer");
+        cache.put("1", "trainer-1");
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThat(cache.get("1", String.class)).isEqualTo("trainer-1");
+        }
+
+        // then: put 이후 조회는 모두 near-cache 에서 처리된다
+        assertThat(meterRegistry.get("cache.tier.hit.ratio").tag("tier", "near").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.tier.requests").tag("tier", "remote").tag("result", "hit")
+                .counter().count()).isZero();
+    }
+
+    @Test
+    void crossNodeInvalidationTest() throws InterruptedException {
+        // given
+        Cache nodeA = node(new RedisCacheProperties(), new SimpleMeterRegistry()).getCache("trainer");
+        Cache nodeB = node(new RedisCacheProperties(), new SimpleMeterRegistry()).getCache("trainer");
+        nodeA.put("1", "old");
+        assertThat(nodeB.get("1", String.class)).isEqualTo("old");
+
+        // when
+        nodeA.put("1", "new");
+
+        // then: node B 의 near-cache 항목이 pub/sub 로 제거되어 Redis 의 새 값을 읽는다
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (!"new".equals(nodeB.get("1", String.class)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(nodeB.get("1", String.class)).isEqualTo("new");
+
+        // when
+        nodeA.evict("1");
+        deadline = System.currentTimeMillis() + 2_000;
+        while (nodeB.get("1") != null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        // then
+        assertThat(nodeB.get("1")).isNull();
+    }
+
+    @Test
+    void nearCacheOptOutTest(){
+        // given
+        RedisCacheProperties properties = new RedisCacheProperties();
+        RedisCacheProperties.NearCache noNear = new RedisCacheProperties.NearCache();
+        noNear.setEnabled(false);
+        properties.getNear().getCaches().put("session", noNear);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Cache cache = node(properties, meterRegistry).getCache("session");
+        cache.put("1", "value");
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            cache.get("1");
+        }
+
+        // then
+        assertThat(meterRegistry.get("cache.tier.requests").tag("tier", "remote").tag("result", "hit")
+                .counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void nullValueTest(){
+        // given
+        Cache cache = node(new RedisCacheProperties(), new SimpleMeterRegistry()).getCache("trainer");
+
+        // when
+        cache.put("none", null);
+
+        // then
+        assertThat(cache.get("none")).isNotNull();
+        assertThat(cache.get("none").get()).isNull();
+    }
+
+    private CacheManager node(RedisCacheProperties properties, MeterRegistry meterRegistry) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        containers.add(container);
+
+        RedisCacheConfig redisCacheConfig = new RedisCacheConfig();
+        CacheManager cacheManager = redisCacheConfig.rcm(connectionFactory, properties,
+                redisCacheConfig.cacheTypeRegistry(), redisTemplate, container, meterRegistry);
+        container.start();
+        return cacheManager;
+    }
+}
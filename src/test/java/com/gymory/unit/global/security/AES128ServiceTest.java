@@ -0,0 +1,120 @@
+package com.gymory.unit.global.security;
+
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.exception.BusinessException;
+import com.gymory.global.security.AES128Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AES128ServiceTest {
+    private static final int OPERATIONS_PER_THREAD = 2_000;
+
+    AES128Service aes128Service;
+
+    @BeforeEach
+    void init() throws Exception {
+        aes128Service = new AES128Service();
+        ReflectionTestUtils.setField(aes128Service, "secretKey", "0123456789abcdef");
+        ReflectionTestUtils.setField(aes128Service, "enginePoolSize", 64);
+        aes128Service.init();
+    }
+
+    @Test
+    void encryptDecryptTest(){
+        // given
+        String plaintext = "eyJhbGciOiJIUzI1NiJ9.refresh-token";
+
+        // when
+        String first = aes128Service.encryptAes(plaintext);
+        String second = aes128Service.encryptAes(plaintext);
+
+        // then
+        assertThat(first).isNotEqualTo(second);     // 메시지마다 IV 가 다르다
+        assertThat(aes128Service.decryptAes(first)).isEqualTo(plaintext);
+        assertThat(aes128Service.decryptAes(second)).isEqualTo(plaintext);
+    }
+
+    @Test
+    void tamperedCiphertextTest(){
+        // given
+        String encrypted = aes128Service.encryptAes("refresh-token");
+        char[] chars = encrypted.toCharArray();
+        chars[chars.length / 2] = chars[chars.length / 2] == 'A' ? 'B' : 'A';
+
+        // when, then
+        assertThatThrownBy(() -> aes128Service.decryptAes(new String(chars)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.DECRYPTION_FAILED);
+    }
+
+    @Test
+    void concurrentRoundTripTest() throws Exception {
+        // when: 32 스레드가 동시에 암호화/복호화
+        roundTrips(32);
+
+        // then: 모든 round trip 이 원문을 돌려준다 (roundTrips 에서 검증)
+    }
+
+    // 스레드 수별 AES-GCM round trip 처리량
+    @Tag("benchmark")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, 32})
+    void concurrentRoundTripBenchmark(int threads) throws Exception {
+        long elapsedNanos = roundTrips(threads);
+
+        int operations = threads * OPERATIONS_PER_THREAD;
+        System.out.printf("AES-GCM round trips: threads=%d ops=%d throughput=%.0f ops/s%n",
+                threads, operations, operations / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    // threads 개 스레드에서 동시에 round trip 하고 모두 성공했는지 검증한다. 걸린 시간(ns)을 반환
+    private long roundTrips(int threads) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int threadIndex = t;
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                int succeeded = 0;
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    String plaintext = "token-" + threadIndex + "-" + i;
+                    if (plaintext.equals(aes128Service.decryptAes(aes128Service.encryptAes(plaintext)))) {
+                        succeeded++;
+                    }
+                }
+                return succeeded;
+            }));
+        }
+
+        long start = System.nanoTime();
+        startLatch.countDown();
+        int succeeded = 0;
+        try {
+            for (Future<Integer> future : futures) {
+                succeeded += future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        assertThat(succeeded).isEqualTo(threads * OPERATIONS_PER_THREAD);
+        return elapsedNanos;
+    }
+}
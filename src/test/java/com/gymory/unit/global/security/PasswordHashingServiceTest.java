@@ -0,0 +1,223 @@
+package com.gymory.unit.global.security;
+
+import com.gymory.global.code.error.ErrorCode;
+import com.gymory.global.code.error.exception.BusinessException;
+import com.gymory.global.security.PasswordHashingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+
+    SimpleMeterRegistry meterRegistry;
+    BlockingPasswordEncoder passwordEncoder;
+    PasswordHashingService passwordHashingService;
+    ExecutorService callers = Executors.newCachedThreadPool();
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new BlockingPasswordEncoder();
+        // 해시 스레드 1개, 대기열 1개
+        passwordHashingService = new PasswordHashingService(passwordEncoder, meterRegistry);
+        ReflectionTestUtils.setField(passwordHashingService, "hashThreads", 1);
+        ReflectionTestUtils.setField(passwordHashingService, "hashQueueCapacity", 1);
+        ReflectionTestUtils.setField(passwordHashingService, "rehashWriteQueueCapacity", 1);
+        ReflectionTestUtils.setField(passwordHashingService, "hashTimeoutMillis", 5_000L);
+        passwordHashingService.init();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        passwordEncoder.release();
+        passwordHashingService.shutdown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void encodeAndMatchesMetricsTest(){
+        // given
+        passwordEncoder.release();
+
+        // when
+        String encoded = passwordHashingService.encode("password");
+        boolean matches = passwordHashingService.matches("password", encoded);
+
+        // then
+        assertThat(matches).isTrue();
+        assertThat(meterRegistry.get("password.hash.latency").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash.latency").tag("operation", "matches").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void saturatedRejectTest(){
+        // given: 실행 중 1건 + 대기 1건으로 포화
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHashingService.encode("a"), callers);
+        awaitTrue(() -> gauge("password.hash.active") == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHashingService.encode("b"), callers);
+        awaitTrue(() -> gauge("password.hash.queue.depth") == 1);
+
+        // when, then
+        assertThatThrownBy(() -> passwordHashingService.encode("c"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+        assertThat(counter("saturated")).isEqualTo(1);
+
+        // 포화가 풀리면 대기 중이던 요청은 정상 처리된다
+        passwordEncoder.release();
+        assertThat(running.join()).isEqualTo("encoded:a");
+        assertThat(queued.join()).isEqualTo("encoded:b");
+    }
+
+    @Test
+    void timeoutTest(){
+        // given
+        ReflectionTestUtils.setField(passwordHashingService, "hashTimeoutMillis", 100L);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHashingService.encode("a"), callers);
+        awaitTrue(() -> gauge("password.hash.active") == 1);
+
+        // when, then: 대기열에서 timeout 된 요청은 429
+        assertThatThrownBy(() -> passwordHashingService.encode("b"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+        // 먼저 기다리던 요청도 같은 timeout 으로 429
+        awaitTrue(running::isDone);
+        assertThat(running).isCompletedExceptionally();
+        assertThat(counter("timeout")).isEqualTo(2);
+
+        // then: 실행 중이던 해시는 timeout 뒤에도 스레드를 점유하고, 대기열의 작업은 취소되어 실행되지 않는다
+        assertThat(gauge("password.hash.active")).isEqualTo(1);
+        passwordEncoder.release();
+        awaitTrue(() -> gauge("password.hash.active") == 0);
+        assertThat(passwordEncoder.invocations).hasValue(1);
+    }
+
+    @Test
+    void rehashAsyncTest(){
+        // given
+        passwordEncoder.release();
+        CompletableFuture<String> rehashed = new CompletableFuture<>();
+
+        // when
+        passwordHashingService.rehashAsync("password", rehashed::complete);
+
+        // then
+        assertThat(rehashed.join()).isEqualTo("encoded:password");
+        awaitTrue(() -> meterRegistry.get("password.hash.latency").tag("operation", "encode").timer().count() == 1);
+    }
+
+    @Test
+    void slowRehashWriteDoesNotBlockHashingTest() throws Exception {
+        // given: 재해시 결과 저장(DB 쓰기)이 멈춰 있는 경우
+        passwordEncoder.release();
+        CountDownLatch writeBlocked = new CountDownLatch(1);
+        CompletableFuture<String> writerThread = new CompletableFuture<>();
+        passwordHashingService.rehashAsync("password", encoded -> {
+            writerThread.complete(Thread.currentThread().getName());
+            try {
+                writeBlocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // when
+        assertThat(writerThread.get(5, TimeUnit.SECONDS)).startsWith("password-rehash-write-");
+
+        // then: 해시 스레드는 저장을 기다리지 않으므로 로그인 해시는 계속 처리된다
+        assertThat(passwordHashingService.matches("password", "encoded:password")).isTrue();
+        assertThat(counter("saturated")).isZero();
+        writeBlocked.countDown();
+    }
+
+    @Test
+    void rehashAsyncSkippedWhenSaturatedTest(){
+        // given
+        CompletableFuture.runAsync(() -> passwordHashingService.encode("a"), callers);
+        awaitTrue(() -> gauge("password.hash.active") == 1);
+        CompletableFuture.runAsync(() -> passwordHashingService.encode("b"), callers);
+        awaitTrue(() -> gauge("password.hash.queue.depth") == 1);
+        AtomicInteger callbacks = new AtomicInteger();
+
+        // when: 포화 상태면 예외 없이 다음 로그인으로 미룬다
+        passwordHashingService.rehashAsync("password", encoded -> callbacks.incrementAndGet());
+
+        // then
+        passwordEncoder.release();
+        awaitTrue(() -> passwordEncoder.invocations.get() == 2 && gauge("password.hash.active") == 0);
+        assertThat(callbacks).hasValue(0);
+        assertThat(counter("saturated")).isZero();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private double counter(String reason) {
+        return meterRegistry.get("password.hash.rejected").tag("reason", reason).counter().count();
+    }
+
+    private void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    // release 전까지 멈추는 encoder. BCrypt 처럼 interrupt 에 반응하지 않는다
+    static class BlockingPasswordEncoder implements PasswordEncoder {
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        void release() {
+            latch.countDown();
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            invocations.incrementAndGet();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    if (latch.await(10, TimeUnit.SECONDS)) {
+                        break;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.gymory.unit.global.security;
+
+import com.gymory.global.redis.RedisUtils;
+import com.gymory.global.security.AES128Service;
+import com.gymory.global.security.CustomUserDetails;
+import com.gymory.global.security.UserDetailsCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserDetailsCacheTest {
+    private static final String EMAIL = "member@email.com";
+    private static final String REMOTE_KEY = "user-details:{" + EMAIL + "}";
+
+    static RedisServer redisServer;
+    static LettuceConnectionFactory connectionFactory;
+    static RedisTemplate<String, Object> redisTemplate;
+    static AES128Service aes128Service;
+
+    List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    SimpleMeterRegistry registryB;
+    UserDetailsCache nodeA;
+    UserDetailsCache nodeB;
+
+    // DB 의 현재 비밀번호 해시와 조회 횟수
+    AtomicReference<String> storedPassword = new AtomicReference<>("hash-1");
+    AtomicInteger loads = new AtomicInteger();
+    Function<String, CustomUserDetails> loader = email -> {
+        loads.incrementAndGet();
+        return CustomUserDetails.of(1L, email, storedPassword.get(), "ROLE_MEMBER");
+    };
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        aes128Service = new AES128Service();
+        ReflectionTestUtils.setField(aes128Service, "secretKey", "0123456789abcdef");
+        ReflectionTestUtils.setField(aes128Service, "enginePoolSize", 4);
+        aes128Service.init();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void init(){
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        nodeA = startNode(true, new SimpleMeterRegistry());
+        registryB = new SimpleMeterRegistry();
+        nodeB = startNode(true, registryB);
+        // 두 노드의 구독이 활성화될 때까지 기다린다
+        awaitSubscribed(nodeA, nodeB);
+        awaitSubscribed(nodeB, nodeA);
+        loads.set(0);
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+    }
+
+    @Test
+    void localAndRemoteHitTest(){
+        // when
+        nodeA.get(EMAIL, loader);
+        CustomUserDetails localHit = nodeA.get(EMAIL, loader);
+        CustomUserDetails remoteHit = nodeB.get(EMAIL, loader);
+
+        // then: DB 는 한 번만 조회하고, 다른 노드는 L2 에서 읽는다
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(localHit.getPassword()).isEqualTo("hash-1");
+        assertThat(remoteHit.getId()).isEqualTo(1L);
+        assertThat(remoteHit.getPassword()).isEqualTo("hash-1");
+        assertThat(remoteHit.getUserRole()).isEqualTo("ROLE_MEMBER");
+        assertThat(registryB.get("user.details.cache.remote").tag("result", "hit").counter().count()).isEqualTo(1);
+        // L2 에는 비밀번호 해시가 평문으로 남지 않는다
+        assertThat((String) redisTemplate.opsForValue().get(REMOTE_KEY)).doesNotContain("hash-1");
+    }
+
+    @Test
+    void evictPropagationTest(){
+        // given
+        nodeA.get(EMAIL, loader);
+        nodeB.get(EMAIL, loader);
+
+        // when
+        storedPassword.set("hash-2");
+        nodeA.evict(EMAIL);
+
+        // then: L2 와 모든 노드의 L1 에서 제거된다
+        assertThat(redisTemplate.hasKey(REMOTE_KEY)).isFalse();
+        assertThat(nodeA.get(EMAIL, loader).getPassword()).isEqualTo("hash-2");
+        awaitTrue(() -> "hash-2".equals(nodeB.get(EMAIL, loader).getPassword()));
+    }
+
+    @Test
+    void evictDuringLoadDoesNotRestoreStaleValueTest() throws Exception {
+        // given: DB 에서 이전 값을 읽은 뒤 멈춘 조회
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<String, CustomUserDetails> slowLoader = email -> {
+            CustomUserDetails stale = loader.apply(email);
+            loaded.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return stale;
+        };
+        CompletableFuture<CustomUserDetails> inFlight = CompletableFuture.supplyAsync(() -> nodeA.get(EMAIL, slowLoader));
+        assertThat(loaded.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 비밀번호 변경 commit 후 evict, 이후 멈췄던 조회가 끝난다
+        storedPassword.set("hash-2");
+        nodeB.evict(EMAIL);
+        release.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS).getPassword()).isEqualTo("hash-1");
+
+        // then: 이전 값은 L2 에도, 조회한 노드의 L1 에도 남지 않는다
+        assertThat(redisTemplate.hasKey(REMOTE_KEY)).isFalse();
+        awaitTrue(() -> "hash-2".equals(nodeA.get(EMAIL, loader).getPassword()));
+        assertThat(nodeB.get(EMAIL, loader).getPassword()).isEqualTo("hash-2");
+    }
+
+    @Test
+    void disabledTest(){
+        // given
+        UserDetailsCache disabled = startNode(false, new SimpleMeterRegistry());
+
+        // when
+        disabled.get(EMAIL, loader);
+        disabled.get(EMAIL, loader);
+        disabled.evict(EMAIL);
+
+        // then: 매번 DB 에서 조회하고 Redis 는 사용하지 않는다
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(redisTemplate.hasKey(REMOTE_KEY)).isFalse();
+    }
+
+    private UserDetailsCache startNode(boolean enabled, SimpleMeterRegistry meterRegistry) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+
+        UserDetailsCache node = new UserDetailsCache(new RedisUtils(redisTemplate), redisTemplate, container,
+                aes128Service, meterRegistry);
+        ReflectionTestUtils.setField(node, "enabled", enabled);
+        ReflectionTestUtils.setField(node, "localMaximumSize", 1_000L);
+        ReflectionTestUtils.setField(node, "localTtlMillis", 60_000L);
+        ReflectionTestUtils.setField(node, "remoteTtlMillis", 60_000L);
+        node.init();
+        return node;
+    }
+
+    // publisher 의 evict 가 subscriber 의 L1 을 비울 때까지 probe 를 반복한다
+    private void awaitSubscribed(UserDetailsCache publisher, UserDetailsCache subscriber) {
+        String probe = "probe-" + System.nanoTime() + "@email.com";
+        subscriber.get(probe, loader);
+        awaitTrue(() -> {
+            publisher.evict(probe);
+            int before = loads.get();
+            subscriber.get(probe, loader);
+            return loads.get() > before;
+        });
+    }
+
+    private void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.gymory.unit.global.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.gymory.global.security.jwt.ClaimsCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClaimsCacheTest {
+    private static final long MAX_TTL_MILLIS = 60_000L;
+
+    AtomicLong nanos = new AtomicLong();
+    Ticker ticker = nanos::get;
+    AtomicInteger parseCount = new AtomicInteger();
+
+    @Test
+    void hitAndMissCountTest(){
+        // given
+        ClaimsCache claimsCache = new ClaimsCache(100, MAX_TTL_MILLIS, ticker);
+        Claims claims = claimsExpiringIn(30_000);
+
+        // when
+        claimsCache.get("token", token -> parse(claims));
+        claimsCache.get("token", token -> parse(claims));
+        claimsCache.get("token", token -> parse(claims));
+
+        // then
+        assertThat(parseCount).hasValue(1);
+        assertThat(claimsCache.getMissCount()).isEqualTo(1);
+        assertThat(claimsCache.getHitCount()).isEqualTo(2);
+        assertThat(claimsCache.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void expiresAtTokenExpirationTest(){
+        // given: 토큰은 10초 뒤 만료, 최대 TTL 은 60초
+        ClaimsCache claimsCache = new ClaimsCache(100, MAX_TTL_MILLIS, ticker);
+        Claims claims = claimsExpiringIn(10_000);
+        claimsCache.get("token", token -> parse(claims));
+
+        // when, then: exp 전에는 hit
+        advance(9_000);
+        claimsCache.get("token", token -> parse(claims));
+        assertThat(parseCount).hasValue(1);
+
+        // when, then: exp 가 지나면 다시 검증한다
+        advance(1_500);
+        claimsCache.get("token", token -> parse(claims));
+        assertThat(parseCount).hasValue(2);
+    }
+
+    @Test
+    void maxTtlCapTest(){
+        // given: 토큰은 1시간 뒤 만료지만 최대 TTL 은 60초
+        ClaimsCache claimsCache = new ClaimsCache(100, MAX_TTL_MILLIS, ticker);
+        Claims claims = claimsExpiringIn(3_600_000);
+        claimsCache.get("token", token -> parse(claims));
+
+        // when
+        advance(MAX_TTL_MILLIS - 1);
+        claimsCache.get("token", token -> parse(claims));
+        advance(2);
+        claimsCache.get("token", token -> parse(claims));
+
+        // then
+        assertThat(parseCount).hasValue(2);
+        assertThat(claimsCache.getHitCount()).isEqualTo(1);
+        assertThat(claimsCache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void failedParseIsNotCachedTest(){
+        // given
+        ClaimsCache claimsCache = new ClaimsCache(100, MAX_TTL_MILLIS, ticker);
+
+        // when, then
+        assertThatThrownBy(() -> claimsCache.get("token", token -> {
+            throw new IllegalStateException("invalid signature");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(claimsCache.getSize()).isZero();
+    }
+
+    private Claims parse(Claims claims) {
+        parseCount.incrementAndGet();
+        return claims;
+    }
+
+    private Claims claimsExpiringIn(long millis) {
+        return Jwts.claims().setSubject("test@email.com").setExpiration(new Date(System.currentTimeMillis() + millis));
+    }
+
+    private void advance(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
@@ -0,0 +1,210 @@
+package com.gymory.unit.global.security.jwt;
+
+import com.gymory.global.redis.RedisUtils;
+import com.gymory.global.security.jwt.TokenRevocationService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationServiceTest {
+    private static final long TTL_MILLIS = 60_000L;
+
+    static RedisServer redisServer;
+    static LettuceConnectionFactory connectionFactory;
+    static RedisTemplate<String, Object> redisTemplate;
+
+    List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    List<TokenRevocationService> nodes = new ArrayList<>();
+    TokenRevocationService nodeA;
+    TokenRevocationService nodeB;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void init() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+        nodeA = startNode();
+        nodeB = startNode();
+        // 구독이 활성화될 때까지 기다린다
+        String probe = "probe-" + System.nanoTime();
+        awaitTrue(() -> {
+            nodeA.revoke(probe, expiresIn(TTL_MILLIS));
+            return nodeB.isRevoked(probe);
+        });
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        for (TokenRevocationService node : nodes) {
+            node.shutdown();
+        }
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+    }
+
+    @Test
+    void revokeAndPropagateTest(){
+        // when
+        nodeA.revoke("jti-1", expiresIn(TTL_MILLIS));
+
+        // then
+        assertThat(nodeA.isRevoked("jti-1")).isTrue();
+        awaitTrue(() -> nodeB.isRevoked("jti-1"));
+        assertThat(nodeB.isRevoked("jti-2")).isFalse();
+        assertThat(redisTemplate.getExpire("revoked:jti-1")).isBetween(1L, TTL_MILLIS / 1000);
+    }
+
+    @Test
+    void revokeAllPropagateTest(){
+        // when
+        nodeA.revokeAll(Map.of("jti-1", expiresIn(TTL_MILLIS), "jti-2", expiresIn(TTL_MILLIS), "expired", expiresIn(-1_000)));
+
+        // then
+        awaitTrue(() -> nodeB.isRevoked("jti-1") && nodeB.isRevoked("jti-2"));
+        assertThat(nodeA.isRevoked("expired")).isFalse();
+        assertThat(redisTemplate.hasKey("revoked:expired")).isFalse();
+    }
+
+    @Test
+    void expiryTest() throws InterruptedException {
+        // given
+        nodeA.revoke("short", expiresIn(300));
+        nodeA.revoke("long", expiresIn(TTL_MILLIS));
+        awaitTrue(() -> nodeB.isRevoked("long"));
+        int before = nodeB.size();
+
+        // when
+        Thread.sleep(400);
+
+        // then: 조회 시 만료 처리되고, sweep 이 남은 만료 항목을 정리한다
+        assertThat(nodeA.isRevoked("short")).isFalse();
+        assertThat(nodeB.sweepExpired()).isEqualTo(1);
+        assertThat(nodeB.size()).isEqualTo(before - 1);
+        assertThat(nodeB.isRevoked("long")).isTrue();
+    }
+
+    @Test
+    void loadOnStartupTest(){
+        // given: MGET batch 크기(1000)를 넘는 폐기 목록
+        Map<String, Date> tokens = new HashMap<>();
+        for (int i = 0; i < 2_500; i++) {
+            tokens.put("jti-" + i, expiresIn(TTL_MILLIS));
+        }
+        nodeA.revokeAll(tokens);
+
+        // when
+        TokenRevocationService nodeC = startNode();
+
+        // then
+        assertThat(tokens.keySet()).allMatch(nodeC::isRevoked);
+    }
+
+    @Test
+    void revokedBeforeSubscriptionTest(){
+        // given: @PostConstruct 만 끝나고 container 는 아직 시작되지 않은 노드
+        RedisMessageListenerContainer container = newContainer();
+        TokenRevocationService nodeC = newNode(container);
+
+        // when: 구독이 활성화되기 전에 다른 노드에서 폐기
+        nodeA.revoke("jti-early", expiresIn(TTL_MILLIS));
+
+        // then: 적재 전에는 Redis 에서 직접 확인한다
+        assertThat(nodeC.isRevoked("jti-early")).isTrue();
+        assertThat(nodeC.isRevoked("jti-other")).isFalse();
+
+        // when: container 시작 후 적재, 이후 폐기는 pub/sub 으로 수신
+        container.start();
+        nodeC.onApplicationReady();
+        nodeA.revoke("jti-late", expiresIn(TTL_MILLIS));
+
+        // then
+        assertThat(nodeC.isRevoked("jti-early")).isTrue();
+        awaitTrue(() -> nodeC.isRevoked("jti-late"));
+    }
+
+    // Spring 기동 순서: @PostConstruct -> listener container 시작 -> ApplicationReadyEvent
+    private TokenRevocationService startNode() {
+        RedisMessageListenerContainer container = newContainer();
+        TokenRevocationService node = newNode(container);
+        container.start();
+        node.onApplicationReady();
+        return node;
+    }
+
+    private RedisMessageListenerContainer newContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        containers.add(container);
+        return container;
+    }
+
+    private TokenRevocationService newNode(RedisMessageListenerContainer container) {
+        TokenRevocationService node = new TokenRevocationService(new RedisUtils(redisTemplate), redisTemplate, container);
+        ReflectionTestUtils.setField(node, "sweepIntervalMillis", 60_000L);
+        node.init();
+        nodes.add(node);
+        return node;
+    }
+
+    private Date expiresIn(long millis) {
+        return new Date(System.currentTimeMillis() + millis);
+    }
+
+    private void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.gymory.unit.global.security.ratelimit;
+
+import com.gymory.global.security.ratelimit.RateLimitProperties;
+import com.gymory.global.security.ratelimit.RateLimitProperties.Endpoint;
+import com.gymory.global.security.ratelimit.RateLimitProperties.Limit;
+import com.gymory.global.security.ratelimit.RateLimiter;
+import com.gymory.global.security.ratelimit.RateLimiter.Dimension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+    private static final String IP = "10.0.0.1";
+
+    static RedisServer redisServer;
+    static LettuceConnectionFactory connectionFactory;
+    List<RateLimiter> nodes = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flushAll() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+    }
+
+    @AfterEach
+    void shutdown() {
+        nodes.forEach(RateLimiter::shutdown);
+    }
+
+    @Test
+    void localBucketTest(){
+        // given
+        RateLimiter rateLimiter = node(true);
+        Endpoint login = rateLimiter.getEndpoint(RateLimitProperties.LOGIN).orElseThrow();
+
+        // when
+        List<Long> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(rateLimiter.tryAcquire(login, Dimension.IP, IP, login.getIp()));
+        }
+
+        // then
+        assertThat(results.subList(0, 3)).containsOnly(0L);
+        assertThat(results.get(3)).isPositive();
+        assertThat(rateLimiter.tryAcquire(login, Dimension.IP, "10.0.0.2", login.getIp())).isZero();
+    }
+
+    @Test
+    void clusterSyncTest(){
+        // given
+        RateLimiter nodeA = node(true);
+        RateLimiter nodeB = node(true);
+        Endpoint login = nodeA.getEndpoint(RateLimitProperties.LOGIN).orElseThrow();
+        Limit email = login.getEmail();
+
+        // when: 각 노드가 로컬 capacity(5) 안에서 3 번씩 소비
+        for (int i = 0; i < 3; i++) {
+            assertThat(nodeA.tryAcquire(login, Dimension.EMAIL, "test@email.com", email)).isZero();
+            assertThat(nodeB.tryAcquire(login, Dimension.EMAIL, "test@email.com", email)).isZero();
+        }
+        nodeA.sync();
+        nodeB.sync();
+
+        // then: cluster 전체로는 6 번 소비되어 capacity(5) 를 넘었으므로 거절
+        assertThat(nodeB.tryAcquire(login, Dimension.EMAIL, "test@email.com", email)).isPositive();
+    }
+
+    @Test
+    void disabledTest(){
+        // given
+        RateLimiter rateLimiter = node(false);
+        Endpoint login = rateLimiter.getEndpoint(RateLimitProperties.LOGIN).orElseThrow();
+
+        // when, then
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimiter.tryAcquire(login, Dimension.IP, IP, login.getIp())).isZero();
+        }
+    }
+
+    private RateLimiter node(boolean enabled) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setEnabled(enabled);
+        properties.setSyncIntervalMillis(3_600_000L);
+        Endpoint login = properties.getEndpoints().get(RateLimitProperties.LOGIN);
+        login.setIp(new Limit(3, 0));
+        login.setEmail(new Limit(5, 0));
+
+        RateLimiter rateLimiter = new RateLimiter(connectionFactory, properties, new SimpleMeterRegistry());
+        rateLimiter.init();
+        nodes.add(rateLimiter);
+        return rateLimiter;
+    }
+}
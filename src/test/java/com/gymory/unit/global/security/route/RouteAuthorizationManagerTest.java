@@ -0,0 +1,72 @@
+package com.gymory.unit.global.security.route;
+
+import com.gymory.global.security.route.RouteAuthorizationManager;
+import com.gymory.global.security.route.RoutePolicy;
+import com.gymory.global.security.route.RouteRule;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteAuthorizationManagerTest {
+    private static final Authentication ADMIN = new UsernamePasswordAuthenticationToken(
+            "admin@email.com", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+    private static final Authentication MEMBER = new UsernamePasswordAuthenticationToken(
+            "member@email.com", null, AuthorityUtils.createAuthorityList("ROLE_MEMBER"));
+    private static final Authentication ANONYMOUS = new AnonymousAuthenticationToken(
+            "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+    RouteAuthorizationManager manager = new RouteAuthorizationManager(new RoutePolicy(List.of(
+            RouteRule.skipJwt("/auth/login"),
+            RouteRule.permitAll("/auth/**"),
+            RouteRule.hasAnyRole("/user/**", "ADMIN", "USER", "ANONYMOUS"),
+            RouteRule.hasAnyRole("/admin/**", "ADMIN"),
+            RouteRule.permitAll("/**")
+    )));
+
+    @Test
+    void roleRuleTest(){
+        // when, then
+        assertThat(isGranted(ADMIN, "/admin/users/3")).isTrue();
+        assertThat(isGranted(MEMBER, "/admin/users/3")).isFalse();
+        assertThat(isGranted(ANONYMOUS, "/admin")).isFalse();
+        assertThat(isGranted(ANONYMOUS, "/user/profile")).isTrue();
+        assertThat(isGranted(MEMBER, "/user/profile")).isFalse();
+    }
+
+    @Test
+    void permitAllRuleTest(){
+        // when, then: 구체적인 규칙이 우선하고, 나머지는 "/**" 로 허용
+        assertThat(isGranted(ANONYMOUS, "/auth/login")).isTrue();
+        assertThat(isGranted(ANONYMOUS, "/auth/logout")).isTrue();
+        assertThat(isGranted(MEMBER, "/administrator")).isTrue();
+        assertThat(isGranted(ANONYMOUS, "/gym/nearby")).isTrue();
+    }
+
+    @Test
+    void noMatchingRuleTest(){
+        // given
+        RouteAuthorizationManager adminOnly = new RouteAuthorizationManager(
+                new RoutePolicy(List.of(RouteRule.hasAnyRole("/admin/**", "ADMIN"))));
+
+        // when, then: 일치하는 규칙이 없으면 거부
+        assertThat(adminOnly.check(() -> ADMIN, context("/gym/nearby")).isGranted()).isFalse();
+    }
+
+    private boolean isGranted(Authentication authentication, String path) {
+        return manager.check(() -> authentication, context(path)).isGranted();
+    }
+
+    private RequestAuthorizationContext context(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return new RequestAuthorizationContext(request);
+    }
+}
@@ -0,0 +1,114 @@
+package com.gymory.unit.global.security.route;
+
+import com.gymory.global.security.route.RoutePolicy;
+import com.gymory.global.security.route.RouteRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoutePolicyTest {
+    private static final int ITERATIONS = 2_000_000;
+    private static final List<String> EXCLUDE_URL =
+            List.of("/", "/h2", "/members/signup", "/auth/login", "/auth/reissue");
+    private static final String[] PATHS =
+            {"/", "/auth/login", "/auth/reissue", "/member/1", "/gym/nearby", "/admin/users/3", "/test/hello"};
+
+    RoutePolicy routePolicy;
+
+    @BeforeEach
+    void init(){
+        routePolicy = new RoutePolicy(List.of(
+                RouteRule.skipJwt("/"),
+                RouteRule.skipJwt("/h2"),
+                RouteRule.skipJwt("/members/signup"),
+                RouteRule.skipJwt("/auth/login"),
+                RouteRule.skipJwt("/auth/reissue"),
+                RouteRule.permitAll("/auth/**"),
+                RouteRule.hasAnyRole("/user/**", "ADMIN", "USER", "ANONYMOUS"),
+                RouteRule.hasAnyRole("/admin/**", "ADMIN"),
+                RouteRule.permitAll("/**")
+        ));
+    }
+
+    @Test
+    void mostSpecificRuleTest(){
+        // when, then
+        assertThat(routePolicy.match("/auth/login").isSkipJwt()).isTrue();
+        assertThat(routePolicy.match("/auth/logout").getPattern()).isEqualTo("/auth/**");
+        assertThat(routePolicy.match("/admin").getRoles()).containsExactly("ADMIN");
+        assertThat(routePolicy.match("/admin/users/3").getRoles()).containsExactly("ADMIN");
+        assertThat(routePolicy.match("/administrator").getPattern()).isEqualTo("/**");
+        assertThat(routePolicy.match("/").isSkipJwt()).isTrue();
+        assertThat(routePolicy.match("/gym/nearby").isPermitAll()).isTrue();
+    }
+
+    @Test
+    void skipJwtTest(){
+        // when, then
+        assertThat(routePolicy.shouldSkipJwt("/auth/reissue")).isTrue();
+        assertThat(routePolicy.shouldSkipJwt("/auth/reissue/")).isTrue();
+        assertThat(routePolicy.shouldSkipJwt("/auth/logout")).isFalse();
+        assertThat(routePolicy.shouldSkipJwt("/h2/console")).isFalse();
+    }
+
+    @Test
+    void rulesOrderedMostSpecificFirstTest(){
+        // when
+        List<String> patterns = routePolicy.getRules().stream().map(RouteRule::getPattern).toList();
+
+        // then
+        assertThat(patterns.indexOf("/auth/login")).isLessThan(patterns.indexOf("/auth/**"));
+        assertThat(patterns.indexOf("/admin/**")).isLessThan(patterns.indexOf("/**"));
+        assertThat(patterns.get(patterns.size() - 1)).isEqualTo("/**");
+    }
+
+    @Test
+    void unsupportedPatternTest(){
+        // when, then
+        assertThatThrownBy(() -> RouteRule.permitAll("/member/*/fee"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RoutePolicy(List.of(RouteRule.permitAll("/a"), RouteRule.skipJwt("/a"))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    // 기존 stream + equalsIgnoreCase 방식과의 비교 (JIT warm-up 이후 측정)
+    @Tag("benchmark")
+    @Test
+    void benchmarkAgainstStreamExclusion(){
+        // given
+        int matched = 0;
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            matched += streamExclusion(PATHS[i % PATHS.length]) ? 1 : 0;
+            matched += routePolicy.shouldSkipJwt(PATHS[i % PATHS.length]) ? 1 : 0;
+        }
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            matched += streamExclusion(PATHS[i % PATHS.length]) ? 1 : 0;
+        }
+        long streamNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            matched += routePolicy.shouldSkipJwt(PATHS[i % PATHS.length]) ? 1 : 0;
+        }
+        long trieNanos = System.nanoTime() - start;
+
+        // then
+        System.out.printf("shouldNotFilter: stream=%.1f ns/op trie=%.1f ns/op (matched=%d)%n",
+                (double) streamNanos / ITERATIONS, (double) trieNanos / ITERATIONS, matched);
+        for (String path : PATHS) {
+            assertThat(routePolicy.shouldSkipJwt(path)).isEqualTo(streamExclusion(path));
+        }
+    }
+
+    private static boolean streamExclusion(String path) {
+        return EXCLUDE_URL.stream().anyMatch(exclude -> exclude.equalsIgnoreCase(path));
+    }
+}